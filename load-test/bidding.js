@@ -0,0 +1,54 @@
+// 입찰 API 부하 비교 (k6)
+// 같은 경매에 동시 입찰자를 늘려가며 기본 프로필과 reactive 프로필의 처리량, 지연 시간을 비교한다.
+//
+//   # 기본(blocking) 입찰
+//   SPRING_PROFILES_ACTIVE=<profile> ./gradlew bootRun
+//   k6 run -e BASE_URL=http://localhost:8080 -e AUCTION_UUID=<uuid> -e PRICE=<현재 라운드 가격> load-test/bidding.js
+//
+//   # non-blocking 입찰
+//   SPRING_PROFILES_ACTIVE=<profile>,reactive ./gradlew bootRun
+//   (같은 k6 명령)
+//
+// 비교 항목: http_req_duration p50/p99, http_reqs/s, 서버 스레드 수(jvm.threads.live)
+import http from 'k6/http';
+import { check } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const AUCTION_UUID = __ENV.AUCTION_UUID;
+const ROUND = Number(__ENV.ROUND || 1);
+const PRICE = Number(__ENV.PRICE || 1000);
+
+export const options = {
+    scenarios: {
+        bidders: {
+            executor: 'ramping-vus',
+            startVUs: 0,
+            stages: [
+                { duration: '30s', target: 200 },
+                { duration: '1m', target: 1000 },
+                { duration: '1m', target: 2000 },
+                { duration: '30s', target: 0 },
+            ],
+        },
+    },
+    thresholds: {
+        http_req_failed: ['rate<0.01'],
+        http_req_duration: ['p(99)<1000'],
+    },
+};
+
+export default function () {
+    const response = http.post(`${BASE_URL}/api/v1/auction/bidding`, JSON.stringify({
+        auctionUuid: AUCTION_UUID,
+        biddingPrice: PRICE,
+        round: ROUND,
+    }), {
+        headers: {
+            'Content-Type': 'application/json',
+            // 가상 사용자마다 다른 입찰자
+            uuid: `load-${__VU}-${__ITER}`,
+        },
+    });
+
+    check(response, { 'status is 200': (r) => r.status === 200 });
+}
@@ -0,0 +1,48 @@
+package com.skyhorsemanpower.auction.common;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+// 입찰 한 건에서 하는 금액 연산(입찰가 비교, 다음 라운드 가격 계산) 비교
+// ./gradlew jmh 로 실행, gc 프로파일러로 연산당 할당량(gc.alloc.rate.norm)을 함께 측정한다.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MoneyBenchmark {
+    private BigDecimal bigDecimalPrice;
+    private BigDecimal bigDecimalBid;
+    private BigDecimal bigDecimalIncrement;
+
+    private Money moneyPrice;
+    private Money moneyBid;
+    private Money moneyIncrement;
+
+    @Setup
+    public void setUp() {
+        // 요청 JSON과 Mongo에서 읽은 값처럼 서로 다른 인스턴스
+        bigDecimalPrice = new BigDecimal("1250000");
+        bigDecimalBid = new BigDecimal("1250000.00");
+        bigDecimalIncrement = new BigDecimal("50000");
+
+        moneyPrice = Money.of(bigDecimalPrice);
+        moneyBid = Money.of(bigDecimalBid);
+        moneyIncrement = Money.of(bigDecimalIncrement);
+    }
+
+    @Benchmark
+    public BigDecimal bigDecimal() {
+        if (bigDecimalBid.compareTo(bigDecimalPrice) != 0) return bigDecimalPrice;
+        return bigDecimalPrice.add(bigDecimalIncrement);
+    }
+
+    @Benchmark
+    public Money money() {
+        if (!moneyBid.equals(moneyPrice)) return moneyPrice;
+        return moneyPrice.plus(moneyIncrement);
+    }
+}
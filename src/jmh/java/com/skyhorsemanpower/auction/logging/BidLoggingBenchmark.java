@@ -0,0 +1,110 @@
+package com.skyhorsemanpower.auction.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.encoder.PatternLayoutEncoder;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.OutputStreamAppender;
+import com.skyhorsemanpower.auction.common.Money;
+import com.skyhorsemanpower.auction.data.dto.OfferBiddingPriceDto;
+import com.skyhorsemanpower.auction.domain.AuctionHistory;
+import com.skyhorsemanpower.auction.domain.RoundInfo;
+import com.skyhorsemanpower.auction.status.BiddingPathEnum;
+import org.openjdk.jmh.annotations.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+// 입찰 한 건의 로깅 비용 비교
+// verbose: 기존 offerBiddingPrice 검증 단계별 INFO 로그(toString, LocalDateTime.now() 포함)
+// summary: 단계별 로그는 DEBUG(비활성), BidEventLogger 요약 한 줄
+// ./gradlew jmh 로 실행, gc 프로파일러로 입찰당 할당량(gc.alloc.rate.norm)을 함께 측정한다.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BidLoggingBenchmark {
+    private static final Logger log = LoggerFactory.getLogger("com.skyhorsemanpower.auction.application.impl");
+
+    private final BidEventLogger bidEventLogger = new BidEventLogger();
+    private RoundInfo roundInfo;
+    private OfferBiddingPriceDto offerBiddingPriceDto;
+
+    @Setup
+    public void setUp() {
+        // 출력은 버리고 패턴 포맷팅 비용까지만 측정
+        LoggerContext loggerContext = (LoggerContext) LoggerFactory.getILoggerFactory();
+        loggerContext.reset();
+        PatternLayoutEncoder encoder = new PatternLayoutEncoder();
+        encoder.setContext(loggerContext);
+        encoder.setPattern("%d{yyyy-MM-dd HH:mm:ss.SSS} [%thread] %-5level %logger{36} - %msg%n");
+        encoder.start();
+        OutputStreamAppender<ILoggingEvent> appender = new OutputStreamAppender<>();
+        appender.setContext(loggerContext);
+        appender.setEncoder(encoder);
+        appender.setOutputStream(OutputStream.nullOutputStream());
+        appender.start();
+        ch.qos.logback.classic.Logger root = loggerContext.getLogger(org.slf4j.Logger.ROOT_LOGGER_NAME);
+        root.setLevel(Level.INFO);
+        root.addAppender(appender);
+
+        LocalDateTime now = LocalDateTime.now();
+        roundInfo = RoundInfo.builder()
+                .auctionUuid("auction-uuid")
+                .round(3)
+                .roundStartTime(now.minusSeconds(10))
+                .roundEndTime(now.plusSeconds(50))
+                .incrementUnit(Money.of(1000))
+                .price(Money.of(12000))
+                .isActive(true)
+                .numberOfParticipants(10)
+                .leftNumberOfParticipants(7)
+                .auctionEndTime(now.plusHours(2))
+                .isLastRound(false)
+                .endStatus(false)
+                .build();
+        offerBiddingPriceDto = OfferBiddingPriceDto.builder()
+                .auctionUuid("auction-uuid")
+                .biddingUuid("member-uuid")
+                .biddingPrice(Money.of(12000))
+                .round(3)
+                .build();
+    }
+
+    @Benchmark
+    public void verbose() {
+        log.info("leftNumberOfParticipants >>> {}", roundInfo.getLeftNumberOfParticipants());
+        log.info("!(leftNumberOfParticipants < 1L) >>> {}", !(roundInfo.getLeftNumberOfParticipants() < 1L));
+        log.info("input round >>> {}, document round >>> {}, input price >>> {}, document price >>> {}",
+                offerBiddingPriceDto.getRound(), roundInfo.getRound(),
+                offerBiddingPriceDto.getBiddingPrice(), roundInfo.getPrice());
+        log.info("inputRound == documentRound >>> {}", offerBiddingPriceDto.getRound() == roundInfo.getRound());
+        log.info("inputPrice.compareTo(documentPrice) == 0 >>> {}",
+                offerBiddingPriceDto.getBiddingPrice().compareTo(roundInfo.getPrice()) == 0);
+        log.info("roundStartTime >>> {}, now >>> {}, roundEndTime >>> {}",
+                roundInfo.getRoundStartTime(), LocalDateTime.now(), roundInfo.getRoundEndTime());
+        log.info("roundStartTime.isBefore(LocalDateTime.now()) >>> {}, roundEndTime.isAfter(LocalDateTime.now()) >>> {}",
+                roundInfo.getRoundStartTime().isBefore(LocalDateTime.now()),
+                roundInfo.getRoundEndTime().isAfter(LocalDateTime.now()));
+        log.info("Saved Auction History Information >>> {}", AuctionHistory.converter(offerBiddingPriceDto).toString());
+        log.info("Updated round_info Document >>> {}", RoundInfo.currentRoundUpdate(roundInfo,
+                offerBiddingPriceDto.getBiddingUuid()).toString());
+        log.info("isBidding >>> {}", true);
+    }
+
+    @Benchmark
+    public void summary() {
+        long startedAt = System.nanoTime();
+        LocalDateTime now = LocalDateTime.now();
+        log.debug("Bidding check >>> now: {}, input round: {}, input price: {}, round_info: {}",
+                now, offerBiddingPriceDto.getRound(), offerBiddingPriceDto.getBiddingPrice(), roundInfo);
+        log.debug("Saved Auction History Information >>> {}", offerBiddingPriceDto);
+        log.debug("Updated round_info Document >>> {}", roundInfo);
+        bidEventLogger.accepted(offerBiddingPriceDto, BiddingPathEnum.APPEND, startedAt);
+    }
+}
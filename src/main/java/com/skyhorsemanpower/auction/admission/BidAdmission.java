@@ -0,0 +1,231 @@
+package com.skyhorsemanpower.auction.admission;
+
+import com.skyhorsemanpower.auction.common.exception.CustomException;
+import com.skyhorsemanpower.auction.common.exception.ResponseStatus;
+import com.skyhorsemanpower.auction.common.exception.RetryableException;
+import com.skyhorsemanpower.auction.data.dto.OfferBiddingPriceDto;
+import com.skyhorsemanpower.auction.domain.RoundInfo;
+import com.skyhorsemanpower.auction.round.RoundInfoStore;
+import com.skyhorsemanpower.auction.round.data.RoundInfoChangedEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+// 입찰 서비스 앞단의 경매별 입장 제어
+// 1. 캐시된 라운드 정보로 성사될 수 없는 입찰(마감, 지난 라운드, 입찰 시간 외, 인원 마감, 가격 불일치)을 바로 거절
+// 2. 경매별 토큰 버킷으로 처리량을 제한하고, 대기열을 넘는 요청은 Retry-After와 함께 429 응답
+//
+// 같은 라운드 안에서 시간과 가격은 바뀌지 않고, 남은 인원은 입찰 이력 저장에 실패한 자리를 되돌릴 때(RoundInfoStore.returnSlot)만 늘어난다.
+// 인원이 마감된(0) 라운드에는 자리를 되돌리지 않으므로, 캐시가 늦더라도 같은 라운드 기준으로 거절한 입찰은 실제로도 성사될 수 없다.
+// 캐시보다 뒤 라운드의 입찰은 통과시키고, refresh-ms 간격으로 현재 라운드 정보를 다시 읽는다.
+// 마감된 경매는 캐시와 토큰 버킷에서 제거하고, 마감 뒤 들어온 입찰은 입찰 서비스에서 거절한다.
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BidAdmission {
+    private final RoundInfoStore roundInfoStore;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${auction.admission.enabled:false}")
+    private boolean enabled;
+
+    @Value("${auction.admission.permits-per-second:500}")
+    private double permitsPerSecond;
+
+    @Value("${auction.admission.burst:100}")
+    private int burst;
+
+    @Value("${auction.admission.queue-size:500}")
+    private int queueSize;
+
+    @Value("${auction.admission.refresh-ms:200}")
+    private long refreshMs;
+
+    @Value("${auction.admission.load-timeout-ms:500}")
+    private long loadTimeoutMs;
+
+    private final Map<String, CachedRound> rounds = new ConcurrentHashMap<>();
+    private final Map<String, CompletableFuture<RoundInfo>> loadings = new ConcurrentHashMap<>();
+    private final Map<String, TokenBucket> buckets = new ConcurrentHashMap<>();
+
+    private Counter hopelessRejections;
+    private Counter throttledRejections;
+
+    @PostConstruct
+    public void init() {
+        hopelessRejections = Counter.builder("auction.admission.rejected")
+                .tag("reason", "round_closed")
+                .description("성사될 수 없어 바로 거절한 입찰 수")
+                .register(meterRegistry);
+        throttledRejections = Counter.builder("auction.admission.rejected")
+                .tag("reason", "throttled")
+                .description("처리량 초과로 거절한 입찰 수")
+                .register(meterRegistry);
+    }
+
+    // 요청 스레드에서 입장 확인, 토큰을 기다려야 하면 요청 스레드가 대기한다.
+    // 성사될 수 없는 입찰이면 false, 처리량을 넘으면 RetryableException
+    public boolean acquire(OfferBiddingPriceDto offerBiddingPriceDto) {
+        if (!enabled) return true;
+
+        String auctionUuid = offerBiddingPriceDto.getAuctionUuid();
+        if (needsRefresh(offerBiddingPriceDto)) {
+            try {
+                refresh(auctionUuid).get(loadTimeoutMs, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new CustomException(ResponseStatus.INTERNAL_SERVER_ERROR);
+            } catch (Exception e) {
+                // 조회에 실패하면 입찰 서비스에서 판단하도록 통과
+                log.warn("Admission round load failed >>> {}", e.getMessage());
+            }
+        }
+
+        long wait = admit(offerBiddingPriceDto);
+        if (wait < 0) return false;
+        if (wait > 0) {
+            try {
+                TimeUnit.NANOSECONDS.sleep(wait);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new CustomException(ResponseStatus.INTERNAL_SERVER_ERROR);
+            }
+        }
+        return true;
+    }
+
+    // acquire와 같은 판단을 스레드를 점유하지 않고 수행
+    public Mono<Boolean> acquireReactive(OfferBiddingPriceDto offerBiddingPriceDto) {
+        if (!enabled) return Mono.just(true);
+
+        Mono<RoundInfo> refreshed = needsRefresh(offerBiddingPriceDto)
+                // 취소가 공유 중인 조회로 전파되지 않도록 사본을 기다린다.
+                ? Mono.fromFuture(refresh(offerBiddingPriceDto.getAuctionUuid()).copy())
+                        .timeout(Duration.ofMillis(loadTimeoutMs))
+                        .onErrorResume(e -> {
+                            log.warn("Admission round load failed >>> {}", e.getMessage());
+                            return Mono.empty();
+                        })
+                : Mono.empty();
+
+        return refreshed
+                .then(Mono.fromCallable(() -> admit(offerBiddingPriceDto)))
+                .flatMap(wait -> {
+                    if (wait < 0) return Mono.just(false);
+                    if (wait == 0) return Mono.just(true);
+                    return Mono.delay(Duration.ofNanos(wait)).thenReturn(true);
+                });
+    }
+
+    // 저장된 라운드 정보로 캐시 갱신
+    @EventListener
+    public void onRoundInfoChanged(RoundInfoChangedEvent event) {
+        if (!enabled) return;
+
+        RoundInfo roundInfo = event.getRoundInfo();
+        if (Boolean.TRUE.equals(roundInfo.getEndStatus())) {
+            evict(roundInfo.getAuctionUuid());
+            return;
+        }
+        cache(roundInfo);
+    }
+
+    // 마감된 경매의 라운드 정보와 토큰 버킷 제거
+    public void evict(String auctionUuid) {
+        rounds.remove(auctionUuid);
+        loadings.remove(auctionUuid);
+        buckets.remove(auctionUuid);
+    }
+
+    // 성사될 수 없으면 -1, 아니면 토큰을 기다릴 시간(ns)
+    private long admit(OfferBiddingPriceDto offerBiddingPriceDto) {
+        if (isHopeless(offerBiddingPriceDto)) {
+            hopelessRejections.increment();
+            return -1;
+        }
+
+        long wait = buckets.computeIfAbsent(offerBiddingPriceDto.getAuctionUuid(),
+                        key -> new TokenBucket(permitsPerSecond, burst, queueSize))
+                .reserve(System.nanoTime());
+        if (wait < 0) {
+            throttledRejections.increment();
+            long retryAfterSeconds = Math.max(1, (long) Math.ceil(-wait / 1_000_000_000.0));
+            throw new RetryableException(ResponseStatus.TOO_MANY_BIDS, retryAfterSeconds);
+        }
+        return wait;
+    }
+
+    private boolean isHopeless(OfferBiddingPriceDto offerBiddingPriceDto) {
+        CachedRound cachedRound = rounds.get(offerBiddingPriceDto.getAuctionUuid());
+        if (cachedRound == null) return false;
+
+        RoundInfo roundInfo = cachedRound.roundInfo;
+        if (Boolean.TRUE.equals(roundInfo.getEndStatus())) return true;
+        // 캐시가 아직 다음 라운드를 모르는 경우
+        if (offerBiddingPriceDto.getRound() > roundInfo.getRound()) return false;
+        return !roundInfo.canAccept(offerBiddingPriceDto, LocalDateTime.now());
+    }
+
+    private boolean needsRefresh(OfferBiddingPriceDto offerBiddingPriceDto) {
+        CachedRound cachedRound = rounds.get(offerBiddingPriceDto.getAuctionUuid());
+        if (cachedRound == null) return true;
+        return offerBiddingPriceDto.getRound() > cachedRound.roundInfo.getRound() &&
+                System.nanoTime() - cachedRound.checkedAt > TimeUnit.MILLISECONDS.toNanos(refreshMs);
+    }
+
+    // 같은 경매에 대한 동시 조회는 하나로 합친다.
+    private CompletableFuture<RoundInfo> refresh(String auctionUuid) {
+        CompletableFuture<RoundInfo> future = new CompletableFuture<>();
+        CompletableFuture<RoundInfo> loading = loadings.putIfAbsent(auctionUuid, future);
+        if (loading != null) return loading;
+
+        roundInfoStore.findCurrentReactive(auctionUuid).toFuture().whenComplete((roundInfo, error) -> {
+            // 마감된 경매는 캐시에 남기지 않는다.
+            if (roundInfo != null && !Boolean.TRUE.equals(roundInfo.getEndStatus())) cache(roundInfo);
+            loadings.remove(auctionUuid, future);
+            if (error != null) {
+                future.completeExceptionally(error);
+            } else {
+                future.complete(roundInfo);
+            }
+        });
+        return future;
+    }
+
+    private void cache(RoundInfo roundInfo) {
+        CachedRound loaded = new CachedRound(roundInfo, System.nanoTime());
+        rounds.merge(roundInfo.getAuctionUuid(), loaded,
+                (current, next) -> isNewer(next.roundInfo, current.roundInfo)
+                        ? next
+                        : new CachedRound(current.roundInfo, next.checkedAt));
+    }
+
+    private static boolean isNewer(RoundInfo next, RoundInfo current) {
+        if (!next.getRound().equals(current.getRound())) return next.getRound() > current.getRound();
+        return !next.getCreatedAt().isBefore(current.getCreatedAt());
+    }
+
+    private static class CachedRound {
+        private final RoundInfo roundInfo;
+        // 마지막으로 DB 또는 이벤트로 확인한 시각
+        private final long checkedAt;
+
+        private CachedRound(RoundInfo roundInfo, long checkedAt) {
+            this.roundInfo = roundInfo;
+            this.checkedAt = checkedAt;
+        }
+    }
+}
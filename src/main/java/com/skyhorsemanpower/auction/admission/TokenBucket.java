@@ -0,0 +1,29 @@
+package com.skyhorsemanpower.auction.admission;
+
+import java.util.concurrent.TimeUnit;
+
+// GCRA 방식 토큰 버킷
+// 다음 토큰이 생기는 이론상 시각(theoreticalArrival)만 유지하고, 토큰이 없으면 대기 시간을 예약한다.
+class TokenBucket {
+    private final long intervalNanos;
+    private final long toleranceNanos;
+    private final long maxWaitNanos;
+    private long theoreticalArrival = Long.MIN_VALUE;
+
+    // burst: 대기 없이 연속으로 허용하는 요청 수, queueSize: 토큰을 기다릴 수 있는 요청 수
+    TokenBucket(double permitsPerSecond, int burst, int queueSize) {
+        this.intervalNanos = (long) (TimeUnit.SECONDS.toNanos(1) / permitsPerSecond);
+        this.toleranceNanos = intervalNanos * Math.max(burst - 1, 0);
+        this.maxWaitNanos = intervalNanos * queueSize;
+    }
+
+    // 예약되면 처리 전에 기다려야 하는 시간(ns, 0 이상)을 반환한다.
+    // 대기열이 가득 차면 예약하지 않고, 대기열에 자리가 날 때까지의 시간을 음수로 반환한다.
+    synchronized long reserve(long now) {
+        long arrival = Math.max(theoreticalArrival, now);
+        long wait = Math.max(arrival - toleranceNanos - now, 0);
+        if (wait > maxWaitNanos) return -(wait - maxWaitNanos);
+        theoreticalArrival = arrival + intervalNanos;
+        return wait;
+    }
+}
@@ -10,5 +10,7 @@ public interface AuctionService {
 
     void auctionStateChangeTrue(String auctionUuid);
 
+    boolean roundStart(String auctionUuid, int round);
+
     AuctionResultResponseVo auctionResult(String uuid, String auctionUuid);
 }
@@ -0,0 +1,9 @@
+package com.skyhorsemanpower.auction.application;
+
+import com.skyhorsemanpower.auction.data.dto.OfferBiddingPriceDto;
+import reactor.core.publisher.Mono;
+
+// reactive 프로필에서 사용하는 입찰 서비스
+public interface ReactiveAuctionService {
+    Mono<Boolean> offerBiddingPrice(OfferBiddingPriceDto offerBiddingPriceDto);
+}
@@ -1,54 +1,75 @@
 package com.skyhorsemanpower.auction.application.impl;
 
 import com.skyhorsemanpower.auction.application.AuctionService;
+import com.skyhorsemanpower.auction.close.AuctionCloseProcessor;
 import com.skyhorsemanpower.auction.common.exception.CustomException;
 import com.skyhorsemanpower.auction.data.vo.AuctionResultResponseVo;
 import com.skyhorsemanpower.auction.domain.*;
-import com.skyhorsemanpower.auction.kafka.KafkaProducerCluster;
-import com.skyhorsemanpower.auction.kafka.Topics;
-import com.skyhorsemanpower.auction.kafka.data.MessageEnum;
-import com.skyhorsemanpower.auction.kafka.data.dto.AlarmDto;
-import com.skyhorsemanpower.auction.kafka.data.dto.AuctionCloseDto;
-import com.skyhorsemanpower.auction.quartz.data.MemberUuidsAndPrice;
+import com.skyhorsemanpower.auction.history.AuctionHistoryBatchWriter;
+import com.skyhorsemanpower.auction.logging.BidEventLogger;
 import com.skyhorsemanpower.auction.repository.*;
+import com.skyhorsemanpower.auction.round.RoundInfoStore;
+import com.skyhorsemanpower.auction.round.RoundStateEngine;
 import com.skyhorsemanpower.auction.common.exception.ResponseStatus;
 import com.skyhorsemanpower.auction.data.dto.*;
-import com.skyhorsemanpower.auction.status.AuctionStateEnum;
-import com.skyhorsemanpower.auction.status.NextRoundStateEnum;
+import com.skyhorsemanpower.auction.status.BiddingPathEnum;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.math.BigDecimal;
 import java.time.LocalDateTime;
-import java.util.HashSet;
-import java.util.List;
 import java.util.Optional;
-import java.util.Set;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class AuctionServiceImpl implements AuctionService {
 
-    private final AuctionHistoryRepository auctionHistoryRepository;
-    private final RoundInfoRepository roundInfoRepository;
-    private final KafkaProducerCluster producer;
+    private final RoundInfoStore roundInfoStore;
     private final AuctionResultRepository auctionResultRepository;
-    private final AuctionUniqueRepository auctionUniqueRepository;
+    private final RoundStateEngine roundStateEngine;
+    private final AuctionHistoryBatchWriter auctionHistoryBatchWriter;
+    private final BiddingSupport biddingSupport;
+    private final BidEventLogger bidEventLogger;
+    private final AuctionCloseProcessor auctionCloseProcessor;
 
     @Override
     @Transactional
     public Boolean offerBiddingPrice(OfferBiddingPriceDto offerBiddingPriceDto) {
+        long startedAt = System.nanoTime();
+        BiddingPathEnum path = BiddingPathEnum.of(roundStateEngine.isEnabled(), roundInfoStore.isCurrentStateMode());
 
+        Boolean isBidding;
+        try {
+            isBidding = switch (path) {
+                // 라운드 상태 엔진이 켜져 있으면 메모리에서 검증 후 반영
+                case ENGINE -> offerBiddingPriceWithEngine(offerBiddingPriceDto);
+                // round_state 단일 도큐먼트를 조건부로 갱신
+                case CURRENT_STATE -> offerBiddingPriceWithCurrentState(offerBiddingPriceDto);
+                case APPEND -> offerBiddingPriceWithAppend(offerBiddingPriceDto);
+            };
+        } catch (RuntimeException e) {
+            bidEventLogger.failed(offerBiddingPriceDto, path, startedAt, e);
+            throw e;
+        }
+
+        // 입찰 한 건당 요약 로그 하나
+        if (isBidding) {
+            bidEventLogger.accepted(offerBiddingPriceDto, path, startedAt);
+        } else {
+            bidEventLogger.rejected(offerBiddingPriceDto, path, startedAt);
+        }
+        return isBidding;
+    }
+
+    private Boolean offerBiddingPriceWithAppend(OfferBiddingPriceDto offerBiddingPriceDto) {
         // 현재 경매의 라운드 정보 추출
-        RoundInfo roundInfo = roundInfoRepository.
-                findFirstByAuctionUuidOrderByCreatedAtDesc(offerBiddingPriceDto.getAuctionUuid()).orElseThrow(
+        RoundInfo roundInfo = roundInfoStore.findCurrent(offerBiddingPriceDto.getAuctionUuid()).orElseThrow(
                         () -> new CustomException(ResponseStatus.NO_DATA));
 
         // 입찰 가능 확인
-        // 입찰이 안되면 아래 메서드 내에서 예외를 던진다.
         // isUpdateRoundInfo boolean 데이터는 round_info 도큐먼트를 갱신 트리거
         Boolean isBiddingPossible = isBiddingPossible(offerBiddingPriceDto, roundInfo);
 
@@ -56,191 +77,138 @@ public class AuctionServiceImpl implements AuctionService {
         if (isBiddingPossible) {
             // 입찰 정보 저장
             AuctionHistory auctionHistory = AuctionHistory.converter(offerBiddingPriceDto);
-            log.info("Saved Auction History Information >>> {}", auctionHistory.toString());
+            log.debug("Saved Auction History Information >>> {}", auctionHistory);
 
             try {
-                auctionHistoryRepository.save(auctionHistory);
+                auctionHistoryBatchWriter.save(auctionHistory);
+            } catch (DuplicateKeyException e) {
+                // 다른 요청이 먼저 같은 라운드에 입찰한 경우
+                log.debug("Already bid in round >>> {}", offerBiddingPriceDto.getBiddingUuid());
+                return false;
             } catch (Exception e) {
+                biddingSupport.release(offerBiddingPriceDto);
                 throw new CustomException(ResponseStatus.MONGODB_ERROR);
             }
 
             // 입찰 후, round_info 도큐먼트 갱신
-            updateRoundInfo(roundInfo);
+            // 같은 상태를 읽은 다른 입찰이 먼저 갱신했으면(sequence 중복) 경합에서 진 입찰이므로 이력을 되돌리고 거절
+            RoundInfo updatedRoundInfo = RoundInfo.acceptBid(roundInfo, offerBiddingPriceDto.getBiddingUuid());
+            log.debug("Updated round_info Document >>> {}", updatedRoundInfo);
+            try {
+                roundInfoStore.save(updatedRoundInfo);
+            } catch (DuplicateKeyException e) {
+                log.debug("round_info changed concurrently, bid discarded >>> {}",
+                        offerBiddingPriceDto.getBiddingUuid());
+                biddingSupport.discardBid(offerBiddingPriceDto);
+                return false;
+            } catch (Exception e) {
+                biddingSupport.discardBid(offerBiddingPriceDto);
+                throw new CustomException(ResponseStatus.MONGODB_ERROR);
+            }
         }
 
-        log.info("isBidding >>> {}", isBiddingPossible);
         return isBiddingPossible;
     }
 
-    @Override
-    public void auctionClose(String auctionUuid) {
-        try{
-            // 저장에 성공하면 마감이 진행되지 않았다는 의미, 바로 마감 진행
-             AuctionUnique auctionUnique = auctionUniqueRepository.save(AuctionUnique.builder().auctionUuid(auctionUuid).build());
-            log.info("Auction Close Start!");
-        } catch (Exception e) {
-            log.info("Auction Already Close!");
-            return;
-        }
-
-        // auction_history 도큐먼트를 조회하여 경매 상태를 변경
-        if (auctionHistoryRepository.findFirstByAuctionUuidOrderByBiddingTimeDesc(auctionUuid).isEmpty()) {
-            log.info("auction_history is not exist! No one bid the auction!");
-
-            // 아무도 참여하지 않은 경우에는 auctionUuid와 auctionState(AUCTION_NO_PARTICIPANTS) 전송
-            AuctionCloseDto noParticipantsAuctionCloseDto = AuctionCloseDto.builder()
-                    .auctionUuid(auctionUuid)
-                    .auctionState(AuctionStateEnum.AUCTION_NO_PARTICIPANTS)
-                    .build();
-            log.info("No one bid the auction message >>> {}", noParticipantsAuctionCloseDto.toString());
-            producer.sendMessage(Topics.Constant.AUCTION_CLOSE, noParticipantsAuctionCloseDto);
-
-            return;
+    private Boolean offerBiddingPriceWithEngine(OfferBiddingPriceDto offerBiddingPriceDto) {
+        // 조건 확인, 라운드 입찰자 선점은 경매 mailbox에서 순서대로 처리하고, DB 저장이 끝나면 결과를 받는다.
+        try {
+            return roundStateEngine.await(roundStateEngine.offer(offerBiddingPriceDto, biddingSupport::claim,
+                    biddingSupport::recordEngineBid, biddingSupport::discardBid)).isAccepted();
+        } catch (CustomException e) {
+            if (BiddingSupport.isAlreadyBid(e)) return false;
+            throw e;
         }
-
-        log.info("auction_history is exist!");
-
-        // 경매 마감 로직
-        // 마지막 라운드 수, 낙찰 가능 인원 수 조회
-        RoundInfo lastRoundInfo = roundInfoRepository.findFirstByAuctionUuidOrderByCreatedAtDesc(auctionUuid)
-                .orElseThrow(() -> new CustomException(ResponseStatus.NO_DATA)
-                );
-        log.info("Last Round Info >>> {}", lastRoundInfo.toString());
-
-        int round = lastRoundInfo.getRound();
-        long numberOfParticipants = lastRoundInfo.getNumberOfParticipants();
-
-        // 마감 로직
-        MemberUuidsAndPrice memberUuidsAndPrice = getMemberUuidsAndPrice(
-                round, auctionUuid, numberOfParticipants);
-
-        // 낙찰가와 낙찰자 획득
-        Set<String> memberUuids = memberUuidsAndPrice.getMemberUuids();
-        BigDecimal price = memberUuidsAndPrice.getPrice();
-
-        // 카프카로 경매 서비스 메시지 전달
-        AuctionCloseDto auctionCloseDto = AuctionCloseDto.builder()
-                .auctionUuid(auctionUuid)
-                .memberUuids(memberUuids.stream().toList())
-                .price(price)
-                .auctionState(AuctionStateEnum.AUCTION_NORMAL_CLOSING)
-                .build();
-        log.info("Kafka Message To Payment Service >>> {}", auctionCloseDto.toString());
-
-        // 경매글 마감 처리 메시지와 결제 서비스 메시지 동일 토픽으로 진행
-        producer.sendMessage(Topics.Constant.AUCTION_CLOSE, auctionCloseDto);
-
-        // 알람 서비스로 메시지 전달
-        AlarmDto alarmDto = AlarmDto.builder().receiverUuids(memberUuids.stream().toList())
-                .message(MessageEnum.Constant.AUCTION_CLOSE_MESSAGE)
-                .eventType("경매")
-                .uuid(auctionUuid)
-                .build();
-        log.info("Auction Close Message To Alarm Service >>> {}", alarmDto.toString());
-
-        producer.sendMessage(Topics.Constant.ALARM, alarmDto);
-
-        // 경매 결과 저장
-        auctionResultRepository.save(AuctionResult.builder()
-                .auctionUuid(auctionUuid)
-                .memberUuids(memberUuids.stream().toList())
-                .price(price)
-                .build());
-        log.info("Auction Result Save!");
-
-        // round_info 마감됐음을 endStatus에 저장
-        RoundInfo currenctRoundInfo = roundInfoRepository.
-                findFirstByAuctionUuidOrderByCreatedAtDesc(auctionUuid).orElseThrow(
-                        () -> new CustomException(ResponseStatus.NO_DATA)
-                );
-
-        roundInfoRepository.save(RoundInfo.builder()
-                        .auctionUuid(auctionUuid)
-                        .round(currenctRoundInfo.getRound())
-                        .roundStartTime(currenctRoundInfo.getRoundStartTime())
-                        .roundEndTime(currenctRoundInfo.getRoundEndTime())
-                        .incrementUnit(currenctRoundInfo.getIncrementUnit())
-                        .price(currenctRoundInfo.getPrice())
-                        .isActive(true)
-                        .numberOfParticipants(currenctRoundInfo.getNumberOfParticipants())
-                        .leftNumberOfParticipants(currenctRoundInfo.getLeftNumberOfParticipants())
-                        .createdAt(LocalDateTime.now())
-                        .auctionEndTime(currenctRoundInfo.getAuctionEndTime())
-                        .isLastRound(currenctRoundInfo.getIsLastRound())
-                        .endStatus(true)
-                .build());
     }
 
-    private MemberUuidsAndPrice getMemberUuidsAndPrice(int round, String auctionUuid, long numberOfParticipants) {
-        Set<String> memberUuids = new HashSet<>();
-        BigDecimal price;
-
-        // 마지막 라운드 입찰 이력
-        List<AuctionHistory> lastRoundAuctionHistory = auctionHistoryRepository.
-                findByAuctionUuidAndRoundOrderByBiddingTime(auctionUuid, round);
-        log.info("Last Round Auction History >>> {}", lastRoundAuctionHistory.toString());
-
-        // 1라운드에서 경매가 마감된 경우
-        if (round == 1) {
-            log.info("One Round Close");
-            // 마지막 라운드 입찰자를 낙찰자로 고정
-            for (AuctionHistory auctionHistory : lastRoundAuctionHistory) {
-                memberUuids.add(auctionHistory.getBiddingUuid());
-            }
-
-            log.info("memberUuids >>> {}", memberUuids.toString());
-
-            // 낙찰가는 마지막 라운드에서 biddingPrice로 결정
-            price = lastRoundAuctionHistory.get(0).getBiddingPrice();
-            log.info("price >>> {}", price);
+    private Boolean offerBiddingPriceWithCurrentState(OfferBiddingPriceDto offerBiddingPriceDto) {
+        // 조건2. 해당 라운드에 참여 여부
+        if (!biddingSupport.claim(offerBiddingPriceDto)) {
+            return false;
         }
 
-        // 1라운드 제외한 라운드에서 경매가 마감된 경우
-        else {
-            log.info("{} Round Close", round);
-
-            // 마지막 - 1 라운드 입찰 이력
-            List<AuctionHistory> lastMinusOneRoundAuctionHistory = auctionHistoryRepository.
-                    findByAuctionUuidAndRoundOrderByBiddingTime(auctionUuid, round - 1);
-            log.info("Before Last Round Auction History >>> {}", lastMinusOneRoundAuctionHistory.toString());
-
-            // 마지막 라운드 입찰자를 낙찰자로 고정
-            for (AuctionHistory auctionHistory : lastRoundAuctionHistory) {
-                memberUuids.add(auctionHistory.getBiddingUuid());
-            }
-
-            // 마지막 직전 라운드 입찰자 중 낙찰자 추가
-            for (AuctionHistory auctionHistory : lastMinusOneRoundAuctionHistory) {
-                // 동일 입찰자 제외하고 추가
-                memberUuids.add(auctionHistory.getBiddingUuid());
-
-                // 낙찰 가능 인원 수 만큼 리스트 추가
-                if (memberUuids.size() == numberOfParticipants) break;
-            }
-
-            log.info("memberUuids >>> {}", memberUuids.toString());
+        // 나머지 조건은 findAndModify 조건으로 확인하면서 남은 인원을 차감
+        Optional<RoundInfo> updatedRoundInfo;
+        try {
+            updatedRoundInfo = roundInfoStore.consumeSlot(offerBiddingPriceDto);
+        } catch (Exception e) {
+            biddingSupport.release(offerBiddingPriceDto);
+            throw new CustomException(ResponseStatus.MONGODB_ERROR);
+        }
+        if (updatedRoundInfo.isEmpty()) {
+            biddingSupport.release(offerBiddingPriceDto);
+            return false;
+        }
 
-            // 낙찰가는 마지막 이전 라운드에서 biddingPrice로 결정
-            price = lastMinusOneRoundAuctionHistory.get(0).getBiddingPrice();
-            log.info("price >>> {}", price);
+        // 입찰 이력을 저장하지 못하면 차지한 자리를 되돌린다.
+        try {
+            auctionHistoryBatchWriter.save(AuctionHistory.converter(offerBiddingPriceDto));
+        } catch (DuplicateKeyException e) {
+            log.warn("Already bid in round after slot consumed >>> {}", offerBiddingPriceDto.getBiddingUuid());
+            biddingSupport.returnSlot(offerBiddingPriceDto);
+            return false;
+        } catch (Exception e) {
+            biddingSupport.returnSlot(offerBiddingPriceDto);
+            biddingSupport.release(offerBiddingPriceDto);
+            throw new CustomException(ResponseStatus.MONGODB_ERROR);
         }
+        return true;
+    }
 
-        return MemberUuidsAndPrice.builder().memberUuids(memberUuids).price(price).build();
+    @Override
+    public void auctionClose(String auctionUuid) {
+        auctionCloseProcessor.close(auctionUuid);
     }
 
     @Override
     public void auctionStateChangeTrue(String auctionUuid) {
-        RoundInfo roundInfo = roundInfoRepository.findFirstByAuctionUuidOrderByCreatedAtDesc(auctionUuid).orElseThrow(
+        if (roundStateEngine.isEnabled()) {
+            RoundInfo standbyAuction = roundStateEngine.await(
+                    roundStateEngine.update(auctionUuid, RoundInfo::setIsActiveTrue));
+            log.info("Auction Change isActive >>> {}", standbyAuction);
+            return;
+        }
+
+        RoundInfo roundInfo = roundInfoStore.findCurrent(auctionUuid).orElseThrow(
                 () -> new CustomException(ResponseStatus.NO_DATA)
         );
 
         try {
             RoundInfo standbyAuction = RoundInfo.setIsActiveTrue(roundInfo);
-            log.info("Auction Change isActive >>> {}", standbyAuction.toString());
-            roundInfoRepository.save(standbyAuction);
+            log.info("Auction Change isActive >>> {}", standbyAuction);
+            roundInfoStore.save(standbyAuction);
+        } catch (DuplicateKeyException e) {
+            // APPEND 모드에서 같은 상태를 다른 요청이 먼저 바꾼 경우, 전환은 roundStart(서버 전환)가 맡는다.
+            log.info("round_info changed concurrently, isActive not changed >>> {}", auctionUuid);
+        } catch (Exception e) {
+            throw new CustomException(ResponseStatus.MONGODB_ERROR);
+        }
+    }
+
+    // 대기 시간이 끝난 round만 진행 중으로 전환, 이미 전환됐거나 다음 라운드로 넘어갔으면 false
+    @Override
+    public boolean roundStart(String auctionUuid, int round) {
+        if (roundStateEngine.isEnabled()) {
+            boolean[] activated = new boolean[1];
+            RoundInfo standbyAuction = roundStateEngine.await(roundStateEngine.update(auctionUuid, roundInfo -> {
+                if (!roundInfo.isStandbyOf(round)) return roundInfo;
+                activated[0] = true;
+                return RoundInfo.setIsActiveTrue(roundInfo);
+            }));
+            if (!activated[0]) return false;
+
+            log.info("Auction Round Start >>> {}", standbyAuction);
+            return true;
+        }
+
+        Optional<RoundInfo> standbyAuction;
+        try {
+            standbyAuction = roundInfoStore.activate(auctionUuid, round);
         } catch (Exception e) {
             throw new CustomException(ResponseStatus.MONGODB_ERROR);
         }
+        standbyAuction.ifPresent(roundInfo -> log.info("Auction Round Start >>> {}", roundInfo));
+        return standbyAuction.isPresent();
     }
 
     @Override
@@ -255,82 +223,23 @@ public class AuctionServiceImpl implements AuctionService {
         }
 
         // 낙찰자에 포함된 경우
-        log.info("Auction Result >>> {}", auctionResult.toString());
+        log.debug("Auction Result >>> {}", auctionResult);
         return AuctionResultResponseVo.builder()
                 .isBidder(true)
                 .price(auctionResult.get().getPrice())
                 .build();
     }
 
-    private void updateRoundInfo(RoundInfo roundInfo) {
-        RoundInfo updatedRoundInfo;
-
-        // 다음 라운드로 round_info 도큐먼트 갱신
-        // isActive 대기 상태로 변경
-        if (roundInfo.getLeftNumberOfParticipants() == NextRoundStateEnum.NUMBER_1.getNumber()) {
-            updatedRoundInfo = RoundInfo.nextRoundUpdate(roundInfo);
-        }
-
-        // 동일 라운드에서 round_info 도큐먼트 갱신
-        else {
-            updatedRoundInfo = RoundInfo.currentRoundUpdate(roundInfo);
-        }
-
-        log.info("Updated round_info Document >>> {}", updatedRoundInfo.toString());
-
-        try {
-            roundInfoRepository.save(updatedRoundInfo);
-        } catch (Exception e) {
-            throw new CustomException(ResponseStatus.MONGODB_ERROR);
-        }
-    }
-
     private Boolean isBiddingPossible(OfferBiddingPriceDto offerBiddingPriceDto, RoundInfo roundInfo) {
         // 조건1. 입찰 시간 확인
-        // 조건2. 해당 라운드에 참여 여부
         // 조건3. 남은 인원이 1 이상
         // 조건4. round 입찰가와 입력한 입찰가 확인
+        // 조건2. 해당 라운드에 참여 여부, 어차피 실패할 입찰은 확인하지 않도록 마지막에 검사
+        LocalDateTime now = LocalDateTime.now();
+        log.debug("Bidding check >>> now: {}, input round: {}, input price: {}, round_info: {}",
+                now, offerBiddingPriceDto.getRound(), offerBiddingPriceDto.getBiddingPrice(), roundInfo);
 
-        return checkBiddingTime(roundInfo.getRoundStartTime(), roundInfo.getRoundEndTime()) &&
-                checkBiddingRound(offerBiddingPriceDto.getAuctionUuid(), offerBiddingPriceDto.getBiddingUuid(),
-                        offerBiddingPriceDto.getRound()) &&
-                checkLeftNumberOfParticipant(roundInfo.getLeftNumberOfParticipants()) &&
-                checkRoundAndBiddingPrice(offerBiddingPriceDto, roundInfo)
-                ;
-    }
-
-    private Boolean checkBiddingRound(String auctionUuid, String biddingUuid, int round) {
-        return !(auctionHistoryRepository.findByAuctionUuidAndBiddingUuidAndRound(
-                auctionUuid, biddingUuid, round).isPresent());
-    }
-
-    private Boolean checkLeftNumberOfParticipant(int leftNumberOfParticipants) {
-        log.info("leftNumberOfParticipants >>> {}", leftNumberOfParticipants);
-//        if (leftNumberOfParticipants < 1L) throw new CustomException(ResponseStatus.FULL_PARTICIPANTS);
-        log.info("!(leftNumberOfParticipants < 1L) >>> {}", !(leftNumberOfParticipants < 1L));
-        return !(leftNumberOfParticipants < 1L);
-    }
-
-    private Boolean checkRoundAndBiddingPrice(OfferBiddingPriceDto offerBiddingPriceDto, RoundInfo roundInfo) {
-        log.info("input round >>> {}, document round >>> {}, input price >>> {}, document price >>> {}",
-                offerBiddingPriceDto.getRound(), roundInfo.getRound(),
-                offerBiddingPriceDto.getBiddingPrice(), roundInfo.getPrice());
-
-        log.info("inputRound == documentRound >>> {}", offerBiddingPriceDto.getRound() == roundInfo.getRound());
-        log.info("inputPrice.compareTo(documentPrice) == 0 >>> {}",
-                offerBiddingPriceDto.getBiddingPrice().compareTo(roundInfo.getPrice()) == 0);
-
-        return !((!(offerBiddingPriceDto.getBiddingPrice().compareTo(roundInfo.getPrice()) == 0) ||
-                !(offerBiddingPriceDto.getRound() == roundInfo.getRound())));
-    }
-
-    private Boolean checkBiddingTime(LocalDateTime roundStartTime, LocalDateTime roundEndTime) {
-        log.info("roundStartTime >>> {}, now >>> {}, roundEndTime >>> {}",
-                roundStartTime, LocalDateTime.now(), roundEndTime);
-        log.info("roundStartTime.isBefore(LocalDateTime.now()) >>> {}, roundEndTime.isAfter(LocalDateTime.now()) >>> {}"
-                , roundStartTime.isBefore(LocalDateTime.now()), roundEndTime.isAfter(LocalDateTime.now()));
-        // roundStartTime <= 입찰 시간 <= roundEndTime
-        return (roundStartTime.isBefore(LocalDateTime.now()) && roundEndTime.isAfter(LocalDateTime.now()));
+        return roundInfo.canAccept(offerBiddingPriceDto, now) && biddingSupport.claim(offerBiddingPriceDto);
     }
 
 }
@@ -0,0 +1,93 @@
+package com.skyhorsemanpower.auction.application.impl;
+
+import com.skyhorsemanpower.auction.common.exception.CustomException;
+import com.skyhorsemanpower.auction.common.exception.ResponseStatus;
+import com.skyhorsemanpower.auction.data.dto.OfferBiddingPriceDto;
+import com.skyhorsemanpower.auction.domain.AuctionHistory;
+import com.skyhorsemanpower.auction.history.AuctionHistoryBatchWriter;
+import com.skyhorsemanpower.auction.repository.AuctionHistoryRepository;
+import com.skyhorsemanpower.auction.round.BidderIndex;
+import com.skyhorsemanpower.auction.round.RoundInfoStore;
+import com.skyhorsemanpower.auction.round.data.BidResult;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeoutException;
+
+// AuctionServiceImpl, ReactiveAuctionServiceImpl이 함께 쓰는 입찰 규칙
+// 라운드 입찰자 선점과 되돌리기, 엔진 경로 저장, 차지한 자리 반환, 예외 변환을 한곳에서 처리한다.
+@Slf4j
+@Component
+@RequiredArgsConstructor
+class BiddingSupport {
+
+    private final RoundInfoStore roundInfoStore;
+    private final BidderIndex bidderIndex;
+    private final AuctionHistoryBatchWriter auctionHistoryBatchWriter;
+    private final AuctionHistoryRepository auctionHistoryRepository;
+
+    // 조건2. 해당 라운드에 참여 여부
+    // 입찰자 색인에서 라운드 입찰자로 선점, 입찰이 성사되지 않으면 release로 되돌린다.
+    boolean claim(OfferBiddingPriceDto offerBiddingPriceDto) {
+        return bidderIndex.claim(offerBiddingPriceDto.getAuctionUuid(), offerBiddingPriceDto.getRound(),
+                offerBiddingPriceDto.getBiddingUuid());
+    }
+
+    void release(OfferBiddingPriceDto offerBiddingPriceDto) {
+        bidderIndex.release(offerBiddingPriceDto.getAuctionUuid(), offerBiddingPriceDto.getRound(),
+                offerBiddingPriceDto.getBiddingUuid());
+    }
+
+    // 엔진 mailbox 스레드에서 호출되므로 기다리지 않고 입찰 이력을 그룹 커밋 배치에 넣는다.
+    // 다른 요청이 먼저 같은 라운드에 입찰한 경우는 ALREADY_BID_IN_ROUND, 그 외 실패는 선점을 되돌리고 MONGODB_ERROR
+    CompletableFuture<Void> recordEngineBid(OfferBiddingPriceDto offerBiddingPriceDto) {
+        return auctionHistoryBatchWriter.saveReactive(AuctionHistory.converter(offerBiddingPriceDto))
+                .onErrorMap(e -> {
+                    if (e instanceof DuplicateKeyException) {
+                        log.debug("Already bid in round >>> {}", offerBiddingPriceDto.getBiddingUuid());
+                        return new CustomException(ResponseStatus.ALREADY_BID_IN_ROUND);
+                    }
+                    release(offerBiddingPriceDto);
+                    return new CustomException(ResponseStatus.MONGODB_ERROR);
+                })
+                .toFuture();
+    }
+
+    // 엔진 경로에서 ALREADY_BID_IN_ROUND는 실패가 아니라 거절된 입찰
+    static boolean isAlreadyBid(Throwable e) {
+        return e instanceof CustomException customException
+                && customException.getResponseStatus() == ResponseStatus.ALREADY_BID_IN_ROUND;
+    }
+
+    // 입찰 이력을 저장하지 못한 입찰이 차지한 round_state 자리를 되돌린다.
+    // 반환 실패는 입찰 결과를 바꾸지 않으므로 로그만 남긴다.
+    void returnSlot(OfferBiddingPriceDto offerBiddingPriceDto) {
+        try {
+            roundInfoStore.returnSlot(offerBiddingPriceDto);
+        } catch (Exception e) {
+            log.warn("Slot return failed >>> {}, {}", offerBiddingPriceDto.getAuctionUuid(), e.getMessage());
+        }
+    }
+
+    // 입찰 이력은 저장했지만 round_info에 반영하지 못한 입찰(APPEND 모드의 sequence 충돌, 엔진 경로의 반영 실패)의
+    // 입찰 이력을 지우고 라운드 입찰자 선점을 되돌린다. 지우지 못한 이력은 마감 집계에 포함되므로 로그를 남긴다.
+    void discardBid(OfferBiddingPriceDto offerBiddingPriceDto) {
+        try {
+            auctionHistoryRepository.deleteByAuctionUuidAndBiddingUuidAndRound(offerBiddingPriceDto.getAuctionUuid(),
+                    offerBiddingPriceDto.getBiddingUuid(), offerBiddingPriceDto.getRound());
+        } catch (Exception e) {
+            log.warn("Auction history discard failed >>> {}, {}, {}", offerBiddingPriceDto.getAuctionUuid(),
+                    offerBiddingPriceDto.getBiddingUuid(), e.getMessage());
+        }
+        release(offerBiddingPriceDto);
+    }
+
+    static CustomException toCustomException(Throwable e) {
+        if (e instanceof CustomException customException) return customException;
+        if (e instanceof TimeoutException) return new CustomException(ResponseStatus.BIDDING_TIMEOUT);
+        return new CustomException(ResponseStatus.MONGODB_ERROR);
+    }
+}
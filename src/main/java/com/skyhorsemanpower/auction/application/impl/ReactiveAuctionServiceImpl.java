@@ -0,0 +1,162 @@
+package com.skyhorsemanpower.auction.application.impl;
+
+import com.skyhorsemanpower.auction.application.ReactiveAuctionService;
+import com.skyhorsemanpower.auction.common.exception.CustomException;
+import com.skyhorsemanpower.auction.common.exception.ResponseStatus;
+import com.skyhorsemanpower.auction.data.dto.OfferBiddingPriceDto;
+import com.skyhorsemanpower.auction.domain.AuctionHistory;
+import com.skyhorsemanpower.auction.domain.RoundInfo;
+import com.skyhorsemanpower.auction.history.AuctionHistoryBatchWriter;
+import com.skyhorsemanpower.auction.logging.BidEventLogger;
+import com.skyhorsemanpower.auction.round.RoundInfoStore;
+import com.skyhorsemanpower.auction.round.RoundStateEngine;
+import com.skyhorsemanpower.auction.round.data.BidResult;
+import com.skyhorsemanpower.auction.status.BiddingPathEnum;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.LocalDateTime;
+
+// AuctionServiceImpl.offerBiddingPrice와 같은 규칙의 non-blocking 입찰
+// Mongo 조회와 저장은 reactive 드라이버로, 라운드 상태 엔진과 배치 저장은 CompletableFuture로 기다린다.
+// 엔진 경로의 저장은 경매 mailbox 스레드에서 실행된다.
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ReactiveAuctionServiceImpl implements ReactiveAuctionService {
+
+    private final RoundInfoStore roundInfoStore;
+    private final RoundStateEngine roundStateEngine;
+    private final AuctionHistoryBatchWriter auctionHistoryBatchWriter;
+    private final BiddingSupport biddingSupport;
+    private final BidEventLogger bidEventLogger;
+
+    @Override
+    public Mono<Boolean> offerBiddingPrice(OfferBiddingPriceDto offerBiddingPriceDto) {
+        return Mono.defer(() -> {
+            long startedAt = System.nanoTime();
+            BiddingPathEnum path = BiddingPathEnum.of(roundStateEngine.isEnabled(),
+                    roundInfoStore.isCurrentStateMode());
+
+            Mono<Boolean> isBidding = switch (path) {
+                case ENGINE -> offerBiddingPriceWithEngine(offerBiddingPriceDto);
+                case CURRENT_STATE -> offerBiddingPriceWithCurrentState(offerBiddingPriceDto);
+                case APPEND -> offerBiddingPriceWithAppend(offerBiddingPriceDto);
+            };
+
+            // 입찰 한 건당 요약 로그 하나
+            return isBidding
+                    .doOnNext(result -> {
+                        if (result) {
+                            bidEventLogger.accepted(offerBiddingPriceDto, path, startedAt);
+                        } else {
+                            bidEventLogger.rejected(offerBiddingPriceDto, path, startedAt);
+                        }
+                    })
+                    .doOnError(e -> bidEventLogger.failed(offerBiddingPriceDto, path, startedAt, e));
+        });
+    }
+
+    // 조건 확인, 라운드 입찰자 선점은 경매 mailbox에서 순서대로 처리하고, DB 저장이 끝난 결과만 기다린다.
+    // 요청이 끊겨도 접수된 입찰은 저장까지 진행되므로 future는 취소하지 않는다.
+    private Mono<Boolean> offerBiddingPriceWithEngine(OfferBiddingPriceDto offerBiddingPriceDto) {
+        return Mono.fromFuture(() -> roundStateEngine.offer(offerBiddingPriceDto, biddingSupport::claim,
+                        biddingSupport::recordEngineBid, biddingSupport::discardBid), true)
+                .map(BidResult::isAccepted)
+                .onErrorResume(BiddingSupport::isAlreadyBid, e -> Mono.just(false))
+                .onErrorMap(BiddingSupport::toCustomException);
+    }
+
+    private Mono<Boolean> offerBiddingPriceWithCurrentState(OfferBiddingPriceDto offerBiddingPriceDto) {
+        return claimBiddingRound(offerBiddingPriceDto).flatMap(claimed -> {
+            if (!claimed) return Mono.just(false);
+
+            return roundInfoStore.consumeSlotReactive(offerBiddingPriceDto)
+                    .onErrorMap(e -> {
+                        biddingSupport.release(offerBiddingPriceDto);
+                        return new CustomException(ResponseStatus.MONGODB_ERROR);
+                    })
+                    // 입찰 이력을 저장하지 못하면 차지한 자리를 되돌린다.
+                    .flatMap(updatedRoundInfo -> auctionHistoryBatchWriter
+                            .saveReactive(AuctionHistory.converter(offerBiddingPriceDto))
+                            .thenReturn(true)
+                            .onErrorResume(DuplicateKeyException.class, e -> {
+                                log.warn("Already bid in round after slot consumed >>> {}",
+                                        offerBiddingPriceDto.getBiddingUuid());
+                                return returnSlot(offerBiddingPriceDto).thenReturn(false);
+                            })
+                            .onErrorResume(e -> !(e instanceof DuplicateKeyException), e -> {
+                                biddingSupport.release(offerBiddingPriceDto);
+                                return returnSlot(offerBiddingPriceDto).then(Mono.error(BiddingSupport.toCustomException(e)));
+                            }))
+                    .switchIfEmpty(Mono.fromSupplier(() -> {
+                        biddingSupport.release(offerBiddingPriceDto);
+                        return false;
+                    }));
+        });
+    }
+
+    private Mono<Boolean> offerBiddingPriceWithAppend(OfferBiddingPriceDto offerBiddingPriceDto) {
+        return roundInfoStore.findCurrentReactive(offerBiddingPriceDto.getAuctionUuid())
+                .switchIfEmpty(Mono.error(() -> new CustomException(ResponseStatus.NO_DATA)))
+                .flatMap(roundInfo -> {
+                    // 어차피 실패할 입찰은 라운드 참여 여부를 확인하지 않는다.
+                    if (!roundInfo.canAccept(offerBiddingPriceDto, LocalDateTime.now())) return Mono.just(false);
+
+                    return claimBiddingRound(offerBiddingPriceDto).flatMap(claimed -> {
+                        if (!claimed) return Mono.just(false);
+
+                        return auctionHistoryBatchWriter.saveReactive(AuctionHistory.converter(offerBiddingPriceDto))
+                                .onErrorMap(e -> !(e instanceof DuplicateKeyException), e -> {
+                                    biddingSupport.release(offerBiddingPriceDto);
+                                    return BiddingSupport.toCustomException(e);
+                                })
+                                // 입찰 후, round_info 도큐먼트 갱신
+                                .then(Mono.defer(() -> saveAppendRoundInfo(roundInfo, offerBiddingPriceDto)))
+                                .onErrorResume(DuplicateKeyException.class, e -> {
+                                    // 다른 요청이 먼저 같은 라운드에 입찰한 경우
+                                    log.debug("Already bid in round >>> {}", offerBiddingPriceDto.getBiddingUuid());
+                                    return Mono.just(false);
+                                });
+                    });
+                });
+    }
+
+    // 같은 상태를 읽은 다른 입찰이 먼저 갱신했으면(sequence 중복) 경합에서 진 입찰이므로 이력을 되돌리고 거절
+    // 중복 키 오류를 여기서 처리하므로 호출하는 쪽의 DuplicateKeyException은 입찰 이력 중복만 뜻한다.
+    private Mono<Boolean> saveAppendRoundInfo(RoundInfo roundInfo, OfferBiddingPriceDto offerBiddingPriceDto) {
+        return roundInfoStore.saveReactive(RoundInfo.acceptBid(roundInfo, offerBiddingPriceDto.getBiddingUuid()))
+                .thenReturn(true)
+                .onErrorResume(e -> {
+                    if (e instanceof DuplicateKeyException) {
+                        log.debug("round_info changed concurrently, bid discarded >>> {}",
+                                offerBiddingPriceDto.getBiddingUuid());
+                        return discardBid(offerBiddingPriceDto).thenReturn(false);
+                    }
+                    return discardBid(offerBiddingPriceDto).then(Mono.error(BiddingSupport.toCustomException(e)));
+                });
+    }
+
+    private Mono<Void> discardBid(OfferBiddingPriceDto offerBiddingPriceDto) {
+        return Mono.fromRunnable(() -> biddingSupport.discardBid(offerBiddingPriceDto))
+                .subscribeOn(Schedulers.boundedElastic())
+                .then();
+    }
+
+    // 입찰자 색인 확인은 대부분 메모리에서 끝나지만, 새 라운드의 입찰자를 적재할 때는 blocking 조회가 있어
+    // 이벤트 루프 대신 boundedElastic에서 실행한다.
+    private Mono<Boolean> claimBiddingRound(OfferBiddingPriceDto offerBiddingPriceDto) {
+        return Mono.fromCallable(() -> biddingSupport.claim(offerBiddingPriceDto))
+                .subscribeOn(Schedulers.boundedElastic());
+    }
+
+    private Mono<Void> returnSlot(OfferBiddingPriceDto offerBiddingPriceDto) {
+        return Mono.fromRunnable(() -> biddingSupport.returnSlot(offerBiddingPriceDto))
+                .subscribeOn(Schedulers.boundedElastic())
+                .then();
+    }
+}
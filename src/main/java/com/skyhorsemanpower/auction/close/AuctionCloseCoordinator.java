@@ -0,0 +1,128 @@
+package com.skyhorsemanpower.auction.close;
+
+import com.skyhorsemanpower.auction.round.RoundInfoStore;
+import com.skyhorsemanpower.auction.status.CloseStateEnum;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+// 경매 마감을 한 번만 진행하기 위한 마감 상태(PENDING -> CLOSING -> CLOSED) 관리
+// CURRENT_STATE 모드는 경매의 round_state 도큐먼트에, APPEND 모드는 경매당 auction_close 도큐먼트에 저장한다.
+// 마감 시작은 조건부 findAndModify 한 번으로 선점하고, 마감하던 인스턴스가 죽으면
+// lease-ms가 지난 뒤 다음 마감 요청(마감 API, 마감 Job)이 이어서 마감한다.
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AuctionCloseCoordinator {
+    public static final String CLOSE_STATE_COLLECTION = "auction_close";
+
+    private final MongoTemplate mongoTemplate;
+    private final RoundInfoStore roundInfoStore;
+
+    @Value("${auction.close.lease-ms:60000}")
+    private long leaseMs;
+
+    // 마감을 선점하면 lease 토큰을 반환, 이미 마감됐거나 다른 인스턴스가 마감 중이면 빈 값
+    // DB 오류는 그대로 던지므로 중복 마감으로 오인하지 않는다.
+    public Optional<String> tryAcquire(String auctionUuid) {
+        String leaseToken = UUID.randomUUID().toString();
+        LocalDateTime now = LocalDateTime.now();
+        Update acquire = new Update()
+                .set("closeState", CloseStateEnum.CLOSING.name())
+                .set("closeLeaseToken", leaseToken)
+                .set("closeLeaseUntil", now.plusNanos(leaseMs * 1_000_000));
+
+        if (roundInfoStore.isCurrentStateMode()) {
+            Document acquired = mongoTemplate.findAndModify(acquireQuery("auctionUuid", auctionUuid, now), acquire,
+                    FindAndModifyOptions.options().returnNew(true), Document.class,
+                    RoundInfoStore.CURRENT_STATE_COLLECTION);
+            if (acquired != null) return Optional.of(leaseToken);
+
+            // round_state가 있으면 이미 마감됐거나 마감 중
+            if (mongoTemplate.exists(Query.query(Criteria.where("auctionUuid").is(auctionUuid)),
+                    RoundInfoStore.CURRENT_STATE_COLLECTION)) {
+                return Optional.empty();
+            }
+            // round_state가 없는 경매(APPEND 모드에서 등록된 경매)는 auction_close로 관리
+            log.warn("round_state is not exist, use auction_close >>> {}", auctionUuid);
+        }
+
+        // 조건이 맞지 않으면 upsert가 insert를 시도하고 _id 중복으로 실패
+        try {
+            mongoTemplate.upsert(acquireQuery("_id", auctionUuid, now), acquire, CLOSE_STATE_COLLECTION);
+            return Optional.of(leaseToken);
+        } catch (DuplicateKeyException e) {
+            return Optional.empty();
+        }
+    }
+
+    // 마감 완료, lease를 다른 인스턴스가 가져갔으면 false
+    public boolean complete(String auctionUuid, String leaseToken) {
+        return transition(auctionUuid, leaseToken, new Update()
+                .set("closeState", CloseStateEnum.CLOSED.name())
+                .unset("closeLeaseUntil"));
+    }
+
+    // 마감 중 오류가 나면 lease를 기다리지 않고 다음 마감 요청이 바로 진행할 수 있도록 되돌린다.
+    public void release(String auctionUuid, String leaseToken) {
+        try {
+            transition(auctionUuid, leaseToken, new Update()
+                    .set("closeState", CloseStateEnum.PENDING.name())
+                    .unset("closeLeaseToken")
+                    .unset("closeLeaseUntil"));
+        } catch (Exception e) {
+            // lease가 지나면 다른 요청이 이어서 마감한다.
+            log.warn("Auction close lease release failed >>> {}, {}", auctionUuid, e.getMessage());
+        }
+    }
+
+    // 마감 완료(CLOSED) 여부, 마감 중인 경매는 false
+    public boolean isClosed(String auctionUuid) {
+        Criteria closed = Criteria.where("closeState").is(CloseStateEnum.CLOSED.name());
+        if (roundInfoStore.isCurrentStateMode() && mongoTemplate.exists(
+                Query.query(Criteria.where("auctionUuid").is(auctionUuid).andOperator(closed)),
+                RoundInfoStore.CURRENT_STATE_COLLECTION)) {
+            return true;
+        }
+        return mongoTemplate.exists(Query.query(Criteria.where("_id").is(auctionUuid).andOperator(closed)),
+                CLOSE_STATE_COLLECTION);
+    }
+
+    private boolean transition(String auctionUuid, String leaseToken, Update update) {
+        Criteria owned = Criteria.where("closeState").is(CloseStateEnum.CLOSING.name())
+                .and("closeLeaseToken").is(leaseToken);
+
+        if (roundInfoStore.isCurrentStateMode() && mongoTemplate.updateFirst(
+                Query.query(Criteria.where("auctionUuid").is(auctionUuid).andOperator(owned)), update,
+                RoundInfoStore.CURRENT_STATE_COLLECTION).getModifiedCount() > 0) {
+            return true;
+        }
+        if (mongoTemplate.updateFirst(Query.query(Criteria.where("_id").is(auctionUuid).andOperator(owned)), update,
+                CLOSE_STATE_COLLECTION).getModifiedCount() > 0) {
+            return true;
+        }
+
+        log.warn("Auction close lease lost >>> {}", auctionUuid);
+        return false;
+    }
+
+    // 마감 전이거나, 마감 중이지만 lease가 지난 경우에만 선점
+    private Query acquireQuery(String key, String auctionUuid, LocalDateTime now) {
+        return Query.query(Criteria.where(key).is(auctionUuid).orOperator(
+                Criteria.where("closeState").nin(List.of(CloseStateEnum.CLOSING.name(), CloseStateEnum.CLOSED.name())),
+                Criteria.where("closeState").is(CloseStateEnum.CLOSING.name()).and("closeLeaseUntil").lt(now)));
+    }
+}
@@ -0,0 +1,233 @@
+package com.skyhorsemanpower.auction.close;
+
+import com.skyhorsemanpower.auction.admission.BidAdmission;
+import com.skyhorsemanpower.auction.common.exception.CustomException;
+import com.skyhorsemanpower.auction.common.exception.ResponseStatus;
+import com.skyhorsemanpower.auction.data.projection.CloseWinnersProjection;
+import com.skyhorsemanpower.auction.domain.AuctionResult;
+import com.skyhorsemanpower.auction.domain.OutboxMessage;
+import com.skyhorsemanpower.auction.domain.RoundInfo;
+import com.skyhorsemanpower.auction.domain.WinnerLedger;
+import com.skyhorsemanpower.auction.kafka.Topics;
+import com.skyhorsemanpower.auction.kafka.data.MessageEnum;
+import com.skyhorsemanpower.auction.kafka.data.dto.AlarmDto;
+import com.skyhorsemanpower.auction.kafka.data.dto.AuctionCloseDto;
+import com.skyhorsemanpower.auction.logging.BidEventLogger;
+import com.skyhorsemanpower.auction.repository.AuctionHistoryRepository;
+import com.skyhorsemanpower.auction.repository.AuctionResultRepository;
+import com.skyhorsemanpower.auction.round.BidderIndex;
+import com.skyhorsemanpower.auction.round.RoundInfoStore;
+import com.skyhorsemanpower.auction.round.RoundStateEngine;
+import com.skyhorsemanpower.auction.status.AuctionStateEnum;
+import com.skyhorsemanpower.auction.status.BiddingPathEnum;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+// 경매 마감 처리
+// 마감 API(AuctionServiceImpl)와 Quartz 마감 Job(AuctionClose)이 함께 사용한다.
+// 낙찰자와 낙찰가는 입찰마다 갱신되는 round_info 입찰자 장부(WinnerLedger)에서 바로 구하고,
+// APPEND 방식이거나 장부가 없거나 맞지 않는 경매(장부 도입 전부터 진행 중)는 auction_history 집계 한 번으로 구한다.
+// 중복 마감은 Mongo 마감 상태(AuctionCloseCoordinator)로 막는다.
+// 결제, 알람 메시지는 경매 결과와 같은 도큐먼트(outbox)에 저장하고 OutboxRelay가 발행한다.
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AuctionCloseProcessor {
+    private static final int END_STATUS_ATTEMPTS = 3;
+
+    private final AuctionHistoryRepository auctionHistoryRepository;
+    private final RoundInfoStore roundInfoStore;
+    private final AuctionResultRepository auctionResultRepository;
+    private final AuctionCloseCoordinator auctionCloseCoordinator;
+    private final RoundStateEngine roundStateEngine;
+    private final BidderIndex bidderIndex;
+    private final BidEventLogger bidEventLogger;
+    private final BidAdmission bidAdmission;
+
+    public void close(String auctionUuid) {
+        // 마감 상태를 CLOSING으로 선점해야 마감 진행
+        Optional<String> leaseToken;
+        try {
+            leaseToken = auctionCloseCoordinator.tryAcquire(auctionUuid);
+        } catch (Exception e) {
+            log.warn("Auction close lease acquire failed >>> {}, {}", auctionUuid, e.getMessage());
+            throw new CustomException(ResponseStatus.MONGODB_ERROR);
+        }
+        if (leaseToken.isEmpty()) {
+            log.info("Auction Already Close >>> {}", auctionUuid);
+            return;
+        }
+        log.info("Auction Close Start >>> {}", auctionUuid);
+
+        try {
+            closeAuction(auctionUuid);
+        } catch (RuntimeException e) {
+            auctionCloseCoordinator.release(auctionUuid, leaseToken.get());
+            throw e;
+        }
+        // 입찰자가 없던 경매도 같이 정리
+        evict(auctionUuid);
+        // lease가 지나 다른 인스턴스가 가져갔으면 마감이 중복 진행됐을 수 있다.
+        // 결과 저장은 멱등이므로 되돌리지 않고 기록만 남긴다.
+        if (!auctionCloseCoordinator.complete(auctionUuid, leaseToken.get())) {
+            log.warn("Auction close completed without lease >>> {}", auctionUuid);
+        }
+    }
+
+    private void closeAuction(String auctionUuid) {
+        // 마지막 라운드 수, 낙찰 가능 인원 수 조회
+        // round_info가 없으면 입찰자 없음으로 마감하지 않고 실패, lease를 놓아 다시 마감할 수 있게 한다.
+        RoundInfo lastRoundInfo = roundInfoStore.findCurrent(auctionUuid).orElseThrow(
+                () -> new CustomException(ResponseStatus.NO_DATA)
+        );
+        log.debug("Last Round Info >>> {}", lastRoundInfo);
+
+        // 낙찰자와 낙찰가 집계
+        Optional<CloseWinnersProjection> closeWinners = findWinners(lastRoundInfo)
+                .filter(winners -> winners.getMemberUuids() != null && !winners.getMemberUuids().isEmpty());
+
+        if (closeWinners.isEmpty()) {
+            log.info("auction_history is not exist! No one bid the auction!");
+
+            // 아무도 참여하지 않은 경우에는 auctionUuid와 auctionState(AUCTION_NO_PARTICIPANTS) 전송
+            AuctionCloseDto noParticipantsAuctionCloseDto = AuctionCloseDto.builder()
+                    .auctionUuid(auctionUuid)
+                    .auctionState(AuctionStateEnum.AUCTION_NO_PARTICIPANTS)
+                    .build();
+            log.info("No one bid the auction message >>> {}", noParticipantsAuctionCloseDto);
+            saveAuctionResult(AuctionResult.builder()
+                    .auctionUuid(auctionUuid)
+                    .memberUuids(List.of())
+                    .outbox(List.of(outboxMessage(Topics.Constant.AUCTION_CLOSE, auctionUuid,
+                            noParticipantsAuctionCloseDto)))
+                    .build());
+
+            return;
+        }
+
+        // 낙찰가와 낙찰자 획득
+        List<String> memberUuids = closeWinners.get().getMemberUuids();
+        log.debug("Close Winners >>> {}", closeWinners.get());
+
+        // 카프카로 경매 서비스 메시지 전달
+        AuctionCloseDto auctionCloseDto = AuctionCloseDto.builder()
+                .auctionUuid(auctionUuid)
+                .memberUuids(memberUuids)
+                .price(closeWinners.get().getPrice().toBigDecimal())
+                .auctionState(AuctionStateEnum.AUCTION_NORMAL_CLOSING)
+                .build();
+        log.info("Kafka Message To Payment Service >>> {}", auctionCloseDto);
+
+        // 알람 서비스로 메시지 전달
+        AlarmDto alarmDto = AlarmDto.builder().receiverUuids(memberUuids)
+                .message(MessageEnum.Constant.AUCTION_CLOSE_MESSAGE)
+                .eventType("경매")
+                .uuid(auctionUuid)
+                .build();
+        log.info("Auction Close Message To Alarm Service >>> {}", alarmDto);
+
+        // 경매 결과와 메시지를 한 도큐먼트로 저장, 메시지는 OutboxRelay가 발행
+        // 경매글 마감 처리 메시지와 결제 서비스 메시지 동일 토픽으로 진행
+        saveAuctionResult(AuctionResult.builder()
+                .auctionUuid(auctionUuid)
+                .memberUuids(memberUuids)
+                .price(closeWinners.get().getPrice())
+                .outbox(List.of(
+                        outboxMessage(Topics.Constant.AUCTION_CLOSE, auctionUuid, auctionCloseDto),
+                        outboxMessage(Topics.Constant.ALARM, auctionUuid, alarmDto)))
+                .build());
+
+        // round_info 마감됐음을 endStatus에 저장
+        markEnded(auctionUuid);
+    }
+
+    // 마감된 경매는 라운드 상태 엔진, 입찰자 색인, 입장 제어에서 제거
+    private void evict(String auctionUuid) {
+        roundStateEngine.release(auctionUuid);
+        bidderIndex.evict(auctionUuid);
+        bidEventLogger.evict(auctionUuid);
+        bidAdmission.evict(auctionUuid);
+    }
+
+    // APPEND 모드에서 마감 시점에 들어온 입찰이 같은 sequence를 먼저 차지했으면(중복 키) 최신 상태를 다시 읽어 저장
+    private void markEnded(String auctionUuid) {
+        for (int attempt = 1; ; attempt++) {
+            RoundInfo currenctRoundInfo = roundInfoStore.findCurrent(auctionUuid).orElseThrow(
+                    () -> new CustomException(ResponseStatus.NO_DATA)
+            );
+            try {
+                roundInfoStore.save(RoundInfo.builder()
+                        .auctionUuid(auctionUuid)
+                        .round(currenctRoundInfo.getRound())
+                        .roundStartTime(currenctRoundInfo.getRoundStartTime())
+                        .roundEndTime(currenctRoundInfo.getRoundEndTime())
+                        .incrementUnit(currenctRoundInfo.getIncrementUnit())
+                        .price(currenctRoundInfo.getPrice())
+                        .isActive(true)
+                        .numberOfParticipants(currenctRoundInfo.getNumberOfParticipants())
+                        .leftNumberOfParticipants(currenctRoundInfo.getLeftNumberOfParticipants())
+                        .createdAt(LocalDateTime.now())
+                        .auctionEndTime(currenctRoundInfo.getAuctionEndTime())
+                        .isLastRound(currenctRoundInfo.getIsLastRound())
+                        .endStatus(true)
+                        .sequence(currenctRoundInfo.getSequence() + 1)
+                        .winnerLedger(currenctRoundInfo.getWinnerLedger())
+                        .build());
+                return;
+            } catch (DuplicateKeyException e) {
+                // 마감 실패로 lease를 놓으면 다음 마감 요청이 다시 진행한다.
+                if (attempt >= END_STATUS_ATTEMPTS) throw e;
+                log.info("round_info changed concurrently, retry end status >>> {}", auctionUuid);
+            }
+        }
+    }
+
+    // lease가 지나 다른 인스턴스가 이어서 마감하는 경우 이미 저장된 결과와 메시지를 그대로 둔다.
+    private void saveAuctionResult(AuctionResult auctionResult) {
+        try {
+            auctionResultRepository.insert(auctionResult);
+            log.info("Auction Result Save!");
+        } catch (DuplicateKeyException e) {
+            log.info("Auction Result Already Saved >>> {}", auctionResult.getAuctionUuid());
+        }
+    }
+
+    private OutboxMessage outboxMessage(String topic, String auctionUuid, Object payload) {
+        return OutboxMessage.builder().topic(topic).key(auctionUuid).payload(payload).build();
+    }
+
+    // APPEND 방식은 입찰 이력 저장과 round_info 추가가 따로 일어나 장부와 남은 인원 수가 함께 어긋날 수 있으므로
+    // 장부는 round_state 조건부 갱신(CURRENT_STATE)이나 라운드 상태 엔진(ENGINE)으로 입찰을 받을 때만 믿는다.
+    private Optional<CloseWinnersProjection> findWinners(RoundInfo lastRoundInfo) {
+        BiddingPathEnum path = BiddingPathEnum.of(roundStateEngine.isEnabled(), roundInfoStore.isCurrentStateMode());
+        if (path == BiddingPathEnum.APPEND) {
+            return findCloseWinners(lastRoundInfo);
+        }
+
+        WinnerLedger winnerLedger = WinnerLedger.of(lastRoundInfo);
+        if (!winnerLedger.isComplete(lastRoundInfo)) {
+            log.info("Winner ledger is not complete, aggregate auction_history >>> {}",
+                    lastRoundInfo.getAuctionUuid());
+            return findCloseWinners(lastRoundInfo);
+        }
+
+        return Optional.of(CloseWinnersProjection.builder()
+                .memberUuids(winnerLedger.winners(lastRoundInfo.getNumberOfParticipants()))
+                .price(winnerLedger.clearingPrice(lastRoundInfo.getPrice()))
+                .build());
+    }
+
+    // 1라운드에서 마감되면 직전 라운드 없이 마지막 라운드 입찰자와 첫 입찰가로 결정
+    private Optional<CloseWinnersProjection> findCloseWinners(RoundInfo lastRoundInfo) {
+        int round = lastRoundInfo.getRound();
+        log.debug("{} Round Close", round);
+        return auctionHistoryRepository.findCloseWinners(lastRoundInfo.getAuctionUuid(), round, round - 1,
+                lastRoundInfo.getNumberOfParticipants());
+    }
+}
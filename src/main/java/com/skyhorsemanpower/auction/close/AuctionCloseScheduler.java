@@ -0,0 +1,10 @@
+package com.skyhorsemanpower.auction.close;
+
+import com.skyhorsemanpower.auction.kafka.data.dto.InitialAuctionDto;
+
+// 경매 마감 시간에 AuctionCloseProcessor를 실행하는 스케줄러
+// 기본은 Quartz(QuartzAuctionCloseScheduler), timing-wheel 프로필이면 메모리 타이밍 휠
+// (TimingWheelAuctionCloseScheduler)을 사용한다.
+public interface AuctionCloseScheduler {
+    void schedule(InitialAuctionDto initialAuctionDto);
+}
@@ -0,0 +1,108 @@
+package com.skyhorsemanpower.auction.close;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.discovery.DiscoveryClient;
+import org.springframework.cloud.client.serviceregistry.Registration;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.TreeSet;
+
+// 경매 마감 시간을 처리할 인스턴스를 auctionUuid로 나눈다.
+// Eureka에 등록된 같은 서비스 인스턴스 중 (인스턴스 id, auctionUuid) 점수가 가장 높은 인스턴스가 담당한다(rendezvous hashing).
+// 인스턴스가 들어오거나 나가면 그 인스턴스가 담당하던 경매만 다른 인스턴스로 옮겨진다.
+// 비활성화(기본)하거나 Eureka에 등록하지 않는 환경이면 모든 경매를 담당한다.
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DeadlineOwnership {
+    private final DiscoveryClient discoveryClient;
+    private final ObjectProvider<Registration> registration;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${auction.close.ownership.enabled:false}")
+    private boolean enabled;
+
+    @Value("${spring.application.name}")
+    private String serviceId;
+
+    private String localId;
+    // 정렬된 인스턴스 id, 갱신할 때 통째로 바꾼다.
+    private volatile List<String> members = List.of();
+
+    @PostConstruct
+    public void init() {
+        if (!enabled) return;
+        Registration localRegistration = registration.getIfAvailable();
+        if (localRegistration == null) {
+            log.info("Service registration is not exist, own every deadline");
+            enabled = false;
+            return;
+        }
+        localId = instanceId(localRegistration);
+        Gauge.builder("auction.close.members", this, ownership -> ownership.members.size())
+                .description("경매 마감 시간을 나눠 갖는 인스턴스 수")
+                .register(meterRegistry);
+        refresh();
+    }
+
+    // Eureka 클라이언트 캐시에서 읽으므로 레지스트리 서버를 매번 호출하지 않는다.
+    @Scheduled(fixedDelayString = "${auction.close.ownership.refresh-ms:5000}")
+    public void refresh() {
+        if (!enabled) return;
+        try {
+            TreeSet<String> discovered = new TreeSet<>();
+            for (ServiceInstance instance : discoveryClient.getInstances(serviceId)) {
+                discovered.add(instanceId(instance));
+            }
+            // 아직 등록되지 않았어도 자기 자신은 포함
+            discovered.add(localId);
+            List<String> next = List.copyOf(discovered);
+            if (!next.equals(members)) {
+                log.info("Deadline owners changed >>> {}", next);
+                members = next;
+            }
+        } catch (Exception e) {
+            // 조회에 실패하면 마지막 목록을 유지
+            log.warn("Deadline owners refresh failed >>> {}", e.getMessage());
+        }
+    }
+
+    public boolean owns(String auctionUuid) {
+        if (!enabled) return true;
+        return localId.equals(ownerOf(auctionUuid, members));
+    }
+
+    static String ownerOf(String key, List<String> members) {
+        String owner = null;
+        long best = Long.MIN_VALUE;
+        for (String member : members) {
+            long score = mix(((long) member.hashCode() << 32) ^ (key.hashCode() & 0xffffffffL));
+            if (owner == null || score > best) {
+                owner = member;
+                best = score;
+            }
+        }
+        return owner;
+    }
+
+    // 64bit 섞기(SplitMix64 마지막 단계)
+    private static long mix(long value) {
+        value = (value ^ (value >>> 30)) * 0xbf58476d1ce4e5b9L;
+        value = (value ^ (value >>> 27)) * 0x94d049bb133111ebL;
+        return value ^ (value >>> 31);
+    }
+
+    private static String instanceId(ServiceInstance instance) {
+        if (instance.getInstanceId() != null) return instance.getInstanceId();
+        return instance.getHost() + ":" + instance.getPort();
+    }
+}
@@ -0,0 +1,28 @@
+package com.skyhorsemanpower.auction.close;
+
+import com.skyhorsemanpower.auction.config.QuartzJobConfig;
+import com.skyhorsemanpower.auction.kafka.data.dto.InitialAuctionDto;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.quartz.SchedulerException;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+// 경매마다 Quartz Job과 Trigger를 등록(JDBC job store)
+@Slf4j
+@Component
+@Profile("!timing-wheel")
+@RequiredArgsConstructor
+public class QuartzAuctionCloseScheduler implements AuctionCloseScheduler {
+    private final QuartzJobConfig quartzJobConfig;
+
+    @Override
+    public void schedule(InitialAuctionDto initialAuctionDto) {
+        try {
+            quartzJobConfig.schedulerUpdateAuctionStateJob(initialAuctionDto);
+        } catch (SchedulerException e) {
+            log.warn("Auction close job schedule failed >>> {}, {}", initialAuctionDto.getAuctionUuid(),
+                    e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,191 @@
+package com.skyhorsemanpower.auction.close;
+
+import com.skyhorsemanpower.auction.common.TimingWheel;
+import com.skyhorsemanpower.auction.kafka.data.dto.InitialAuctionDto;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+// 경매 마감을 메모리 타이밍 휠로 스케줄링(timing-wheel 프로필)
+// 마감 시간은 close_deadline 컬렉션에 {_id: auctionUuid, closeAt: epoch ms}로만 저장하고,
+// 시작할 때 한 번 읽어 휠을 복구한다. 지난 마감 시간은 복구 직후 바로 마감한다.
+// 모든 인스턴스가 같은 마감 시간을 들고 있으며, 중복 마감은 AuctionCloseCoordinator의 lease로 막는다.
+// 마감이 끝나지 않았으면(오류, 다른 인스턴스가 마감 중) retry-ms 뒤에 다시 시도한다.
+// 인스턴스 여러 개가 마감 시간을 나눠 가지면(DeadlineOwnership) 담당 경매만 마감하고,
+// 담당이 아닌 경매는 grace-ms 마다 마감 시간이 남아 있는지 확인해 담당 인스턴스가 없어졌을 때 이어받는다.
+@Slf4j
+@Component
+@Profile("timing-wheel")
+@RequiredArgsConstructor
+public class TimingWheelAuctionCloseScheduler implements AuctionCloseScheduler {
+    public static final String DEADLINE_COLLECTION = "close_deadline";
+
+    private final MongoTemplate mongoTemplate;
+    private final AuctionCloseProcessor auctionCloseProcessor;
+    private final AuctionCloseCoordinator auctionCloseCoordinator;
+    private final DeadlineOwnership deadlineOwnership;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${auction.close.wheel.tick-ms:100}")
+    private long tickMs;
+
+    @Value("${auction.close.wheel.size:512}")
+    private int wheelSize;
+
+    @Value("${auction.close.wheel.levels:3}")
+    private int levels;
+
+    @Value("${auction.close.wheel.workers:4}")
+    private int workers;
+
+    @Value("${auction.close.retry-ms:5000}")
+    private long retryMs;
+
+    @Value("${auction.close.ownership.grace-ms:10000}")
+    private long graceMs;
+
+    private final AtomicInteger closing = new AtomicInteger();
+    private TimingWheel timingWheel;
+    private ScheduledExecutorService ticker;
+    private ExecutorService closeExecutor;
+
+    @PostConstruct
+    public void init() {
+        timingWheel = new TimingWheel(tickMs, wheelSize, levels, System.currentTimeMillis());
+        Gauge.builder("auction.close.pending", this, TimingWheelAuctionCloseScheduler::pendingCount)
+                .description("마감 대기 중인 경매 수")
+                .register(meterRegistry);
+        Gauge.builder("auction.close.running", closing, AtomicInteger::get)
+                .description("마감 진행 중인 경매 수")
+                .register(meterRegistry);
+
+        recover();
+
+        closeExecutor = Executors.newFixedThreadPool(workers, runnable -> {
+            Thread thread = new Thread(runnable, "auction-close");
+            thread.setDaemon(true);
+            return thread;
+        });
+        ticker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "auction-close-wheel");
+            thread.setDaemon(true);
+            return thread;
+        });
+        ticker.scheduleWithFixedDelay(this::tick, tickMs, tickMs, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        // 진행 중인 마감은 lease로 보호되고, 마감 시간은 close_deadline에 남아 다음 시작 때 복구된다.
+        ticker.shutdownNow();
+        closeExecutor.shutdown();
+    }
+
+    @Override
+    public void schedule(InitialAuctionDto initialAuctionDto) {
+        String auctionUuid = initialAuctionDto.getAuctionUuid();
+        long closeAt = initialAuctionDto.getAuctionEndTime();
+        mongoTemplate.upsert(Query.query(Criteria.where("_id").is(auctionUuid)),
+                Update.update("closeAt", closeAt), DEADLINE_COLLECTION);
+        synchronized (timingWheel) {
+            timingWheel.schedule(auctionUuid, closeAt);
+        }
+        log.info("Auction close scheduled >>> {}, {}", auctionUuid, closeAt);
+    }
+
+    int pendingCount() {
+        synchronized (timingWheel) {
+            return timingWheel.size();
+        }
+    }
+
+    void tick() {
+        try {
+            List<String> expired;
+            synchronized (timingWheel) {
+                expired = timingWheel.advance(System.currentTimeMillis());
+            }
+            for (String auctionUuid : expired) {
+                closing.incrementAndGet();
+                closeExecutor.execute(() -> fire(auctionUuid));
+            }
+        } catch (Exception e) {
+            log.warn("Auction close wheel tick failed >>> {}", e.getMessage());
+        }
+    }
+
+    // 휠 복구, close_deadline 전체를 한 번만 읽는다.
+    private void recover() {
+        Query query = new Query();
+        query.fields().include("closeAt");
+        int recovered = 0;
+        try (Stream<Document> deadlines = mongoTemplate.stream(query, Document.class, DEADLINE_COLLECTION)) {
+            synchronized (timingWheel) {
+                for (Document deadline : (Iterable<Document>) deadlines::iterator) {
+                    timingWheel.schedule(deadline.getString("_id"), deadline.get("closeAt", Number.class).longValue());
+                    recovered++;
+                }
+            }
+        }
+        log.info("Auction close deadlines recovered >>> {}", recovered);
+    }
+
+    void fire(String auctionUuid) {
+        if (deadlineOwnership.owns(auctionUuid)) {
+            close(auctionUuid);
+            return;
+        }
+        try {
+            // 담당 인스턴스가 마감하면 마감 시간이 지워진다.
+            if (!mongoTemplate.exists(Query.query(Criteria.where("_id").is(auctionUuid)), DEADLINE_COLLECTION)) {
+                return;
+            }
+        } catch (Exception e) {
+            log.warn("Auction close deadline check failed >>> {}, {}", auctionUuid, e.getMessage());
+        } finally {
+            closing.decrementAndGet();
+        }
+        reschedule(auctionUuid, graceMs);
+    }
+
+    private void close(String auctionUuid) {
+        try {
+            auctionCloseProcessor.close(auctionUuid);
+            // 다른 인스턴스가 마감 중이면 그 인스턴스가 죽었을 때를 대비해 마감 시간을 남겨 둔다.
+            if (auctionCloseCoordinator.isClosed(auctionUuid)) {
+                mongoTemplate.remove(Query.query(Criteria.where("_id").is(auctionUuid)), DEADLINE_COLLECTION);
+                return;
+            }
+        } catch (Exception e) {
+            log.warn("Auction close failed, retry >>> {}, {}", auctionUuid, e.getMessage());
+        } finally {
+            closing.decrementAndGet();
+        }
+        reschedule(auctionUuid, retryMs);
+    }
+
+    private void reschedule(String auctionUuid, long delayMs) {
+        synchronized (timingWheel) {
+            timingWheel.schedule(auctionUuid, System.currentTimeMillis() + delayMs);
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package com.skyhorsemanpower.auction.common;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+
+// 금액, 소수점 둘째 자리까지를 최소 단위(minor unit)의 long으로 보관한다.
+// 입찰 검증과 라운드 갱신에서 BigDecimal 대신 long 비교, 덧셈만 하도록 사용
+// JSON은 기존 BigDecimal과 같은 숫자 형식, Mongo에는 최소 단위 long(Int64)으로 저장(MongoConfig)
+@Schema(type = "number", example = "10000")
+@JsonSerialize(using = Money.Serializer.class)
+@JsonDeserialize(using = Money.Deserializer.class)
+public final class Money implements Comparable<Money> {
+    public static final int SCALE = 2;
+    public static final long MINOR_PER_MAJOR = 100;
+
+    public static final Money ZERO = new Money(0);
+
+    private final long minorUnits;
+
+    private Money(long minorUnits) {
+        this.minorUnits = minorUnits;
+    }
+
+    public static Money ofMinor(long minorUnits) {
+        return new Money(minorUnits);
+    }
+
+    // 소수점 셋째 자리 이하가 있으면 ArithmeticException
+    public static Money of(BigDecimal amount) {
+        return new Money(amount.movePointRight(SCALE).longValueExact());
+    }
+
+    public static Money of(long amount) {
+        return new Money(Math.multiplyExact(amount, MINOR_PER_MAJOR));
+    }
+
+    public long getMinorUnits() {
+        return minorUnits;
+    }
+
+    public Money plus(Money other) {
+        return new Money(Math.addExact(minorUnits, other.minorUnits));
+    }
+
+    public BigDecimal toBigDecimal() {
+        // 정수 금액은 기존 응답과 같이 소수점 없이 표현
+        if (minorUnits % MINOR_PER_MAJOR == 0) return BigDecimal.valueOf(minorUnits / MINOR_PER_MAJOR);
+        return BigDecimal.valueOf(minorUnits, SCALE);
+    }
+
+    @Override
+    public int compareTo(Money other) {
+        return Long.compare(minorUnits, other.minorUnits);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        return o instanceof Money money && minorUnits == money.minorUnits;
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(minorUnits);
+    }
+
+    @Override
+    public String toString() {
+        return toBigDecimal().toPlainString();
+    }
+
+    public static class Serializer extends JsonSerializer<Money> {
+        @Override
+        public void serialize(Money money, JsonGenerator generator, SerializerProvider provider) throws IOException {
+            generator.writeNumber(money.toBigDecimal());
+        }
+    }
+
+    public static class Deserializer extends JsonDeserializer<Money> {
+        @Override
+        public Money deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            BigDecimal amount = parser.currentToken() == JsonToken.VALUE_STRING
+                    ? new BigDecimal(parser.getText().trim())
+                    : parser.getDecimalValue();
+            try {
+                return Money.of(amount);
+            } catch (ArithmeticException e) {
+                return (Money) context.handleWeirdNumberValue(Money.class, amount, "금액은 소수점 둘째 자리까지 가능합니다.");
+            }
+        }
+    }
+}
@@ -0,0 +1,192 @@
+package com.skyhorsemanpower.auction.common;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// 계층형 타이밍 휠
+// 단계 i의 칸 하나는 tickMs * wheelSize^i 구간을 담당하고, 상위 단계 칸은 그 구간이 시작될 때 하위 단계로 내려온다.
+// 항목은 칸마다 (만료 tick, id) 기본형 배열로 보관하고, id는 key 배열의 위치라 항목당 객체를 만들지 않는다.
+// 다시 등록하거나 취소한 항목은 칸에서 바로 지우지 않고 꺼낼 때 만료 tick을 비교해 버린다.
+// thread-safe 하지 않으므로 호출하는 쪽에서 동기화한다.
+public class TimingWheel {
+    private static final long NONE = -1;
+
+    private final long tickMs;
+    private final int bits;
+    private final int mask;
+    private final Bucket[][] buckets;
+    // 최상위 단계보다 먼 항목, 최상위 단계가 한 칸 넘어갈 때마다 다시 배치
+    private Bucket overflow = new Bucket();
+    // 이미 만료되어 다음 advance에서 바로 꺼낼 항목
+    private Bucket due = new Bucket();
+
+    private final Map<String, Integer> ids = new HashMap<>();
+    private String[] keys = new String[64];
+    private long[] deadlines = new long[64];
+    private int[] freeIds = new int[64];
+    private int freeCount;
+    private int nextId;
+    private int size;
+    private long currentTick;
+
+    public TimingWheel(long tickMs, int wheelSize, int levels, long startMs) {
+        this.tickMs = tickMs;
+        this.bits = 32 - Integer.numberOfLeadingZeros(Math.max(2, wheelSize) - 1);
+        this.mask = (1 << bits) - 1;
+        this.buckets = new Bucket[levels][1 << bits];
+        this.currentTick = startMs / tickMs;
+        Arrays.fill(deadlines, NONE);
+    }
+
+    // 같은 key가 있으면 만료 시간을 바꾼다.
+    public void schedule(String key, long deadlineMs) {
+        Integer id = ids.get(key);
+        if (id == null) {
+            id = allocate(key);
+            ids.put(key, id);
+        }
+        if (deadlines[id] == NONE) size++;
+
+        // 만료 시간 이전에 꺼내지 않도록 올림
+        long ticks = (deadlineMs + tickMs - 1) / tickMs;
+        deadlines[id] = ticks;
+        place(id, ticks);
+    }
+
+    public boolean cancel(String key) {
+        Integer id = ids.remove(key);
+        if (id == null) return false;
+        release(id);
+        return true;
+    }
+
+    // nowMs까지 만료된 key를 만료 순서대로 반환
+    public List<String> advance(long nowMs) {
+        List<String> expired = new ArrayList<>();
+        drainDue(expired);
+
+        long targetTick = nowMs / tickMs;
+        while (currentTick < targetTick) {
+            currentTick++;
+            // 상위 단계부터 내려야 같은 tick에 여러 단계를 거쳐 내려오는 항목도 이번 tick에 꺼낸다.
+            for (int level = buckets.length - 1; level >= 1; level--) {
+                if ((currentTick & ((1L << (bits * level)) - 1)) != 0) continue;
+                if (level == buckets.length - 1) cascadeOverflow();
+                Bucket bucket = buckets[level][(int) ((currentTick >>> (bits * level)) & mask)];
+                if (bucket != null) cascade(bucket);
+            }
+
+            Bucket bucket = buckets[0][(int) (currentTick & mask)];
+            if (bucket != null) expire(bucket, expired);
+            drainDue(expired);
+        }
+        return expired;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    private void place(int id, long ticks) {
+        long delta = ticks - currentTick;
+        if (delta <= 0) {
+            due.add(ticks, id);
+            return;
+        }
+        for (int level = 0; level < buckets.length; level++) {
+            if (delta < (1L << (bits * (level + 1)))) {
+                int index = (int) ((ticks >>> (bits * level)) & mask);
+                if (buckets[level][index] == null) buckets[level][index] = new Bucket();
+                buckets[level][index].add(ticks, id);
+                return;
+            }
+        }
+        overflow.add(ticks, id);
+    }
+
+    // 다시 배치하는 칸은 항상 더 낮은 단계이므로 같은 칸에 다시 들어가지 않는다.
+    private void cascade(Bucket bucket) {
+        for (int i = 0; i < bucket.size; i++) {
+            if (isLive(bucket.ticks[i], bucket.ids[i])) place(bucket.ids[i], bucket.ticks[i]);
+        }
+        bucket.clear();
+    }
+
+    private void cascadeOverflow() {
+        Bucket pending = overflow;
+        overflow = new Bucket();
+        cascade(pending);
+    }
+
+    private void drainDue(List<String> expired) {
+        if (due.size == 0) return;
+        Bucket pending = due;
+        due = new Bucket();
+        expire(pending, expired);
+    }
+
+    private void expire(Bucket bucket, List<String> expired) {
+        for (int i = 0; i < bucket.size; i++) {
+            int id = bucket.ids[i];
+            if (!isLive(bucket.ticks[i], id)) continue;
+            String key = keys[id];
+            ids.remove(key);
+            release(id);
+            expired.add(key);
+        }
+        bucket.clear();
+    }
+
+    // 다시 등록되었거나 취소된 항목은 버린다.
+    private boolean isLive(long ticks, int id) {
+        return deadlines[id] == ticks;
+    }
+
+    private int allocate(String key) {
+        int id;
+        if (freeCount > 0) {
+            id = freeIds[--freeCount];
+        } else {
+            id = nextId++;
+            if (id == keys.length) {
+                keys = Arrays.copyOf(keys, id * 2);
+                deadlines = Arrays.copyOf(deadlines, id * 2);
+                Arrays.fill(deadlines, id, id * 2, NONE);
+            }
+        }
+        keys[id] = key;
+        return id;
+    }
+
+    private void release(int id) {
+        if (deadlines[id] != NONE) size--;
+        deadlines[id] = NONE;
+        keys[id] = null;
+        if (freeCount == freeIds.length) freeIds = Arrays.copyOf(freeIds, freeCount * 2);
+        freeIds[freeCount++] = id;
+    }
+
+    // 칸 하나의 항목, 만료 tick과 id를 나란히 저장
+    private static class Bucket {
+        private long[] ticks = new long[4];
+        private int[] ids = new int[4];
+        private int size;
+
+        private void add(long tick, int id) {
+            if (size == ids.length) {
+                ticks = Arrays.copyOf(ticks, size * 2);
+                ids = Arrays.copyOf(ids, size * 2);
+            }
+            ticks[size] = tick;
+            ids[size] = id;
+            size++;
+        }
+
+        private void clear() {
+            size = 0;
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.skyhorsemanpower.auction.common.exception;
 
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -12,4 +13,13 @@ public class GlobalExceptionHandler {
         ResponseStatus responseStatus = ex.getResponseStatus();
         return new ExceptionResponse(responseStatus);
     }
+
+    // 재시도 가능한 시점을 Retry-After 헤더로 알린다.
+    @ExceptionHandler(RetryableException.class)
+    public ResponseEntity<String> handleRetryableException(RetryableException ex) {
+        ResponseStatus responseStatus = ex.getResponseStatus();
+        return ResponseEntity.status(responseStatus.getCode())
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+                .body(responseStatus.getMessage());
+    }
 }
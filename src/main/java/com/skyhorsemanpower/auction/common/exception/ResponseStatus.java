@@ -43,6 +43,27 @@ public enum ResponseStatus {
     // 이번 라운드에 입찰하고 또 한 경우
     ALREADY_BID_IN_ROUND(404, "이미 이번 라운드에 입찰하셨습니다."),
 
+    // 입찰 처리 대기 시간 초과
+    BIDDING_TIMEOUT(503, "입찰 처리 시간이 초과되었습니다."),
+
+    // 입찰은 접수됐지만 처리 시간 안에 저장이 끝나지 않은 경우, 결과는 라운드 정보로 확인
+    BIDDING_PENDING(202, "입찰이 접수되어 처리 중입니다. 결과는 라운드 정보에서 확인해 주세요."),
+
+    // 경매별 입찰 처리량 초과
+    TOO_MANY_BIDS(429, "입찰 요청이 많습니다. 잠시 후 다시 시도해 주세요."),
+
+    // 경매 페이지 SSE 연결 수 제한 초과
+    TOO_MANY_CONNECTIONS(429, "연결 수가 너무 많습니다."),
+
+    // 한 연결로 구독할 수 있는 경매 수 초과
+    TOO_MANY_AUCTIONS(400, "한 번에 구독할 수 있는 경매 수를 넘었습니다."),
+
+    // 연결을 연 사용자가 아닌 요청으로 구독 경매를 바꾸려는 경우
+    NOT_CONNECTION_OWNER(403, "연결을 연 사용자만 구독을 변경할 수 있습니다."),
+
+    // 서버 종료 중으로 새 SSE 연결을 받지 않는 경우
+    SERVER_DRAINING(503, "서버가 종료 중입니다. 잠시 후 다시 연결해 주세요."),
+
     // 예외 테스트 용
     EXCEPTION_TEST(500, "예외 테스트") ;
 
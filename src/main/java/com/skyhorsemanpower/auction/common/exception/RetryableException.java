@@ -0,0 +1,15 @@
+package com.skyhorsemanpower.auction.common.exception;
+
+// 잠시 후 다시 요청하면 처리될 수 있는 예외
+public class RetryableException extends CustomException {
+    private final long retryAfterSeconds;
+
+    public RetryableException(ResponseStatus responseStatus, long retryAfterSeconds) {
+        super(responseStatus);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
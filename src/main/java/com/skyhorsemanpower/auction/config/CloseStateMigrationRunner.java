@@ -0,0 +1,94 @@
+package com.skyhorsemanpower.auction.config;
+
+import com.skyhorsemanpower.auction.close.AuctionCloseCoordinator;
+import com.skyhorsemanpower.auction.domain.AuctionResult;
+import com.skyhorsemanpower.auction.round.RoundInfoStore;
+import com.skyhorsemanpower.auction.status.CloseStateEnum;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+// 마감 상태(closeState) 도입 전에 마감된 경매를 CLOSED로 기록
+// 마감 여부는 auction_result 도큐먼트와 기존 중복 마감 방지 테이블(auction_unique)로 판단한다.
+// auction.close.migrate-on-startup=true 일 때만 실행하고, closeState가 이미 있는 경매는 건너뛰므로 여러 번 실행해도 된다.
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CloseStateMigrationRunner implements ApplicationRunner {
+    static final String AUCTION_UNIQUE_QUERY = "select auction_uuid from auction_unique";
+    private static final int BATCH_SIZE = 500;
+
+    private final MongoTemplate mongoTemplate;
+    private final ObjectProvider<JdbcTemplate> jdbcTemplateProvider;
+
+    @Value("${auction.close.migrate-on-startup:false}")
+    private boolean migrateOnStartup;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (migrateOnStartup) migrate();
+    }
+
+    public void migrate() {
+        Set<String> closedAuctionUuids = new LinkedHashSet<>(mongoTemplate.findDistinct(new Query(),
+                "auctionUuid", AuctionResult.class, String.class));
+        closedAuctionUuids.addAll(findAuctionUniqueUuids());
+        closedAuctionUuids.remove(null);
+
+        long roundStateModified = 0;
+        long closeStateInserted = 0;
+        List<String> uuids = new ArrayList<>(closedAuctionUuids);
+        for (int from = 0; from < uuids.size(); from += BATCH_SIZE) {
+            List<String> batch = uuids.subList(from, Math.min(from + BATCH_SIZE, uuids.size()));
+
+            // CURRENT_STATE 모드의 마감 상태
+            roundStateModified += mongoTemplate.updateMulti(
+                    Query.query(Criteria.where("auctionUuid").in(batch).and("closeState").exists(false)),
+                    new Update().set("closeState", CloseStateEnum.CLOSED.name()),
+                    RoundInfoStore.CURRENT_STATE_COLLECTION).getModifiedCount();
+
+            // APPEND 모드 또는 round_state가 없는 경매의 마감 상태, 이미 있는 도큐먼트는 건드리지 않는다.
+            BulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED,
+                    AuctionCloseCoordinator.CLOSE_STATE_COLLECTION);
+            for (String auctionUuid : batch) {
+                bulk.upsert(Query.query(Criteria.where("_id").is(auctionUuid)),
+                        new Update().setOnInsert("closeState", CloseStateEnum.CLOSED.name()));
+            }
+            closeStateInserted += bulk.execute().getUpserts().size();
+        }
+
+        log.info("Close state migration >>> closed auctions: {}, round_state modified: {}, auction_close inserted: {}",
+                uuids.size(), roundStateModified, closeStateInserted);
+    }
+
+    // auction_unique 테이블이 없는 환경(신규 설치)은 auction_result만으로 판단
+    private List<String> findAuctionUniqueUuids() {
+        JdbcTemplate jdbcTemplate = jdbcTemplateProvider.getIfAvailable();
+        if (jdbcTemplate == null) {
+            log.warn("Close state migration skip auction_unique >>> JdbcTemplate is not exist");
+            return List.of();
+        }
+        try {
+            return jdbcTemplate.queryForList(AUCTION_UNIQUE_QUERY, String.class);
+        } catch (DataAccessException e) {
+            log.warn("Close state migration skip auction_unique >>> {}", e.getMessage());
+            return List.of();
+        }
+    }
+}
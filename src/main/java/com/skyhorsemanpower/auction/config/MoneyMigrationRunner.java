@@ -0,0 +1,66 @@
+package com.skyhorsemanpower.auction.config;
+
+import com.mongodb.client.result.UpdateResult;
+import com.skyhorsemanpower.auction.common.Money;
+import com.skyhorsemanpower.auction.round.RoundInfoStore;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.bson.types.Decimal128;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+// 기존 도큐먼트의 금액(BigDecimal String, Decimal128, 원 단위)을 Money 저장 형식(최소 단위 Int64)으로 변환
+// auction.money.migrate-on-startup=true 일 때만 실행한다.
+// 이미 변환된 값은 건너뛰므로 여러 번 실행해도 되고, 변환 중에도 MongoConfig의 읽기 변환기가 두 형식을 모두 읽는다.
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MoneyMigrationRunner implements ApplicationRunner {
+    private static final Map<String, List<String>> MONEY_FIELDS = new LinkedHashMap<>();
+
+    static {
+        MONEY_FIELDS.put(RoundInfoStore.HISTORY_COLLECTION, List.of("price", "incrementUnit"));
+        MONEY_FIELDS.put(RoundInfoStore.CURRENT_STATE_COLLECTION, List.of("price", "incrementUnit"));
+        MONEY_FIELDS.put("auction_history", List.of("biddingPrice"));
+        MONEY_FIELDS.put("auction_result", List.of("price"));
+    }
+
+    private final MongoTemplate mongoTemplate;
+
+    @Value("${auction.money.migrate-on-startup:false}")
+    private boolean migrateOnStartup;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (migrateOnStartup) migrate();
+    }
+
+    public void migrate() {
+        Decimal128 minorPerMajor = new Decimal128(BigDecimal.valueOf(Money.MINOR_PER_MAJOR));
+
+        MONEY_FIELDS.forEach((collection, fields) -> {
+            for (String field : fields) {
+                Document filter = new Document(field, new Document("$exists", true)
+                        .append("$ne", null)
+                        .append("$not", new Document("$type", "long")));
+                // { $set: { field: { $toLong: { $multiply: [ { $toDecimal: "$field" }, 100 ] } } } }
+                List<Document> pipeline = List.of(new Document("$set", new Document(field,
+                        new Document("$toLong", new Document("$multiply",
+                                List.of(new Document("$toDecimal", "$" + field), minorPerMajor))))));
+
+                UpdateResult result = mongoTemplate.getCollection(collection).updateMany(filter, pipeline);
+                log.info("Money migration >>> collection: {}, field: {}, modified: {}",
+                        collection, field, result.getModifiedCount());
+            }
+        });
+    }
+}
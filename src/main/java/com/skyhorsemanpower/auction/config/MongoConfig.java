@@ -0,0 +1,69 @@
+package com.skyhorsemanpower.auction.config;
+
+import com.skyhorsemanpower.auction.common.Money;
+import org.bson.types.Decimal128;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.data.convert.ReadingConverter;
+import org.springframework.data.convert.WritingConverter;
+import org.springframework.data.mongodb.core.convert.MongoCustomConversions;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+// Money는 최소 단위 long(Int64)으로 저장
+// 마이그레이션(MoneyMigrationRunner) 전 도큐먼트의 금액도 읽을 수 있도록
+// BigDecimal 기본 저장 형식(String)과 round_state의 Decimal128은 원 단위 금액으로 읽는다.
+@Configuration
+public class MongoConfig {
+
+    @Bean
+    public MongoCustomConversions mongoCustomConversions() {
+        return new MongoCustomConversions(List.of(
+                MoneyToLongConverter.INSTANCE,
+                LongToMoneyConverter.INSTANCE,
+                StringToMoneyConverter.INSTANCE,
+                Decimal128ToMoneyConverter.INSTANCE));
+    }
+
+    @WritingConverter
+    enum MoneyToLongConverter implements Converter<Money, Long> {
+        INSTANCE;
+
+        @Override
+        public Long convert(Money source) {
+            return source.getMinorUnits();
+        }
+    }
+
+    @ReadingConverter
+    enum LongToMoneyConverter implements Converter<Long, Money> {
+        INSTANCE;
+
+        @Override
+        public Money convert(Long source) {
+            return Money.ofMinor(source);
+        }
+    }
+
+    @ReadingConverter
+    enum StringToMoneyConverter implements Converter<String, Money> {
+        INSTANCE;
+
+        @Override
+        public Money convert(String source) {
+            return Money.of(new BigDecimal(source));
+        }
+    }
+
+    @ReadingConverter
+    enum Decimal128ToMoneyConverter implements Converter<Decimal128, Money> {
+        INSTANCE;
+
+        @Override
+        public Money convert(Decimal128 source) {
+            return Money.of(source.bigDecimalValue());
+        }
+    }
+}
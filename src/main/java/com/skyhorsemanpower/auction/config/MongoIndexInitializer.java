@@ -0,0 +1,116 @@
+package com.skyhorsemanpower.auction.config;
+
+import com.skyhorsemanpower.auction.domain.AuctionHistory;
+import com.skyhorsemanpower.auction.domain.AuctionResult;
+import com.skyhorsemanpower.auction.domain.RoundInfo;
+import com.skyhorsemanpower.auction.round.RoundInfoStore;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.*;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
+// 도메인에 선언된 Mongo 인덱스를 서버 시작 시 생성하고 실제로 존재하는지 확인
+// spring.data.mongodb.auto-index-creation 기본값이 false 이므로 관리 대상 인덱스는 여기서만 만든다.
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MongoIndexInitializer {
+    private static final List<Class<?>> INDEXED_DOCUMENTS =
+            List.of(AuctionHistory.class, RoundInfo.class, AuctionResult.class);
+
+    private final MongoTemplate mongoTemplate;
+
+    @Value("${auction.mongo.index.fail-on-missing:false}")
+    private boolean failOnMissing;
+
+    @PostConstruct
+    public void init() {
+        List<String> missingIndexes = ensureIndexes();
+        if (missingIndexes.isEmpty()) {
+            log.info("Mongo indexes verified");
+            return;
+        }
+
+        log.error("Missing Mongo indexes >>> {}", missingIndexes);
+        if (failOnMissing) {
+            throw new IllegalStateException("Missing Mongo indexes: " + missingIndexes);
+        }
+    }
+
+    // 관리 대상 인덱스를 생성한 뒤, 생성되지 않은 인덱스 목록을 반환
+    public List<String> ensureIndexes() {
+        List<String> missingIndexes = new ArrayList<>();
+
+        indexDefinitions().forEach((collection, definitions) -> {
+            IndexOperations indexOperations = mongoTemplate.indexOps(collection);
+            for (IndexDefinition definition : definitions) {
+                try {
+                    indexOperations.ensureIndex(definition);
+                } catch (Exception e) {
+                    // 기존 데이터가 unique 조건을 어기는 경우 등
+                    log.error("Mongo index creation failed >>> collection: {}, keys: {}, message: {}",
+                            collection, definition.getIndexKeys(), e.getMessage());
+                }
+            }
+
+            Set<String> existingIndexes;
+            try {
+                existingIndexes = indexOperations.getIndexInfo().stream()
+                        .map(MongoIndexInitializer::signature)
+                        .collect(Collectors.toSet());
+            } catch (Exception e) {
+                log.error("Mongo index lookup failed >>> collection: {}, message: {}", collection, e.getMessage());
+                existingIndexes = Set.of();
+            }
+
+            for (IndexDefinition definition : definitions) {
+                String signature = signature(definition);
+                if (!existingIndexes.contains(signature)) {
+                    missingIndexes.add(collection + " " + signature);
+                }
+            }
+        });
+
+        return missingIndexes;
+    }
+
+    public Map<String, List<IndexDefinition>> indexDefinitions() {
+        IndexResolver indexResolver = IndexResolver.create(mongoTemplate.getConverter().getMappingContext());
+        Map<String, List<IndexDefinition>> indexDefinitions = new LinkedHashMap<>();
+
+        for (Class<?> documentType : INDEXED_DOCUMENTS) {
+            List<IndexDefinition> definitions = indexDefinitions.computeIfAbsent(
+                    mongoTemplate.getCollectionName(documentType), key -> new ArrayList<>());
+            indexResolver.resolveIndexFor(documentType).forEach(definitions::add);
+        }
+
+        // round_state는 RoundInfo 형태의 도큐먼트를 경매당 하나만 저장
+        indexDefinitions.put(RoundInfoStore.CURRENT_STATE_COLLECTION,
+                List.of(new Index("auctionUuid", Sort.Direction.ASC).unique()));
+
+        return indexDefinitions;
+    }
+
+    private static String signature(IndexDefinition definition) {
+        Document keys = definition.getIndexKeys();
+        String fields = keys.entrySet().stream()
+                .map(entry -> entry.getKey() + "_" + entry.getValue())
+                .collect(Collectors.joining(","));
+        return Boolean.TRUE.equals(definition.getIndexOptions().get("unique")) ? fields + " unique" : fields;
+    }
+
+    private static String signature(IndexInfo indexInfo) {
+        String fields = indexInfo.getIndexFields().stream()
+                .map(field -> field.getKey() + "_" + (field.getDirection() == Sort.Direction.DESC ? -1 : 1))
+                .collect(Collectors.joining(","));
+        return indexInfo.isUnique() ? fields + " unique" : fields;
+    }
+}
@@ -9,11 +9,13 @@ import org.quartz.impl.StdScheduler;
 import org.quartz.impl.StdSchedulerFactory;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
 
 import java.time.Instant;
 import java.util.Date;
 
 @Configuration
+@Profile("!timing-wheel")
 @RequiredArgsConstructor
 @Slf4j
 public class QuartzJobConfig {
@@ -1,24 +1,23 @@
 package com.skyhorsemanpower.auction.data.dto;
 
+import com.skyhorsemanpower.auction.common.Money;
 import com.skyhorsemanpower.auction.data.vo.OfferBiddingPriceRequestVo;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.ToString;
 
-import java.math.BigDecimal;
-
 @Getter
 @ToString
 @NoArgsConstructor
 public class OfferBiddingPriceDto {
     private String auctionUuid;
     private String biddingUuid;
-    private BigDecimal biddingPrice;
+    private Money biddingPrice;
     private int round;
 
     @Builder
-    public OfferBiddingPriceDto(String auctionUuid, String biddingUuid, BigDecimal biddingPrice, int round) {
+    public OfferBiddingPriceDto(String auctionUuid, String biddingUuid, Money biddingPrice, int round) {
         this.auctionUuid = auctionUuid;
         this.biddingUuid = biddingUuid;
         this.biddingPrice = biddingPrice;
@@ -1,15 +1,16 @@
 package com.skyhorsemanpower.auction.data.projection;
 
+import com.skyhorsemanpower.auction.common.Money;
 import lombok.*;
 
 @Getter
 @NoArgsConstructor
 @ToString
 public class CheckBiddingPriceProjection {
-    private int biddingPrice;
+    private Money biddingPrice;
 
     @Builder
-    public CheckBiddingPriceProjection(int biddingPrice) {
+    public CheckBiddingPriceProjection(Money biddingPrice) {
         this.biddingPrice = biddingPrice;
     }
 }
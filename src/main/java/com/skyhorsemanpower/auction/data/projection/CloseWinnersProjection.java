@@ -0,0 +1,20 @@
+package com.skyhorsemanpower.auction.data.projection;
+
+import com.skyhorsemanpower.auction.common.Money;
+import lombok.*;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+@ToString
+public class CloseWinnersProjection {
+    private List<String> memberUuids;
+    private Money price;
+
+    @Builder
+    public CloseWinnersProjection(List<String> memberUuids, Money price) {
+        this.memberUuids = memberUuids;
+        this.price = price;
+    }
+}
@@ -0,0 +1,12 @@
+package com.skyhorsemanpower.auction.data.vo;
+
+import lombok.Getter;
+import lombok.ToString;
+
+import java.util.List;
+
+@Getter
+@ToString
+public class AuctionPagesRequestVo {
+    private List<String> auctionUuids;
+}
@@ -1,19 +1,18 @@
 package com.skyhorsemanpower.auction.data.vo;
 
+import com.skyhorsemanpower.auction.common.Money;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
-import java.math.BigDecimal;
-
 @Getter
 @NoArgsConstructor
 public class AuctionResultResponseVo {
     private boolean isBidder;
-    private BigDecimal price;
+    private Money price;
 
     @Builder
-    public AuctionResultResponseVo(boolean isBidder, BigDecimal price) {
+    public AuctionResultResponseVo(boolean isBidder, Money price) {
         this.isBidder = isBidder;
         this.price = price;
     }
@@ -21,7 +20,7 @@ public class AuctionResultResponseVo {
     public static AuctionResultResponseVo notBidder() {
         return AuctionResultResponseVo.builder()
                 .isBidder(false)
-                .price(BigDecimal.ZERO)
+                .price(Money.ZERO)
                 .build();
     }
 }
@@ -0,0 +1,21 @@
+package com.skyhorsemanpower.auction.data.vo;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+// 여러 경매를 한 연결로 구독할 때 경매를 구분해 보내는 라운드 정보
+@Getter
+@ToString
+@NoArgsConstructor
+public class AuctionRoundInfoResponseVo {
+    private String auctionUuid;
+    private RoundInfoResponseVo roundInfo;
+
+    @Builder
+    public AuctionRoundInfoResponseVo(String auctionUuid, RoundInfoResponseVo roundInfo) {
+        this.auctionUuid = auctionUuid;
+        this.roundInfo = roundInfo;
+    }
+}
@@ -1,14 +1,13 @@
 package com.skyhorsemanpower.auction.data.vo;
 
+import com.skyhorsemanpower.auction.common.Money;
 import lombok.Getter;
 import lombok.ToString;
 
-import java.math.BigDecimal;
-
 @Getter
 @ToString
 public class OfferBiddingPriceRequestVo {
     private String auctionUuid;
-    private BigDecimal biddingPrice;
+    private Money biddingPrice;
     private int round;
 }
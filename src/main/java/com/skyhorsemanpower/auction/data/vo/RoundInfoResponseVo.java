@@ -1,11 +1,12 @@
 package com.skyhorsemanpower.auction.data.vo;
 
+import com.skyhorsemanpower.auction.common.Money;
+import com.skyhorsemanpower.auction.domain.RoundInfo;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.ToString;
 
-import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
 @Getter
@@ -15,18 +16,19 @@ public class RoundInfoResponseVo {
     private Integer round;
     private LocalDateTime roundStartTime;
     private LocalDateTime roundEndTime;
-    private BigDecimal incrementUnit;
-    private BigDecimal price;
+    private Money incrementUnit;
+    private Money price;
     private Boolean isActive;
     private Long numberOfParticipants;
     private Long leftNumberOfParticipants;
     private Boolean endStatus;
+    private Long sequence;
 
     @Builder
-
     public RoundInfoResponseVo(Integer round, LocalDateTime roundStartTime, LocalDateTime roundEndTime,
-                               BigDecimal incrementUnit, BigDecimal price, Boolean isActive,
-                               Long numberOfParticipants, Long leftNumberOfParticipants, Boolean endStatus) {
+                               Money incrementUnit, Money price, Boolean isActive,
+                               Long numberOfParticipants, Long leftNumberOfParticipants, Boolean endStatus,
+                               Long sequence) {
         this.round = round;
         this.roundStartTime = roundStartTime;
         this.roundEndTime = roundEndTime;
@@ -36,5 +38,22 @@ public class RoundInfoResponseVo {
         this.numberOfParticipants = numberOfParticipants;
         this.leftNumberOfParticipants = leftNumberOfParticipants;
         this.endStatus = endStatus;
+        this.sequence = sequence;
+    }
+
+    // tailable 조회와 같은 필드만 내보낸다.
+    public static RoundInfoResponseVo from(RoundInfo roundInfo) {
+        return RoundInfoResponseVo.builder()
+                .round(roundInfo.getRound())
+                .roundStartTime(roundInfo.getRoundStartTime())
+                .roundEndTime(roundInfo.getRoundEndTime())
+                .incrementUnit(roundInfo.getIncrementUnit())
+                .price(roundInfo.getPrice())
+                .isActive(roundInfo.getIsActive())
+                .numberOfParticipants((long) roundInfo.getNumberOfParticipants())
+                .leftNumberOfParticipants((long) roundInfo.getLeftNumberOfParticipants())
+                .endStatus(roundInfo.getEndStatus())
+                .sequence(roundInfo.getSequence())
+                .build();
     }
 }
@@ -1,32 +1,42 @@
 package com.skyhorsemanpower.auction.domain;
 
+import com.skyhorsemanpower.auction.common.Money;
 import com.skyhorsemanpower.auction.data.dto.OfferBiddingPriceDto;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.ToString;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.CompoundIndexes;
 import org.springframework.data.mongodb.core.mapping.Document;
 
-import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
 @Getter
 @NoArgsConstructor
 @ToString
 @Document(collection = "auction_history")
+// 라운드별 입찰 이력 조회(마감), 라운드 중복 입찰 방지, 최고 입찰가와 최근 입찰 조회
+@CompoundIndexes({
+        @CompoundIndex(name = "auction_round_time", def = "{'auctionUuid': 1, 'round': 1, 'biddingTime': 1}"),
+        @CompoundIndex(name = "auction_bidder_round", def = "{'auctionUuid': 1, 'biddingUuid': 1, 'round': 1}",
+                unique = true),
+        @CompoundIndex(name = "auction_price", def = "{'auctionUuid': 1, 'biddingPrice': -1}"),
+        @CompoundIndex(name = "auction_time", def = "{'auctionUuid': 1, 'biddingTime': -1}")
+})
 public class AuctionHistory {
     @Id
     private String auctionHistoryId;
 
     private String auctionUuid;
     private String biddingUuid;
-    private BigDecimal biddingPrice;
+    private Money biddingPrice;
     private LocalDateTime biddingTime;
     private Integer round;
 
     @Builder
-    public AuctionHistory(String auctionUuid, String biddingUuid, BigDecimal biddingPrice,
+    public AuctionHistory(String auctionUuid, String biddingUuid, Money biddingPrice,
                           LocalDateTime biddingTime, Integer round) {
         this.auctionUuid = auctionUuid;
         this.biddingUuid = biddingUuid;
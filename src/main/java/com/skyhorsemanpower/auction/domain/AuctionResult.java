@@ -1,31 +1,48 @@
 package com.skyhorsemanpower.auction.domain;
 
+import com.skyhorsemanpower.auction.common.Money;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.ToString;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.CompoundIndexes;
 import org.springframework.data.mongodb.core.mapping.Document;
 
-import java.math.BigDecimal;
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Getter
 @NoArgsConstructor
 @ToString
 @Document(collection = "auction_result")
+// 유저별 낙찰 결과 조회, 발행 대기 메시지 조회(OutboxRelay)
+@CompoundIndexes({
+        @CompoundIndex(name = "auction_members", def = "{'auctionUuid': 1, 'memberUuids': 1}"),
+        @CompoundIndex(name = "outbox_pending", def = "{'outbox.sent': 1, 'closedAt': 1}")
+})
 public class AuctionResult {
+    // 경매당 하나, 마감을 다시 진행해도 결과와 메시지가 중복 저장되지 않도록 auctionUuid를 사용
     @Id
     private String auctionResultId;
 
     private String auctionUuid;
     private List<String> memberUuids;
-    private BigDecimal price;
+    private Money price;
+    private LocalDateTime closedAt;
+    // 결과와 같은 도큐먼트로 저장되는 마감, 알람 메시지
+    private List<OutboxMessage> outbox;
+    // 발행 중인 인스턴스의 lease
+    private LocalDateTime outboxLeaseUntil;
 
     @Builder
-    public AuctionResult(String auctionUuid, List<String> memberUuids, BigDecimal price) {
+    public AuctionResult(String auctionUuid, List<String> memberUuids, Money price, List<OutboxMessage> outbox) {
+        this.auctionResultId = auctionUuid;
         this.auctionUuid = auctionUuid;
         this.memberUuids = memberUuids;
         this.price = price;
+        this.closedAt = LocalDateTime.now();
+        this.outbox = outbox != null ? outbox : List.of();
     }
 }
@@ -0,0 +1,32 @@
+package com.skyhorsemanpower.auction.domain;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+// auction_result에 함께 저장하는 Kafka 발행 대기 메시지
+// payload는 _class 정보와 함께 저장되어 발행 시 원래 DTO 타입으로 읽힌다.
+@Getter
+@NoArgsConstructor
+@ToString
+public class OutboxMessage {
+    private String messageId;
+    private String topic;
+    private String key;
+    private Object payload;
+    private boolean sent;
+    private LocalDateTime sentAt;
+
+    @Builder
+    public OutboxMessage(String topic, String key, Object payload) {
+        this.messageId = UUID.randomUUID().toString();
+        this.topic = topic;
+        this.key = key;
+        this.payload = payload;
+        this.sent = false;
+    }
+}
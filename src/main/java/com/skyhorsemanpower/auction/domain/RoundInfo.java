@@ -1,8 +1,12 @@
 package com.skyhorsemanpower.auction.domain;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.skyhorsemanpower.auction.common.DateTimeConverter;
+import com.skyhorsemanpower.auction.common.Money;
+import com.skyhorsemanpower.auction.data.dto.OfferBiddingPriceDto;
 import com.skyhorsemanpower.auction.kafka.data.dto.InitialAuctionDto;
 import com.skyhorsemanpower.auction.status.AuctionTimeEnum;
+import com.skyhorsemanpower.auction.status.NextRoundStateEnum;
 import com.skyhorsemanpower.auction.status.RoundTimeEnum;
 import com.skyhorsemanpower.auction.status.StandbyTimeEnum;
 import lombok.Builder;
@@ -11,9 +15,10 @@ import lombok.NoArgsConstructor;
 import lombok.ToString;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.CompoundIndexes;
 import org.springframework.data.mongodb.core.mapping.Document;
 
-import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
 @Getter
@@ -21,6 +26,13 @@ import java.time.LocalDateTime;
 @ToString
 @Slf4j
 @Document(collection = "round_info")
+// 경매의 최신 라운드 정보 조회
+// 같은 상태(sequence)에서 만든 변경은 하나만 저장(sequence가 없는 이전 도큐먼트는 제외)
+@CompoundIndexes({
+        @CompoundIndex(name = "auction_created", def = "{'auctionUuid': 1, 'createdAt': -1}"),
+        @CompoundIndex(name = "auction_sequence", def = "{'auctionUuid': 1, 'sequence': 1}", unique = true,
+                partialFilter = "{'sequence': {$exists: true}}")
+})
 public class RoundInfo {
     @Id
     private String roundInfoId;
@@ -29,8 +41,8 @@ public class RoundInfo {
     private Integer round;
     private LocalDateTime roundStartTime;
     private LocalDateTime roundEndTime;
-    private BigDecimal incrementUnit;
-    private BigDecimal price;
+    private Money incrementUnit;
+    private Money price;
     private Boolean isActive;
     private int numberOfParticipants;
     private int leftNumberOfParticipants;
@@ -38,12 +50,19 @@ public class RoundInfo {
     private LocalDateTime auctionEndTime;
     private Boolean isLastRound;
     private Boolean endStatus;
+    // 경매별로 상태가 바뀔 때마다 1씩 증가, SSE 이벤트 id로 사용
+    private long sequence;
+    // 마감 시 낙찰자와 낙찰가를 바로 구하기 위한 입찰자 장부
+    // 입찰자 uuid가 담겨 있으므로 API 응답(initial-auction-page 등)에는 내보내지 않는다.
+    @JsonIgnore
+    private WinnerLedger winnerLedger;
 
     @Builder
     public RoundInfo(String auctionUuid, Integer round, LocalDateTime roundStartTime, LocalDateTime roundEndTime,
-                     BigDecimal incrementUnit, BigDecimal price, Boolean isActive, int numberOfParticipants,
+                     Money incrementUnit, Money price, Boolean isActive, int numberOfParticipants,
                      int leftNumberOfParticipants, LocalDateTime createdAt,
-                     LocalDateTime auctionEndTime, Boolean isLastRound, Boolean endStatus) {
+                     LocalDateTime auctionEndTime, Boolean isLastRound, Boolean endStatus, long sequence,
+                     WinnerLedger winnerLedger) {
         this.auctionUuid = auctionUuid;
         this.round = round;
         this.roundStartTime = roundStartTime;
@@ -53,17 +72,55 @@ public class RoundInfo {
         this.isActive = isActive;
         this.numberOfParticipants = numberOfParticipants;
         this.leftNumberOfParticipants = leftNumberOfParticipants;
-        this.createdAt = LocalDateTime.now();
+        this.createdAt = createdAt != null ? createdAt : LocalDateTime.now();
         this.auctionEndTime = auctionEndTime;
         this.isLastRound = isLastRound;
         this.endStatus = endStatus;
+        this.sequence = sequence;
+        this.winnerLedger = winnerLedger;
     }
 
+    // 조건1. 입찰 시간 확인
+    // 조건3. 남은 인원이 1 이상
+    // 조건4. round 입찰가와 입력한 입찰가 확인
+    public boolean canAccept(OfferBiddingPriceDto offerBiddingPriceDto, LocalDateTime now) {
+        return roundStartTime.isBefore(now) &&
+                roundEndTime.isAfter(now) &&
+                leftNumberOfParticipants >= 1 &&
+                offerBiddingPriceDto.getRound() == round &&
+                offerBiddingPriceDto.getBiddingPrice().equals(price);
+    }
+
+    // 시작 대기 중인 round 인지 확인(대기 -> 진행 전환 대상)
+    public boolean isStandbyOf(int round) {
+        return this.round != null && this.round == round &&
+                !Boolean.TRUE.equals(isActive) &&
+                !Boolean.TRUE.equals(endStatus);
+    }
+
+    // 입찰 반영 후 라운드 정보
+    // 남은 인원이 1명이면 다음 라운드(isActive 대기 상태), 아니면 동일 라운드에서 갱신
+    public static RoundInfo acceptBid(RoundInfo roundInfo, String biddingUuid) {
+        return roundInfo.getLeftNumberOfParticipants() == NextRoundStateEnum.NUMBER_1.getNumber()
+                ? nextRoundUpdate(roundInfo, biddingUuid)
+                : currentRoundUpdate(roundInfo, biddingUuid);
+    }
+
+    // 라운드 마지막 자리를 채운 입찰로 다음 라운드 전환
+    public static RoundInfo nextRoundUpdate(RoundInfo roundInfo, String biddingUuid) {
+        return nextRound(roundInfo, WinnerLedger.of(roundInfo).accept(biddingUuid));
+    }
+
+    // 마지막 입찰자가 이미 장부에 반영된 라운드 정보를 다음 라운드로 전환(CURRENT_STATE)
     public static RoundInfo nextRoundUpdate(RoundInfo roundInfo) {
+        return nextRound(roundInfo, WinnerLedger.of(roundInfo));
+    }
+
+    private static RoundInfo nextRound(RoundInfo roundInfo, WinnerLedger winnerLedger) {
         Integer nextRound = roundInfo.getRound() + 1;
         LocalDateTime nextRoundStartTime = LocalDateTime.now().plusSeconds(StandbyTimeEnum.SECONDS_15.getSecond());
         LocalDateTime nextRoundEndTime = nextRoundStartTime.plusSeconds(RoundTimeEnum.SECONDS_60.getSecond());
-        BigDecimal nextPrice = roundInfo.getPrice().add(roundInfo.getIncrementUnit());
+        Money nextPrice = roundInfo.getPrice().plus(roundInfo.getIncrementUnit());
         LocalDateTime auctionEndTime = roundInfo.getAuctionEndTime();
 
         // nextRoundStartTime <= auctionEndTime <= nextRoundEndTime 인 경우 다음 라운드가 마지막 라운드
@@ -82,10 +139,12 @@ public class RoundInfo {
                 .auctionEndTime(roundInfo.getAuctionEndTime())
                 .isLastRound(isLastRound)
                 .endStatus(false)
+                .sequence(roundInfo.getSequence() + 1)
+                .winnerLedger(winnerLedger.advance(roundInfo.getPrice()))
                 .build();
     }
 
-    public static RoundInfo currentRoundUpdate(RoundInfo roundInfo) {
+    public static RoundInfo currentRoundUpdate(RoundInfo roundInfo, String biddingUuid) {
         int nextNumberOfParticipants = roundInfo.getLeftNumberOfParticipants() - 1;
 
         return RoundInfo.builder()
@@ -101,6 +160,8 @@ public class RoundInfo {
                 .auctionEndTime(roundInfo.getAuctionEndTime())
                 .isLastRound(roundInfo.getIsLastRound())
                 .endStatus(false)
+                .sequence(roundInfo.getSequence() + 1)
+                .winnerLedger(WinnerLedger.of(roundInfo).accept(biddingUuid))
                 .build();
     }
 
@@ -119,6 +180,29 @@ public class RoundInfo {
                 .isLastRound(roundInfo.getIsLastRound())
                 .createdAt(LocalDateTime.now())
                 .endStatus(false)
+                .sequence(roundInfo.getSequence() + 1)
+                .winnerLedger(roundInfo.getWinnerLedger())
+                .build();
+    }
+
+    // round_info 이력 스트림에 남길 사본, 식별자는 새로 발급
+    public static RoundInfo historyOf(RoundInfo roundInfo) {
+        return RoundInfo.builder()
+                .auctionUuid(roundInfo.getAuctionUuid())
+                .round(roundInfo.getRound())
+                .roundStartTime(roundInfo.getRoundStartTime())
+                .roundEndTime(roundInfo.getRoundEndTime())
+                .incrementUnit(roundInfo.getIncrementUnit())
+                .price(roundInfo.getPrice())
+                .isActive(roundInfo.getIsActive())
+                .numberOfParticipants(roundInfo.getNumberOfParticipants())
+                .leftNumberOfParticipants(roundInfo.getLeftNumberOfParticipants())
+                .createdAt(roundInfo.getCreatedAt())
+                .auctionEndTime(roundInfo.getAuctionEndTime())
+                .isLastRound(roundInfo.getIsLastRound())
+                .endStatus(roundInfo.getEndStatus())
+                .sequence(roundInfo.getSequence())
+                .winnerLedger(roundInfo.getWinnerLedger())
                 .build();
     }
 
@@ -134,8 +218,8 @@ public class RoundInfo {
                 .round(1)
                 .roundStartTime(roundStartTime)
                 .roundEndTime(roundStartTime.plusSeconds(RoundTimeEnum.SECONDS_60.getSecond()))
-                .incrementUnit(initialAuctionDto.getIncrementUnit())
-                .price(initialAuctionDto.getStartPrice())
+                .incrementUnit(Money.of(initialAuctionDto.getIncrementUnit()))
+                .price(Money.of(initialAuctionDto.getStartPrice()))
                 .isActive(true)
                 .numberOfParticipants(initialAuctionDto.getNumberOfEventParticipants())
                 .leftNumberOfParticipants(initialAuctionDto.getNumberOfEventParticipants())
@@ -143,6 +227,8 @@ public class RoundInfo {
                 .auctionEndTime(auctionEndTime)
                 .isLastRound(false)
                 .endStatus(false)
+                .sequence(1)
+                .winnerLedger(WinnerLedger.empty())
                 .build();
 
         log.info("Initial round_info >>> {}", roundinfo);
@@ -0,0 +1,81 @@
+package com.skyhorsemanpower.auction.domain;
+
+import com.skyhorsemanpower.auction.common.Money;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+// 경매 마감 시 바로 낙찰자를 정할 수 있도록 round_info에 함께 저장하는 입찰자 장부
+// 입찰이 수락될 때마다 라운드 정보와 같은 도큐먼트에 갱신되므로 마감 시 auction_history를 읽지 않는다.
+// roundBidders: 현재 라운드 입찰자(입찰 순서), previousRoundBidders: 직전 라운드 입찰자(입찰 순서)
+// previousRoundPrice: 직전 라운드 입찰가(낙찰가)
+@Getter
+@NoArgsConstructor
+@ToString
+public class WinnerLedger {
+    private List<String> roundBidders;
+    private List<String> previousRoundBidders;
+    private Money previousRoundPrice;
+
+    @Builder
+    public WinnerLedger(List<String> roundBidders, List<String> previousRoundBidders, Money previousRoundPrice) {
+        this.roundBidders = roundBidders != null ? roundBidders : List.of();
+        this.previousRoundBidders = previousRoundBidders != null ? previousRoundBidders : List.of();
+        this.previousRoundPrice = previousRoundPrice;
+    }
+
+    public static WinnerLedger empty() {
+        return WinnerLedger.builder().build();
+    }
+
+    // 장부 도입 전 도큐먼트는 빈 장부에서 시작, isComplete로 걸러낸다.
+    public static WinnerLedger of(RoundInfo roundInfo) {
+        WinnerLedger winnerLedger = roundInfo.getWinnerLedger();
+        if (winnerLedger == null) return empty();
+        // 도큐먼트에 없는 필드는 빈 목록으로
+        return new WinnerLedger(winnerLedger.roundBidders, winnerLedger.previousRoundBidders,
+                winnerLedger.previousRoundPrice);
+    }
+
+    // 현재 라운드 입찰자 추가
+    public WinnerLedger accept(String biddingUuid) {
+        List<String> bidders = new ArrayList<>(roundBidders);
+        bidders.add(biddingUuid);
+        return new WinnerLedger(bidders, previousRoundBidders, previousRoundPrice);
+    }
+
+    // 다음 라운드로 넘어갈 때 현재 라운드 입찰자와 입찰가를 직전 라운드로 옮긴다.
+    public WinnerLedger advance(Money roundPrice) {
+        return new WinnerLedger(List.of(), roundBidders, roundPrice);
+    }
+
+    // 입찰 수와 장부가 맞는지 확인
+    // 장부 도입 전부터 진행 중인 경매는 두 라운드가 지나야 맞아진다.
+    public boolean isComplete(RoundInfo roundInfo) {
+        int roundBidderCount = roundInfo.getNumberOfParticipants() - roundInfo.getLeftNumberOfParticipants();
+        if (roundBidders.size() != roundBidderCount) return false;
+        if (roundInfo.getRound() == 1) return true;
+        return previousRoundPrice != null && previousRoundBidders.size() == roundInfo.getNumberOfParticipants();
+    }
+
+    // 마지막 라운드 입찰자는 모두 낙찰, 직전 라운드 입찰자를 입찰 순서대로 낙찰 가능 인원 수까지 추가
+    public List<String> winners(int numberOfParticipants) {
+        Set<String> winners = new LinkedHashSet<>(roundBidders);
+        for (String biddingUuid : previousRoundBidders) {
+            if (winners.size() >= numberOfParticipants) break;
+            winners.add(biddingUuid);
+        }
+        return new ArrayList<>(winners);
+    }
+
+    // 낙찰가는 직전 라운드 입찰가, 1라운드에서 마감되면 현재 라운드 입찰가
+    public Money clearingPrice(Money roundPrice) {
+        return previousRoundPrice != null ? previousRoundPrice : roundPrice;
+    }
+}
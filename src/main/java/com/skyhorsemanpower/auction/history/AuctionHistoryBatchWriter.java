@@ -0,0 +1,300 @@
+package com.skyhorsemanpower.auction.history;
+
+import com.mongodb.bulk.BulkWriteError;
+import com.skyhorsemanpower.auction.common.exception.CustomException;
+import com.skyhorsemanpower.auction.common.exception.ResponseStatus;
+import com.skyhorsemanpower.auction.domain.AuctionHistory;
+import com.skyhorsemanpower.auction.repository.AuctionHistoryReactiveRepository;
+import com.skyhorsemanpower.auction.repository.AuctionHistoryRepository;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+
+// auction_history 그룹 커밋
+// 짧은 시간(window) 동안 또는 최대 개수(max-size)까지 모은 입찰 이력을 unordered insertMany 한 번으로 저장한다.
+// 호출자는 자신이 포함된 배치가 저장된 뒤에 응답을 받는다.
+// 제한 시간(timeout-ms)이 지나 호출자가 포기한 이력은 저장하지 않으며, 종료 시 남은 이력은 실패 처리한다.
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AuctionHistoryBatchWriter {
+    private static final int DUPLICATE_KEY_CODE = 11000;
+
+    private final AuctionHistoryRepository auctionHistoryRepository;
+    private final AuctionHistoryReactiveRepository auctionHistoryReactiveRepository;
+    private final MongoTemplate mongoTemplate;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${auction.history-batch.enabled:false}")
+    private boolean enabled;
+
+    @Value("${auction.history-batch.window-ms:5}")
+    private long windowMs;
+
+    @Value("${auction.history-batch.max-size:128}")
+    private int maxSize;
+
+    @Value("${auction.history-batch.timeout-ms:3000}")
+    private long timeoutMs;
+
+    private final BlockingQueue<PendingHistory> queue = new LinkedBlockingQueue<>();
+    private volatile boolean running;
+    private Thread flusher;
+
+    private DistributionSummary flushSize;
+    private Timer flushLatency;
+    private Timer commitLatency;
+
+    @PostConstruct
+    public void init() {
+        flushSize = DistributionSummary.builder("auction.history.batch.size")
+                .description("한 번에 저장한 입찰 이력 수")
+                .register(meterRegistry);
+        flushLatency = Timer.builder("auction.history.batch.flush")
+                .description("insertMany 소요 시간")
+                .register(meterRegistry);
+        commitLatency = Timer.builder("auction.history.batch.commit")
+                .description("입찰 이력 요청부터 저장 완료까지 소요 시간")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+
+        if (!enabled) return;
+
+        running = true;
+        flusher = new Thread(this::run, "auction-history-flusher");
+        flusher.setDaemon(true);
+        flusher.start();
+    }
+
+    // 남은 이력을 모두 저장한 뒤 종료, 제한 시간 안에 저장하지 못한 이력은 실패 처리
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        running = false;
+        if (flusher != null) {
+            flusher.join(timeoutMs);
+        }
+        failRemaining();
+    }
+
+    // 입찰 이력 저장, 배치 모드에서는 배치가 저장될 때까지 대기
+    public void save(AuctionHistory auctionHistory) {
+        if (!enabled) {
+            auctionHistoryRepository.save(auctionHistory);
+            return;
+        }
+
+        PendingHistory pendingHistory = enqueue(auctionHistory);
+        try {
+            try {
+                pendingHistory.future.get(timeoutMs, TimeUnit.MILLISECONDS);
+            } catch (TimeoutException e) {
+                // 아직 배치에 담기지 않았으면 취소, 이미 저장 중이면 결과를 기다린다.
+                if (pendingHistory.cancel()) throw new CustomException(ResponseStatus.BIDDING_TIMEOUT);
+                pendingHistory.future.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CustomException(ResponseStatus.INTERNAL_SERVER_ERROR);
+        } catch (ExecutionException e) {
+            // 같은 라운드 중복 입찰(auction_bidder_round unique 인덱스)은 호출자가 구분할 수 있도록 그대로 전달
+            if (e.getCause() instanceof DuplicateKeyException duplicateKeyException) throw duplicateKeyException;
+            if (e.getCause() instanceof CustomException customException) throw customException;
+            throw new CustomException(ResponseStatus.MONGODB_ERROR);
+        }
+    }
+
+    // 스레드를 점유하지 않고 저장 완료를 알린다.
+    public Mono<Void> saveReactive(AuctionHistory auctionHistory) {
+        if (!enabled) {
+            return auctionHistoryReactiveRepository.save(auctionHistory).then();
+        }
+
+        return Mono.defer(() -> {
+            PendingHistory pendingHistory = enqueue(auctionHistory);
+            // timeout이 future를 취소하지 않도록 suppressCancel
+            return Mono.fromFuture(pendingHistory.future, true)
+                    .timeout(Duration.ofMillis(timeoutMs), Mono.defer(() -> pendingHistory.cancel()
+                            ? Mono.error(new CustomException(ResponseStatus.BIDDING_TIMEOUT))
+                            : Mono.fromFuture(pendingHistory.future, true)));
+        });
+    }
+
+    // 저장을 기다리지 않고 큐에 넣는다, 같은 패키지 테스트에서 배치 상태를 만들 때 사용
+    CompletableFuture<Void> write(AuctionHistory auctionHistory) {
+        return enqueue(auctionHistory).future;
+    }
+
+    private PendingHistory enqueue(AuctionHistory auctionHistory) {
+        PendingHistory pendingHistory = new PendingHistory(auctionHistory,
+                System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMs));
+        if (!running) {
+            pendingHistory.fail(notRunning());
+            return pendingHistory;
+        }
+        queue.offer(pendingHistory);
+        // 확인과 추가 사이에 종료됐으면 flusher가 처리하지 않으므로 직접 실패 처리
+        if (!running) failRemaining();
+        return pendingHistory;
+    }
+
+    private void run() {
+        List<PendingHistory> batch = new ArrayList<>(maxSize);
+        long windowNanos = TimeUnit.MILLISECONDS.toNanos(windowMs);
+
+        while (running || !queue.isEmpty()) {
+            try {
+                PendingHistory first = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) continue;
+                batch.add(first);
+
+                // 첫 이력이 들어온 시점부터 window 동안 모은다.
+                long deadline = System.nanoTime() + windowNanos;
+                while (batch.size() < maxSize) {
+                    long remaining = deadline - System.nanoTime();
+                    if (remaining <= 0) break;
+                    PendingHistory next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+                    if (next == null) break;
+                    batch.add(next);
+                }
+
+                flush(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                running = false;
+            } catch (Exception e) {
+                log.warn("auction_history flush loop error >>> {}", e.getMessage());
+            } finally {
+                batch.clear();
+            }
+        }
+        failRemaining();
+    }
+
+    // 저장되지 못하고 남은 이력은 호출자가 기다리지 않도록 실패 처리
+    private void failRemaining() {
+        PendingHistory pendingHistory;
+        int failed = 0;
+        while ((pendingHistory = queue.poll()) != null) {
+            if (pendingHistory.fail(notRunning())) failed++;
+        }
+        if (failed > 0) {
+            log.warn("auction_history writer stopped, pending histories failed >>> {}", failed);
+        }
+    }
+
+    private void flush(List<PendingHistory> batch) {
+        // 호출자가 이미 포기했거나(cancel) 제한 시간이 지난 이력은 저장하지 않는다.
+        long now = System.nanoTime();
+        List<PendingHistory> live = new ArrayList<>(batch.size());
+        int expired = 0;
+        for (PendingHistory pending : batch) {
+            if (now - pending.deadline > 0) {
+                if (pending.fail(new CustomException(ResponseStatus.BIDDING_TIMEOUT))) expired++;
+            } else if (pending.take()) {
+                live.add(pending);
+            }
+        }
+        if (expired > 0) {
+            log.warn("auction_history expired before flush >>> {}", expired);
+        }
+        if (live.isEmpty()) return;
+
+        List<AuctionHistory> auctionHistories = live.stream().map(pending -> pending.auctionHistory).toList();
+        Map<Integer, Throwable> failures = Map.of();
+        Throwable batchFailure = null;
+
+        Timer.Sample sample = Timer.start(meterRegistry);
+        try {
+            mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, AuctionHistory.class)
+                    .insert(auctionHistories)
+                    .execute();
+        } catch (BulkOperationException e) {
+            // unordered 이므로 실패한 이력만 실패 처리
+            failures = e.getErrors().stream()
+                    .collect(Collectors.toMap(BulkWriteError::getIndex, AuctionHistoryBatchWriter::toException,
+                            (a, b) -> a));
+        } catch (Exception e) {
+            batchFailure = e;
+        } finally {
+            sample.stop(flushLatency);
+            flushSize.record(live.size());
+        }
+
+        for (int i = 0; i < live.size(); i++) {
+            PendingHistory pending = live.get(i);
+            Throwable failure = batchFailure != null ? batchFailure : failures.get(i);
+            if (failure == null) {
+                pending.future.complete(null);
+            } else {
+                pending.future.completeExceptionally(failure);
+            }
+            commitLatency.record(System.nanoTime() - pending.enqueuedAt, TimeUnit.NANOSECONDS);
+        }
+
+        if (batchFailure != null) {
+            log.warn("auction_history batch failed >>> {}", batchFailure.getMessage());
+        } else if (!failures.isEmpty()) {
+            log.warn("auction_history batch partially failed >>> {} / {}", failures.size(), live.size());
+        }
+    }
+
+    private static Throwable toException(BulkWriteError error) {
+        if (error.getCode() == DUPLICATE_KEY_CODE) {
+            return new DuplicateKeyException(error.getMessage());
+        }
+        return new IllegalStateException(error.getMessage());
+    }
+
+    private static IllegalStateException notRunning() {
+        return new IllegalStateException("auction history writer is not running");
+    }
+
+    // 배치에 담기(take)와 호출자 취소(cancel)는 한쪽만 성공한다.
+    private static class PendingHistory {
+        private final AuctionHistory auctionHistory;
+        private final CompletableFuture<Void> future = new CompletableFuture<>();
+        private final AtomicBoolean settled = new AtomicBoolean(false);
+        private final long enqueuedAt = System.nanoTime();
+        private final long deadline;
+
+        private PendingHistory(AuctionHistory auctionHistory, long deadline) {
+            this.auctionHistory = auctionHistory;
+            this.deadline = deadline;
+        }
+
+        private boolean take() {
+            return settled.compareAndSet(false, true);
+        }
+
+        private boolean cancel() {
+            if (!settled.compareAndSet(false, true)) return false;
+            future.completeExceptionally(new CustomException(ResponseStatus.BIDDING_TIMEOUT));
+            return true;
+        }
+
+        private boolean fail(Throwable failure) {
+            if (!settled.compareAndSet(false, true)) return false;
+            future.completeExceptionally(failure);
+            return true;
+        }
+    }
+}
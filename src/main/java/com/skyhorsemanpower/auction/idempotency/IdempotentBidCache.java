@@ -0,0 +1,147 @@
+package com.skyhorsemanpower.auction.idempotency;
+
+import com.skyhorsemanpower.auction.common.exception.CustomException;
+import com.skyhorsemanpower.auction.common.exception.ResponseStatus;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.*;
+import java.util.function.Supplier;
+
+// Idempotency-Key 기반 입찰 결과 캐시
+// (uuid, key)마다 첫 요청만 입찰을 처리하고, 재시도와 동시에 들어온 중복 요청은 같은 결과를 받는다.
+// 예외로 끝난 요청은 캐시하지 않으므로 재시도 시 다시 처리된다.
+@Slf4j
+@Component
+public class IdempotentBidCache {
+
+    @Value("${auction.idempotency.max-size:10000}")
+    private int maxSize;
+
+    @Value("${auction.idempotency.ttl-ms:60000}")
+    private long ttlMs;
+
+    @Value("${auction.idempotency.wait-timeout-ms:5000}")
+    private long waitTimeoutMs;
+
+    // 삽입 순서로 유지하고 max-size를 넘으면 가장 오래된 결과부터 제거
+    private final Map<CacheKey, Entry> entries = new LinkedHashMap<>(16, 0.75f, false) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<CacheKey, Entry> eldest) {
+            return size() > maxSize;
+        }
+    };
+
+    public Boolean execute(String uuid, String idempotencyKey, Supplier<Boolean> bidding) {
+        if (idempotencyKey == null) return bidding.get();
+
+        CacheKey cacheKey = new CacheKey(uuid, idempotencyKey);
+        Entry entry = new Entry();
+        Entry existing = putIfAbsent(cacheKey, entry);
+        if (existing != null) {
+            log.debug("Idempotent bid replayed >>> uuid: {}, key: {}", uuid, idempotencyKey);
+            return await(existing.future);
+        }
+
+        try {
+            Boolean result = bidding.get();
+            entry.future.complete(result);
+            return result;
+        } catch (RuntimeException e) {
+            discard(cacheKey, entry, e);
+            throw e;
+        }
+    }
+
+    public Mono<Boolean> executeReactive(String uuid, String idempotencyKey, Supplier<Mono<Boolean>> bidding) {
+        if (idempotencyKey == null) return bidding.get();
+
+        return Mono.defer(() -> {
+            CacheKey cacheKey = new CacheKey(uuid, idempotencyKey);
+            Entry entry = new Entry();
+            Entry existing = putIfAbsent(cacheKey, entry);
+            if (existing != null) {
+                log.debug("Idempotent bid replayed >>> uuid: {}, key: {}", uuid, idempotencyKey);
+                // 대기 중인 요청이 취소되어도 원래 요청에는 영향이 없도록 사본을 기다린다.
+                return Mono.fromFuture(existing.future.copy())
+                        .timeout(Duration.ofMillis(waitTimeoutMs),
+                                Mono.error(() -> new CustomException(ResponseStatus.BIDDING_TIMEOUT)));
+            }
+
+            return bidding.get()
+                    .doOnNext(entry.future::complete)
+                    .doOnError(e -> discard(cacheKey, entry, e))
+                    .doOnCancel(() -> discard(cacheKey, entry, new CancellationException("bidding cancelled")));
+        });
+    }
+
+    // 유효한 결과 또는 처리 중인 요청이 있으면 반환, 없으면 entry를 등록하고 null 반환
+    private Entry putIfAbsent(CacheKey cacheKey, Entry entry) {
+        synchronized (entries) {
+            Entry existing = entries.get(cacheKey);
+            if (existing != null && !existing.isExpired(ttlMs)) return existing;
+            entries.remove(cacheKey);
+            entries.put(cacheKey, entry);
+            return null;
+        }
+    }
+
+    private void discard(CacheKey cacheKey, Entry entry, Throwable error) {
+        synchronized (entries) {
+            entries.remove(cacheKey, entry);
+        }
+        entry.future.completeExceptionally(error);
+    }
+
+    private Boolean await(CompletableFuture<Boolean> future) {
+        try {
+            return future.get(waitTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            throw new CustomException(ResponseStatus.BIDDING_TIMEOUT);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CustomException(ResponseStatus.INTERNAL_SERVER_ERROR);
+        } catch (ExecutionException e) {
+            // 원래 요청과 같은 예외로 응답
+            if (e.getCause() instanceof RuntimeException runtimeException) throw runtimeException;
+            throw new CustomException(ResponseStatus.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    private static class CacheKey {
+        private final String uuid;
+        private final String idempotencyKey;
+
+        private CacheKey(String uuid, String idempotencyKey) {
+            this.uuid = uuid;
+            this.idempotencyKey = idempotencyKey;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof CacheKey cacheKey)) return false;
+            return Objects.equals(uuid, cacheKey.uuid) && Objects.equals(idempotencyKey, cacheKey.idempotencyKey);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(uuid, idempotencyKey);
+        }
+    }
+
+    private static class Entry {
+        private final CompletableFuture<Boolean> future = new CompletableFuture<>();
+        private final long createdAt = System.nanoTime();
+
+        private boolean isExpired(long ttlMs) {
+            return System.nanoTime() - createdAt > TimeUnit.MILLISECONDS.toNanos(ttlMs);
+        }
+    }
+}
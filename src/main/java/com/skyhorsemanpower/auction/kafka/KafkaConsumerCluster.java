@@ -1,9 +1,9 @@
 package com.skyhorsemanpower.auction.kafka;
 
-import com.skyhorsemanpower.auction.config.QuartzJobConfig;
+import com.skyhorsemanpower.auction.close.AuctionCloseScheduler;
 import com.skyhorsemanpower.auction.domain.RoundInfo;
 import com.skyhorsemanpower.auction.kafka.data.dto.InitialAuctionDto;
-import com.skyhorsemanpower.auction.repository.RoundInfoRepository;
+import com.skyhorsemanpower.auction.round.RoundInfoStore;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.kafka.annotation.KafkaListener;
@@ -19,8 +19,8 @@ import java.util.LinkedHashMap;
 @RequiredArgsConstructor
 @Component
 public class KafkaConsumerCluster {
-    private final RoundInfoRepository roundInfoRepository;
-    private final QuartzJobConfig quartzJobConfig;
+    private final RoundInfoStore roundInfoStore;
+    private final AuctionCloseScheduler auctionCloseScheduler;
 
     @KafkaListener(topics = Topics.Constant.INITIAL_AUCTION, groupId = "${spring.kafka.consumer.group-id}")
     public void initialAuction(@Payload LinkedHashMap<String, Object> message,
@@ -49,11 +49,11 @@ public class KafkaConsumerCluster {
         log.info("InitialAuctionDto >>> {}", initialAuctionDto.toString());
 
         // 초기 round_info 도큐먼트 저장
-        roundInfoRepository.save(RoundInfo.initialRoundInfo(initialAuctionDto));
+        roundInfoStore.save(RoundInfo.initialRoundInfo(initialAuctionDto));
 
         // 경매 마감 스케줄러 등록
         try {
-            quartzJobConfig.schedulerUpdateAuctionStateJob(initialAuctionDto);
+            auctionCloseScheduler.schedule(initialAuctionDto);
         } catch (Exception e1) {
             log.warn(e1.getMessage());
         }
@@ -29,4 +29,20 @@ public class KafkaProducerCluster {
             }
         });
     }
+
+    // 같은 키의 메시지는 같은 파티션에 순서대로 쌓인다.
+    // 입찰마다 호출되므로 성공 로그는 DEBUG로 남긴다.
+    public void sendMessage(String topicName, String key, Object object) {
+        CompletableFuture<SendResult<String, Object>> future =
+            kafkaTemplate.send(topicName, key, object);
+
+        future.whenComplete((result, ex) -> {
+            if (ex == null) {
+                log.debug("producer: success >>> key: {}, offset: {}",
+                    key, result.getRecordMetadata().offset());
+            } else {
+                log.info("producer: failure >>> key: {}, message: {}", key, ex.getMessage());
+            }
+        });
+    }
 }
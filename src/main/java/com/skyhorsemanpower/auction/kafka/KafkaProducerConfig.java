@@ -1,5 +1,6 @@
 package com.skyhorsemanpower.auction.kafka;
 
+import com.skyhorsemanpower.auction.sse.KafkaRoundInfoFeed;
 import org.apache.kafka.clients.admin.NewTopic;
 import org.apache.kafka.clients.producer.ProducerConfig;
 import org.apache.kafka.common.config.TopicConfig;
@@ -7,6 +8,7 @@ import org.apache.kafka.common.serialization.StringSerializer;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
 import org.springframework.kafka.config.TopicBuilder;
 import org.springframework.kafka.core.DefaultKafkaProducerFactory;
 import org.springframework.kafka.core.KafkaTemplate;
@@ -27,6 +29,9 @@ public class KafkaProducerConfig {
         configProps.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapAddress);
         configProps.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
         configProps.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, JsonSerializer.class);
+        // 재시도로 인한 중복, 순서 바뀜 방지(OutboxRelay 재발행은 at-least-once)
+        configProps.put(ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG, true);
+        configProps.put(ProducerConfig.ACKS_CONFIG, "all");
         return new DefaultKafkaProducerFactory<>(configProps);
     }
 
@@ -48,4 +53,14 @@ public class KafkaProducerConfig {
                 .config(TopicConfig.RETENTION_MS_CONFIG, String.valueOf(172800000))
                 .build();
     }
+
+    // 경매별 최신 라운드 정보만 남기면 되므로 auctionUuid 키로 compaction
+    // 라운드 정보를 Kafka로 나누는 프로필에서만 생성
+    @Bean
+    @Profile(KafkaRoundInfoFeed.PROFILE)
+    public NewTopic roundStateTopic() {
+        return TopicBuilder.name(Topics.Constant.ROUND_STATE)
+                .compact()
+                .build();
+    }
 }
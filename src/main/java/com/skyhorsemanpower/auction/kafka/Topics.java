@@ -13,7 +13,8 @@ public enum Topics {
     SUCCESSFUL_BID_ALARM(Constant.SUCCESSFUL_BID_ALARM),
     INITIAL_AUCTION(Constant.INITIAL_AUCTION),
     AUCTION_CLOSE(Constant.AUCTION_CLOSE),
-    ALARM(Constant.ALARM)
+    ALARM(Constant.ALARM),
+    ROUND_STATE(Constant.ROUND_STATE)
     ;
 
     public static class Constant {
@@ -25,6 +26,7 @@ public enum Topics {
         public static final String INITIAL_AUCTION = "initial-auction-topic";
         public static final String AUCTION_CLOSE = "auction-close-topic";
         public static final String ALARM ="alarm-topic";
+        public static final String ROUND_STATE = "auction-round-state-topic";
 
     }
 
@@ -0,0 +1,91 @@
+package com.skyhorsemanpower.auction.kafka.data.dto;
+
+import com.skyhorsemanpower.auction.common.Money;
+import com.skyhorsemanpower.auction.domain.RoundInfo;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+import java.time.LocalDateTime;
+
+// auction-service 인스턴스 사이에 공유하는 경매별 최신 라운드 정보
+@Getter
+@NoArgsConstructor
+@ToString
+public class RoundStateDto {
+    private String auctionUuid;
+    private Integer round;
+    private LocalDateTime roundStartTime;
+    private LocalDateTime roundEndTime;
+    private Money incrementUnit;
+    private Money price;
+    private Boolean isActive;
+    private int numberOfParticipants;
+    private int leftNumberOfParticipants;
+    private LocalDateTime createdAt;
+    private LocalDateTime auctionEndTime;
+    private Boolean isLastRound;
+    private Boolean endStatus;
+    private long sequence;
+
+    @Builder
+    public RoundStateDto(String auctionUuid, Integer round, LocalDateTime roundStartTime,
+                         LocalDateTime roundEndTime, Money incrementUnit, Money price, Boolean isActive,
+                         int numberOfParticipants, int leftNumberOfParticipants, LocalDateTime createdAt,
+                         LocalDateTime auctionEndTime, Boolean isLastRound, Boolean endStatus,
+                         long sequence) {
+        this.auctionUuid = auctionUuid;
+        this.round = round;
+        this.roundStartTime = roundStartTime;
+        this.roundEndTime = roundEndTime;
+        this.incrementUnit = incrementUnit;
+        this.price = price;
+        this.isActive = isActive;
+        this.numberOfParticipants = numberOfParticipants;
+        this.leftNumberOfParticipants = leftNumberOfParticipants;
+        this.createdAt = createdAt;
+        this.auctionEndTime = auctionEndTime;
+        this.isLastRound = isLastRound;
+        this.endStatus = endStatus;
+        this.sequence = sequence;
+    }
+
+    public static RoundStateDto of(RoundInfo roundInfo) {
+        return RoundStateDto.builder()
+                .auctionUuid(roundInfo.getAuctionUuid())
+                .round(roundInfo.getRound())
+                .roundStartTime(roundInfo.getRoundStartTime())
+                .roundEndTime(roundInfo.getRoundEndTime())
+                .incrementUnit(roundInfo.getIncrementUnit())
+                .price(roundInfo.getPrice())
+                .isActive(roundInfo.getIsActive())
+                .numberOfParticipants(roundInfo.getNumberOfParticipants())
+                .leftNumberOfParticipants(roundInfo.getLeftNumberOfParticipants())
+                .createdAt(roundInfo.getCreatedAt())
+                .auctionEndTime(roundInfo.getAuctionEndTime())
+                .isLastRound(roundInfo.getIsLastRound())
+                .endStatus(roundInfo.getEndStatus())
+                .sequence(roundInfo.getSequence())
+                .build();
+    }
+
+    public RoundInfo toRoundInfo() {
+        return RoundInfo.builder()
+                .auctionUuid(auctionUuid)
+                .round(round)
+                .roundStartTime(roundStartTime)
+                .roundEndTime(roundEndTime)
+                .incrementUnit(incrementUnit)
+                .price(price)
+                .isActive(isActive)
+                .numberOfParticipants(numberOfParticipants)
+                .leftNumberOfParticipants(leftNumberOfParticipants)
+                .createdAt(createdAt)
+                .auctionEndTime(auctionEndTime)
+                .isLastRound(isLastRound)
+                .endStatus(endStatus)
+                .sequence(sequence)
+                .build();
+    }
+}
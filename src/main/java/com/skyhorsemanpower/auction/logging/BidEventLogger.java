@@ -0,0 +1,77 @@
+package com.skyhorsemanpower.auction.logging;
+
+import com.skyhorsemanpower.auction.data.dto.OfferBiddingPriceDto;
+import com.skyhorsemanpower.auction.status.BiddingPathEnum;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static net.logstash.logback.argument.StructuredArguments.kv;
+
+// 입찰 한 건당 하나의 요약 로그
+// 검증 단계별 로그는 DEBUG로 내리고, 여기서 key/value 구조로 결과만 남긴다.
+// 거절된 입찰은 경매별로 sample-every 건 중 하나만 남기고, 성공과 실패는 모두 남긴다.
+@Slf4j(topic = "auction.bid")
+@Component
+public class BidEventLogger {
+
+    @Value("${auction.log.bid.rejected-sample-every:100}")
+    private int rejectedSampleEvery;
+
+    private final Map<String, AtomicLong> rejectedCounts = new ConcurrentHashMap<>();
+
+    public void accepted(OfferBiddingPriceDto offerBiddingPriceDto, BiddingPathEnum path, long startedAt) {
+        if (!log.isInfoEnabled()) return;
+        log.info("bid {} {} {} {} {} {} {}",
+                kv("result", "ACCEPTED"),
+                kv("auctionUuid", offerBiddingPriceDto.getAuctionUuid()),
+                kv("biddingUuid", offerBiddingPriceDto.getBiddingUuid()),
+                kv("round", offerBiddingPriceDto.getRound()),
+                kv("price", offerBiddingPriceDto.getBiddingPrice()),
+                kv("path", path),
+                kv("elapsedMicros", elapsedMicros(startedAt)));
+    }
+
+    public void rejected(OfferBiddingPriceDto offerBiddingPriceDto, BiddingPathEnum path, long startedAt) {
+        if (!log.isInfoEnabled()) return;
+
+        long rejected = rejectedCounts.computeIfAbsent(offerBiddingPriceDto.getAuctionUuid(), key -> new AtomicLong())
+                .incrementAndGet();
+        if (rejectedSampleEvery > 1 && rejected % rejectedSampleEvery != 1) return;
+
+        log.info("bid {} {} {} {} {} {} {} {}",
+                kv("result", "REJECTED"),
+                kv("auctionUuid", offerBiddingPriceDto.getAuctionUuid()),
+                kv("biddingUuid", offerBiddingPriceDto.getBiddingUuid()),
+                kv("round", offerBiddingPriceDto.getRound()),
+                kv("price", offerBiddingPriceDto.getBiddingPrice()),
+                kv("path", path),
+                kv("elapsedMicros", elapsedMicros(startedAt)),
+                kv("rejectedTotal", rejected));
+    }
+
+    public void failed(OfferBiddingPriceDto offerBiddingPriceDto, BiddingPathEnum path, long startedAt,
+                       Throwable error) {
+        log.warn("bid {} {} {} {} {} {} {}",
+                kv("result", "FAILED"),
+                kv("auctionUuid", offerBiddingPriceDto.getAuctionUuid()),
+                kv("biddingUuid", offerBiddingPriceDto.getBiddingUuid()),
+                kv("round", offerBiddingPriceDto.getRound()),
+                kv("path", path),
+                kv("elapsedMicros", elapsedMicros(startedAt)),
+                kv("error", error.getMessage()));
+    }
+
+    // 마감된 경매의 샘플링 카운터 제거
+    public void evict(String auctionUuid) {
+        rejectedCounts.remove(auctionUuid);
+    }
+
+    private static long elapsedMicros(long startedAt) {
+        return (System.nanoTime() - startedAt) / 1_000;
+    }
+}
@@ -0,0 +1,195 @@
+package com.skyhorsemanpower.auction.outbox;
+
+import com.skyhorsemanpower.auction.domain.AuctionResult;
+import com.skyhorsemanpower.auction.domain.OutboxMessage;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+// auction_result에 저장된 발행 대기 메시지(outbox)를 Kafka로 발행
+// relay-ms 마다 batch-size 개 도큐먼트를 가져와 메시지를 한꺼번에 보내고, 성공한 메시지만 sent로 표시한다.
+// 여러 인스턴스가 같은 도큐먼트를 동시에 보내지 않도록 도큐먼트마다 lease를 잡는다.
+// 실패한 메시지는 다음 주기에 다시 보낸다(at-least-once).
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OutboxRelay {
+    private final MongoTemplate mongoTemplate;
+    private final KafkaTemplate<String, Object> kafkaTemplate;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${auction.outbox.batch-size:100}")
+    private int batchSize;
+
+    @Value("${auction.outbox.send-timeout-ms:10000}")
+    private long sendTimeoutMs;
+
+    @Value("${auction.outbox.lease-ms:30000}")
+    private long leaseMs;
+
+    private final AtomicLong lagMs = new AtomicLong();
+    private final AtomicLong pending = new AtomicLong();
+    private Counter sentCounter;
+    private Counter failedCounter;
+    private Timer batchTimer;
+
+    @PostConstruct
+    public void init() {
+        Gauge.builder("auction.outbox.lag", lagMs, AtomicLong::get)
+                .description("가장 오래된 발행 대기 메시지의 대기 시간(ms)")
+                .baseUnit("milliseconds")
+                .register(meterRegistry);
+        Gauge.builder("auction.outbox.pending", pending, AtomicLong::get)
+                .description("마지막 주기에 가져온 발행 대기 도큐먼트 수")
+                .register(meterRegistry);
+        sentCounter = Counter.builder("auction.outbox.sent")
+                .description("발행한 outbox 메시지 수")
+                .register(meterRegistry);
+        failedCounter = Counter.builder("auction.outbox.failed")
+                .description("발행에 실패한 outbox 메시지 수")
+                .register(meterRegistry);
+        batchTimer = Timer.builder("auction.outbox.batch")
+                .description("outbox 한 주기 처리 시간")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${auction.outbox.relay-ms:500}")
+    public void relay() {
+        try {
+            batchTimer.record(this::relayBatch);
+        } catch (Exception e) {
+            log.warn("Outbox relay failed >>> {}", e.getMessage());
+        }
+    }
+
+    void relayBatch() {
+        LocalDateTime now = LocalDateTime.now();
+        List<AuctionResult> auctionResults = mongoTemplate.find(pendingQuery(now)
+                        .with(Sort.by(Sort.Direction.ASC, "closedAt"))
+                        .limit(batchSize),
+                AuctionResult.class);
+        pending.set(auctionResults.size());
+        lagMs.set(auctionResults.isEmpty() ? 0
+                : Duration.between(auctionResults.get(0).getClosedAt(), now).toMillis());
+        if (auctionResults.isEmpty()) return;
+
+        // lease를 잡은 도큐먼트의 메시지를 모두 보낸 뒤 한 번에 기다린다.
+        List<AuctionResult> acquired = new ArrayList<>();
+        try {
+            List<PendingSend> pendingSends = new ArrayList<>();
+            for (AuctionResult auctionResult : auctionResults) {
+                if (!acquire(auctionResult, now)) continue;
+                acquired.add(auctionResult);
+                for (OutboxMessage message : auctionResult.getOutbox()) {
+                    if (message.isSent()) continue;
+                    pendingSends.add(new PendingSend(auctionResult, message, send(message)));
+                }
+            }
+
+            for (PendingSend pendingSend : pendingSends) {
+                if (await(pendingSend)) {
+                    markSent(pendingSend.auctionResult, pendingSend.message);
+                    sentCounter.increment();
+                } else {
+                    failedCounter.increment();
+                }
+            }
+        } finally {
+            // 다음 주기에 실패한 메시지를 바로 다시 보낼 수 있도록 lease 해제
+            // 처리 중 오류가 나도 해제하고, 해제하지 못한 lease는 lease-ms가 지나면 풀린다.
+            for (AuctionResult auctionResult : acquired) {
+                release(auctionResult);
+            }
+        }
+    }
+
+    // 같은 경매의 메시지는 auctionUuid 키로 같은 파티션에 순서대로 쌓인다.
+    // send 호출 자체가 실패(직렬화, 메타데이터 조회 시간 초과)해도 같은 주기의 다른 메시지는 계속 보낸다.
+    private CompletableFuture<Boolean> send(OutboxMessage message) {
+        CompletableFuture<?> sent;
+        try {
+            sent = kafkaTemplate.send(message.getTopic(), message.getKey(), message.getPayload());
+        } catch (Exception e) {
+            sent = CompletableFuture.failedFuture(e);
+        }
+        return sent.handle((result, ex) -> {
+            if (ex != null) {
+                log.info("Outbox message send failed >>> key: {}, message: {}", message.getKey(), ex.getMessage());
+            }
+            return ex == null;
+        });
+    }
+
+    private boolean await(PendingSend pendingSend) {
+        try {
+            return pendingSend.sent.get(sendTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (Exception e) {
+            log.info("Outbox message send timeout >>> key: {}", pendingSend.message.getKey());
+            return false;
+        }
+    }
+
+    // 발행하지 않은 메시지가 있고 다른 인스턴스가 발행 중이 아닌 도큐먼트
+    private Query pendingQuery(LocalDateTime now) {
+        return Query.query(Criteria.where("outbox.sent").is(false).orOperator(
+                Criteria.where("outboxLeaseUntil").exists(false),
+                Criteria.where("outboxLeaseUntil").lt(now)));
+    }
+
+    private boolean acquire(AuctionResult auctionResult, LocalDateTime now) {
+        Query query = pendingQuery(now);
+        query.addCriteria(Criteria.where("_id").is(auctionResult.getAuctionResultId()));
+        return mongoTemplate.updateFirst(query,
+                new Update().set("outboxLeaseUntil", now.plusNanos(leaseMs * 1_000_000)),
+                AuctionResult.class).getModifiedCount() > 0;
+    }
+
+    private void release(AuctionResult auctionResult) {
+        try {
+            mongoTemplate.updateFirst(Query.query(Criteria.where("_id").is(auctionResult.getAuctionResultId())),
+                    new Update().unset("outboxLeaseUntil"), AuctionResult.class);
+        } catch (Exception e) {
+            log.warn("Outbox lease release failed >>> {}, {}", auctionResult.getAuctionResultId(), e.getMessage());
+        }
+    }
+
+    private void markSent(AuctionResult auctionResult, OutboxMessage message) {
+        mongoTemplate.updateFirst(Query.query(Criteria.where("_id").is(auctionResult.getAuctionResultId())
+                        .and("outbox.messageId").is(message.getMessageId())),
+                new Update().set("outbox.$.sent", true).set("outbox.$.sentAt", LocalDateTime.now()),
+                AuctionResult.class);
+    }
+
+    private static class PendingSend {
+        private final AuctionResult auctionResult;
+        private final OutboxMessage message;
+        private final CompletableFuture<Boolean> sent;
+
+        private PendingSend(AuctionResult auctionResult, OutboxMessage message, CompletableFuture<Boolean> sent) {
+            this.auctionResult = auctionResult;
+            this.message = message;
+            this.sent = sent;
+        }
+    }
+}
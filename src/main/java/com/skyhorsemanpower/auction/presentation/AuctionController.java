@@ -1,27 +1,31 @@
 package com.skyhorsemanpower.auction.presentation;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.skyhorsemanpower.auction.application.AuctionService;
 import com.skyhorsemanpower.auction.common.SuccessResponse;
 import com.skyhorsemanpower.auction.common.exception.CustomException;
 import com.skyhorsemanpower.auction.common.exception.ResponseStatus;
-import com.skyhorsemanpower.auction.data.dto.OfferBiddingPriceDto;
+import com.skyhorsemanpower.auction.data.vo.AuctionPagesRequestVo;
 import com.skyhorsemanpower.auction.data.vo.AuctionResultResponseVo;
-import com.skyhorsemanpower.auction.data.vo.OfferBiddingPriceRequestVo;
-import com.skyhorsemanpower.auction.data.vo.RoundInfoResponseVo;
 import com.skyhorsemanpower.auction.domain.RoundInfo;
-import com.skyhorsemanpower.auction.repository.RoundInfoReactiveRepository;
-import com.skyhorsemanpower.auction.repository.RoundInfoRepository;
+import com.skyhorsemanpower.auction.round.RoundInfoStore;
+import com.skyhorsemanpower.auction.sse.RoundInfoBroadcaster;
+import com.skyhorsemanpower.auction.sse.RoundInfoEventEncoder;
+import com.skyhorsemanpower.auction.sse.RoundInfoMultiplexer;
+import com.skyhorsemanpower.auction.sse.SseConnectionRegistry;
+import com.skyhorsemanpower.auction.status.SseEncodingEnum;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.MediaType;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.web.bind.annotation.*;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.SignalType;
-import reactor.core.scheduler.Schedulers;
 
-import java.time.Duration;
+import java.util.List;
 import java.util.concurrent.TimeoutException;
 
 @Slf4j
@@ -32,25 +36,33 @@ import java.util.concurrent.TimeoutException;
 @CrossOrigin(value = "*")
 public class AuctionController {
     private final AuctionService auctionService;
-    private final RoundInfoReactiveRepository roundInfoReactiveRepository;
-    private final RoundInfoRepository roundInfoRepository;
+    private final RoundInfoBroadcaster roundInfoBroadcaster;
+    private final SseConnectionRegistry sseConnectionRegistry;
+    private final ObjectMapper objectMapper;
+    private final RoundInfoStore roundInfoStore;
+    private final RoundInfoMultiplexer roundInfoMultiplexer;
 
-    // 경매 입찰가 제시
-    @PostMapping("/bidding")
-    @Operation(summary = "경매 입찰가 제시", description = "경매 입찰가 제시")
-    public Boolean offerBiddingPrice(
-            @RequestHeader String uuid,
-            @RequestBody OfferBiddingPriceRequestVo offerBiddingPriceRequestVo) {
-        return auctionService.offerBiddingPrice(OfferBiddingPriceDto.voToDto(offerBiddingPriceRequestVo, uuid));
-    }
+    @Value("${auction.sse.snapshot-every:20}")
+    private int snapshotEvery;
 
     // 경매 페이지 API
     @GetMapping(value = "/auction-page/{auctionUuid}", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
-    @Operation(summary = "경매 페이지 API", description = "경매 페이지에 보여줄 데이터 실시간 조회")
-    public Flux<RoundInfoResponseVo> auctionPage(
-            @PathVariable("auctionUuid") String auctionUuid) {
-        Flux<RoundInfoResponseVo> roundInfoResponseVoFlux = roundInfoReactiveRepository.searchRoundInfo(auctionUuid)
-                .subscribeOn(Schedulers.boundedElastic())
+    @Operation(summary = "경매 페이지 API", description = "경매 페이지에 보여줄 데이터 실시간 조회, " +
+            "첫 이벤트는 현재 라운드 정보이고 Last-Event-ID로 재연결하면 놓친 이벤트부터 전송, " +
+            "encoding=delta 이면 snapshot 이벤트 이후 바뀐 필드만 delta 이벤트로 전송")
+    public Flux<ServerSentEvent<Object>> auctionPage(
+            @PathVariable("auctionUuid") String auctionUuid,
+            @RequestParam(value = "encoding", defaultValue = "full") String encoding,
+            @RequestHeader(value = "Last-Event-ID", required = false) Long lastEventId,
+            @RequestHeader(value = "uuid", required = false) String uuid) {
+        // 연결 수 제한을 넘으면 스트림을 열기 전에 거절
+        sseConnectionRegistry.admit(auctionUuid, uuid);
+        RoundInfoEventEncoder encoder = new RoundInfoEventEncoder(SseEncodingEnum.of(encoding), snapshotEvery,
+                objectMapper);
+
+        // 같은 경매의 연결은 하나의 upstream을 공유하고, 느린 연결은 최신 상태만 받는다.
+        Flux<ServerSentEvent<Object>> roundInfoEventFlux = roundInfoBroadcaster.subscribe(auctionUuid, lastEventId)
+                .map(encoder::encode)
                 .doOnError(error -> {
                     if (error instanceof TimeoutException) {
                         log.info("Timeout occurred about SSE!");
@@ -69,12 +81,13 @@ public class AuctionController {
                         }
                 );
 
-        // heartbeat 스트림으로 1분 주기로 확인
-        Flux<RoundInfoResponseVo> heartbeat = Flux.interval(Duration.ofMinutes(1))
-                .map(tick -> new RoundInfoResponseVo());
-
         // 메시지 및 heartbeat 반환
-        return roundInfoResponseVoFlux.mergeWith(heartbeat)
+        // heartbeat는 노드 공용 스케줄러가 이벤트가 없던 연결에만 주석 이벤트로 보낸다.
+        // 느린 연결 강제 종료와 서버 종료 시 정리는 SseConnectionRegistry에서 처리
+        // 연결은 구독할 때 등록하므로, 구독되지 않은 응답은 연결 수를 차지하지 않는다.
+        return Flux.using(() -> sseConnectionRegistry.open(auctionUuid, uuid),
+                        sseConnection -> sseConnection.attach(roundInfoEventFlux),
+                        sseConnectionRegistry::close)
                 .doOnSubscribe(sub -> log.info("Subscribed to roundInfoResponseVo and heartbeat streams"))
                 .doFinally(signalType -> {
                     // 디버그 용 로그
@@ -85,18 +98,39 @@ public class AuctionController {
                     } else {
                         log.info("Connection terminated by signal type: {}", signalType);
                     }
-                    //todo
-                    // 자원 해제 메서드 추가 필요
+                    // upstream 해제는 RoundInfoBroadcaster에서 구독자 수로, 연결 해제는 Flux.using에서 처리
                 });
     }
 
+    // 여러 경매 페이지 API
+    @GetMapping(value = "/auction-pages", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "여러 경매 페이지 API", description = "여러 경매의 라운드 정보를 하나의 연결로 실시간 조회, " +
+            "첫 connection 이벤트로 연결 id를 보내고 이후 round 이벤트에 auctionUuid를 붙여 전송")
+    public Flux<ServerSentEvent<Object>> auctionPages(
+            @RequestParam("auctionUuids") List<String> auctionUuids,
+            @RequestHeader(value = "uuid", required = false) String uuid) {
+        return roundInfoMultiplexer.open(auctionUuids, uuid)
+                .doFinally(signalType -> log.info("Multiplexed connection terminated by signal type: {}", signalType));
+    }
+
+    // 여러 경매 페이지 구독 경매 변경 API
+    @PutMapping("/auction-pages/{connectionId}")
+    @Operation(summary = "여러 경매 페이지 구독 변경 API", description = "재연결 없이 구독할 경매 목록을 변경")
+    public SuccessResponse<Object> updateAuctionPages(
+            @PathVariable("connectionId") String connectionId,
+            @RequestHeader("uuid") String uuid,
+            @RequestBody AuctionPagesRequestVo auctionPagesRequestVo) {
+        roundInfoMultiplexer.update(connectionId, uuid, auctionPagesRequestVo.getAuctionUuids());
+        return new SuccessResponse<>(null);
+    }
+
     // 경매 페이지 최초 진입 시 현재 데이터 조회 API
+    // 경매 페이지 SSE의 첫 이벤트로 대체할 수 있으며, 기존 클라이언트를 위해 유지
     @GetMapping("/initial-auction-page/{auctionUuid}")
     @Operation(summary = "경매 페이지 입장 시 사용되는 API", description = "경매 페이지 최초 진입 시 현재 데이터 조회")
     public SuccessResponse<RoundInfo> initialAuctionPage(
             @PathVariable("auctionUuid") String auctionUuid) {
-        return new SuccessResponse<>(roundInfoRepository.
-                findFirstByAuctionUuidOrderByCreatedAtDesc(auctionUuid).orElseThrow(
+        return new SuccessResponse<>(roundInfoStore.findCurrent(auctionUuid).orElseThrow(
                 () -> new CustomException(ResponseStatus.NO_DATA)));
     }
 
@@ -111,7 +145,8 @@ public class AuctionController {
 
     // 라운드 진행 중에서 대기 중으로 상태 변경
     @PutMapping("/auction-standby-end/{auctionUuid}")
-    @Operation(summary = "경매 라운드 진행 API", description = "대기 시간 끝나서 라운드 진행 중으로 상태 변경")
+    @Operation(summary = "경매 라운드 진행 API", description = "대기 시간 끝나서 라운드 진행 중으로 상태 변경, " +
+            "서버 전환(RoundStartScheduler)을 켜면 호출하지 않아도 roundStartTime에 전환")
     public SuccessResponse<Object> auctionStateChangeTrue(
             @PathVariable("auctionUuid") String auctionUuid) {
         // round_info의 isActive를 true(진행 중)로 변경
@@ -0,0 +1,43 @@
+package com.skyhorsemanpower.auction.presentation;
+
+import com.skyhorsemanpower.auction.admission.BidAdmission;
+import com.skyhorsemanpower.auction.application.AuctionService;
+import com.skyhorsemanpower.auction.data.dto.OfferBiddingPriceDto;
+import com.skyhorsemanpower.auction.data.vo.OfferBiddingPriceRequestVo;
+import com.skyhorsemanpower.auction.idempotency.IdempotentBidCache;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.web.bind.annotation.*;
+
+// 요청 스레드에서 입찰을 처리하는 기본 입찰 API
+@Slf4j
+@RestController
+@RequiredArgsConstructor
+@Profile("!reactive")
+@Tag(name = "경매 서비스", description = "경매 서비스 API")
+@RequestMapping("/api/v1/auction")
+@CrossOrigin(value = "*")
+public class BiddingController {
+    private final AuctionService auctionService;
+    private final BidAdmission bidAdmission;
+    private final IdempotentBidCache idempotentBidCache;
+
+    // 경매 입찰가 제시
+    @PostMapping("/bidding")
+    @Operation(summary = "경매 입찰가 제시", description = "경매 입찰가 제시")
+    public Boolean offerBiddingPrice(
+            @RequestHeader String uuid,
+            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey,
+            @RequestBody OfferBiddingPriceRequestVo offerBiddingPriceRequestVo) {
+        OfferBiddingPriceDto offerBiddingPriceDto = OfferBiddingPriceDto.voToDto(offerBiddingPriceRequestVo, uuid);
+        // 같은 Idempotency-Key의 재시도는 처음 응답을 그대로 반환
+        return idempotentBidCache.execute(uuid, idempotencyKey, () -> {
+            // 성사될 수 없는 입찰은 DB를 거치지 않고 거절
+            if (!bidAdmission.acquire(offerBiddingPriceDto)) return false;
+            return auctionService.offerBiddingPrice(offerBiddingPriceDto);
+        });
+    }
+}
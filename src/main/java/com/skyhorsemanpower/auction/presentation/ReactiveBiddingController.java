@@ -0,0 +1,46 @@
+package com.skyhorsemanpower.auction.presentation;
+
+import com.skyhorsemanpower.auction.admission.BidAdmission;
+import com.skyhorsemanpower.auction.application.ReactiveAuctionService;
+import com.skyhorsemanpower.auction.data.dto.OfferBiddingPriceDto;
+import com.skyhorsemanpower.auction.data.vo.OfferBiddingPriceRequestVo;
+import com.skyhorsemanpower.auction.idempotency.IdempotentBidCache;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+
+// reactive 프로필의 입찰 API
+// Mono를 반환하므로 Mongo 응답을 기다리는 동안 요청 스레드를 반납한다.
+@Slf4j
+@RestController
+@RequiredArgsConstructor
+@Profile("reactive")
+@Tag(name = "경매 서비스", description = "경매 서비스 API")
+@RequestMapping("/api/v1/auction")
+@CrossOrigin(value = "*")
+public class ReactiveBiddingController {
+    private final ReactiveAuctionService reactiveAuctionService;
+    private final BidAdmission bidAdmission;
+    private final IdempotentBidCache idempotentBidCache;
+
+    // 경매 입찰가 제시
+    @PostMapping("/bidding")
+    @Operation(summary = "경매 입찰가 제시", description = "경매 입찰가 제시")
+    public Mono<Boolean> offerBiddingPrice(
+            @RequestHeader String uuid,
+            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey,
+            @RequestBody OfferBiddingPriceRequestVo offerBiddingPriceRequestVo) {
+        OfferBiddingPriceDto offerBiddingPriceDto = OfferBiddingPriceDto.voToDto(offerBiddingPriceRequestVo, uuid);
+        // 같은 Idempotency-Key의 재시도는 처음 응답을 그대로 반환
+        return idempotentBidCache.executeReactive(uuid, idempotencyKey, () ->
+                // 성사될 수 없는 입찰은 DB를 거치지 않고 거절
+                bidAdmission.acquireReactive(offerBiddingPriceDto)
+                        .flatMap(admitted -> admitted
+                                ? reactiveAuctionService.offerBiddingPrice(offerBiddingPriceDto)
+                                : Mono.just(false)));
+    }
+}
@@ -1,12 +1,12 @@
 package com.skyhorsemanpower.auction.repository;
 
 import com.skyhorsemanpower.auction.data.projection.CheckBiddingPriceProjection;
+import com.skyhorsemanpower.auction.data.projection.CloseWinnersProjection;
 import com.skyhorsemanpower.auction.domain.AuctionHistory;
 import org.springframework.data.mongodb.repository.Aggregation;
 import org.springframework.data.mongodb.repository.MongoRepository;
 import org.springframework.stereotype.Repository;
 
-import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -21,9 +21,39 @@ public interface AuctionHistoryRepository extends MongoRepository<AuctionHistory
     })
     Optional<CheckBiddingPriceProjection> findMaxBiddingPriceByAuctionUuid(String auctionUuid);
 
-    List<AuctionHistory> findByAuctionUuidAndRoundOrderByBiddingTime(String auctionUuid, int round);
+    // 경매 마감 낙찰자와 낙찰가
+    // 마지막 라운드 입찰자는 모두 낙찰, 직전 라운드 입찰자를 입찰 순서대로 낙찰 가능 인원 수까지 추가
+    // 낙찰가는 직전 라운드(1라운드 마감이면 마지막 라운드)의 첫 입찰가
+    // ?0 auctionUuid, ?1 마지막 라운드, ?2 직전 라운드(1라운드 마감이면 0), ?3 낙찰 가능 인원 수
+    @Aggregation(pipeline = {
+            "{ '$match': { 'auctionUuid': ?0, 'round': { '$gte': ?2, '$lte': ?1 } } }",
+            "{ '$sort': { 'round': 1, 'biddingTime': 1 } }",
+            "{ '$project': { '_id': 0, 'round': 1, 'biddingUuid': 1, 'biddingPrice': 1 } }",
+            "{ '$group': { '_id': '$round', 'bidders': { '$push': '$biddingUuid' }, " +
+                    "'price': { '$first': '$biddingPrice' } } }",
+            "{ '$group': { '_id': null, 'rounds': { '$push': { 'round': '$_id', 'bidders': '$bidders', " +
+                    "'price': '$price' } } } }",
+            "{ '$project': { " +
+                    "'last': { '$arrayElemAt': [ { '$filter': { 'input': '$rounds', " +
+                    "'cond': { '$eq': [ '$$this.round', ?1 ] } } }, 0 ] }, " +
+                    "'previous': { '$arrayElemAt': [ { '$filter': { 'input': '$rounds', " +
+                    "'cond': { '$eq': [ '$$this.round', ?2 ] } } }, 0 ] } } }",
+            "{ '$project': { '_id': 0, " +
+                    "'memberUuids': { '$reduce': { " +
+                    "'input': { '$ifNull': [ '$previous.bidders', [] ] }, " +
+                    "'initialValue': { '$ifNull': [ '$last.bidders', [] ] }, " +
+                    "'in': { '$cond': [ { '$or': [ { '$in': [ '$$this', '$$value' ] }, " +
+                    "{ '$gte': [ { '$size': '$$value' }, ?3 ] } ] }, " +
+                    "'$$value', { '$concatArrays': [ '$$value', [ '$$this' ] ] } ] } } }, " +
+                    "'price': { '$ifNull': [ '$previous.price', '$last.price' ] } } }"
+    })
+    Optional<CloseWinnersProjection> findCloseWinners(String auctionUuid, int round, int previousRound,
+                                                      long numberOfParticipants);
 
     Optional<AuctionHistory> findByAuctionUuidAndBiddingUuidAndRound(String auctionUuid, String biddingUuid, int round);
 
+    // round_info 갱신 경합에서 진 입찰의 이력 되돌리기, (auctionUuid, biddingUuid, round)는 unique
+    void deleteByAuctionUuidAndBiddingUuidAndRound(String auctionUuid, String biddingUuid, int round);
+
     Optional<AuctionHistory> findFirstByAuctionUuidOrderByBiddingTimeDesc(String auctionUuid);
 }
@@ -1,7 +0,0 @@
-package com.skyhorsemanpower.auction.repository;
-
-import com.skyhorsemanpower.auction.domain.AuctionUnique;
-import org.springframework.data.jpa.repository.JpaRepository;
-
-public interface AuctionUniqueRepository extends JpaRepository<AuctionUnique, Long> {
-}
@@ -0,0 +1,66 @@
+package com.skyhorsemanpower.auction.round;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+// 경매 하나를 담당하는 단일 writer
+// 공유 스레드 풀 위에서 동작하지만 한 경매의 작업은 항상 한 번에 하나씩, 들어온 순서대로 실행된다.
+// close 이후에는 새 작업을 받지 않고, 남은 작업을 모두 처리한 뒤 onTerminated를 한 번 실행한다.
+class AuctionMailbox {
+    private final Queue<Runnable> queue = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean running = new AtomicBoolean(false);
+    private final AtomicBoolean terminated = new AtomicBoolean(false);
+    private final Executor executor;
+    private final Consumer<AuctionMailbox> onTerminated;
+    private volatile boolean closed;
+
+    AuctionMailbox(Executor executor, Consumer<AuctionMailbox> onTerminated) {
+        this.executor = executor;
+        this.onTerminated = onTerminated;
+    }
+
+    // 닫힌 mailbox면 작업을 넣지 않고 false
+    boolean submit(Runnable task) {
+        // closed 확인과 queue 추가를 close와 같은 lock으로 묶어, 닫힌 뒤에 들어온 작업이 남지 않게 한다.
+        synchronized (this) {
+            if (closed) return false;
+            queue.offer(task);
+        }
+        schedule();
+        return true;
+    }
+
+    void close() {
+        synchronized (this) {
+            closed = true;
+        }
+        // 실행 중인 drain이 없으면 여기서 종료 처리까지 진행
+        schedule();
+    }
+
+    private void schedule() {
+        if (running.compareAndSet(false, true)) {
+            executor.execute(this::drain);
+        }
+    }
+
+    private void drain() {
+        try {
+            Runnable task;
+            while ((task = queue.poll()) != null) {
+                task.run();
+            }
+        } finally {
+            running.set(false);
+            // drain 종료 직전에 들어온 작업이 있으면 다시 스케줄링
+            if (!queue.isEmpty()) {
+                schedule();
+            } else if (closed && terminated.compareAndSet(false, true)) {
+                onTerminated.accept(this);
+            }
+        }
+    }
+}
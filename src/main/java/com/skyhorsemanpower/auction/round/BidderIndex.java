@@ -0,0 +1,119 @@
+package com.skyhorsemanpower.auction.round;
+
+import com.skyhorsemanpower.auction.domain.AuctionHistory;
+import com.skyhorsemanpower.auction.domain.RoundInfo;
+import com.skyhorsemanpower.auction.repository.AuctionHistoryRepository;
+import com.skyhorsemanpower.auction.round.data.RoundInfoChangedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 경매별 현재 라운드 입찰자 색인
+// 현재 라운드 중복 입찰 확인은 라운드 입찰자 Set으로 메모리에서 처리하고, 지난 라운드 입찰만 auction_history를 조회한다.
+// 경매당 가장 최근 라운드 하나만 유지하므로 끝난 라운드의 입찰자는 자동으로 제거된다.
+// 색인은 저장된 라운드 정보(RoundInfoChangedEvent, 현재 라운드 조회)로만 다음 라운드로 넘어가며,
+// 요청에 담긴 라운드로는 넘기지 않는다.
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BidderIndex {
+    private final AuctionHistoryRepository auctionHistoryRepository;
+    private final MongoTemplate mongoTemplate;
+    private final RoundInfoStore roundInfoStore;
+
+    private final Map<String, RoundBidders> index = new ConcurrentHashMap<>();
+
+    // 서버 시작 시 진행 중인 경매의 현재 라운드 입찰자 복구
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        for (RoundInfo roundInfo : roundInfoStore.findAllInProgress()) {
+            advance(roundInfo.getAuctionUuid(), roundInfo.getRound());
+        }
+        log.info("Bidder index rebuilt >>> {} auctions", index.size());
+    }
+
+    // 저장된 라운드 정보로만 색인을 다음 라운드로 옮기고, 마감된 경매는 제거
+    @EventListener
+    public void onRoundInfoChanged(RoundInfoChangedEvent event) {
+        RoundInfo roundInfo = event.getRoundInfo();
+        if (Boolean.TRUE.equals(roundInfo.getEndStatus())) {
+            evict(roundInfo.getAuctionUuid());
+            return;
+        }
+        advance(roundInfo.getAuctionUuid(), roundInfo.getRound());
+    }
+
+    // 라운드 입찰자로 선점, 이미 이번 라운드에 입찰했거나 아직 시작되지 않은 라운드면 false
+    // 선점 후 입찰이 성사되지 않으면 release로 되돌린다.
+    public boolean claim(String auctionUuid, int round, String biddingUuid) {
+        RoundBidders roundBidders = index.get(auctionUuid);
+
+        // 색인에 없거나 색인보다 높은 라운드, 다른 인스턴스가 라운드를 넘겼을 수 있으므로 저장된 현재 라운드로 확인
+        if (roundBidders == null || roundBidders.round < round) {
+            Optional<RoundInfo> current = roundInfoStore.findCurrent(auctionUuid);
+            if (current.isEmpty() || current.get().getRound() < round) return false;
+            roundBidders = advance(auctionUuid, current.get().getRound());
+        }
+
+        // 이미 지난 라운드에 대한 입찰, 색인이 없으므로 DB로 확인
+        if (roundBidders.round != round) {
+            return auctionHistoryRepository.findByAuctionUuidAndBiddingUuidAndRound(
+                    auctionUuid, biddingUuid, round).isEmpty();
+        }
+
+        // 선점 후 되돌린 입찰자는 Set에서 빠지므로 다시 선점할 수 있다.
+        return roundBidders.bidders.add(biddingUuid);
+    }
+
+    public void release(String auctionUuid, int round, String biddingUuid) {
+        RoundBidders roundBidders = index.get(auctionUuid);
+        if (roundBidders != null && roundBidders.round == round) {
+            roundBidders.bidders.remove(biddingUuid);
+        }
+    }
+
+    // 마감된 경매 제거
+    public void evict(String auctionUuid) {
+        index.remove(auctionUuid);
+    }
+
+    // 새 라운드로 넘어가면 이전 라운드 입찰자는 버린다.
+    // 입찰자 조회는 map 밖에서 하고, 그 사이 더 높은 라운드가 먼저 반영됐으면 그대로 둔다.
+    private RoundBidders advance(String auctionUuid, int round) {
+        RoundBidders current = index.get(auctionUuid);
+        if (current != null && current.round >= round) return current;
+
+        RoundBidders loaded = load(auctionUuid, round);
+        return index.merge(auctionUuid, loaded, (existing, fresh) -> existing.round >= fresh.round ? existing : fresh);
+    }
+
+    private RoundBidders load(String auctionUuid, int round) {
+        RoundBidders roundBidders = new RoundBidders(round);
+
+        Query query = Query.query(Criteria.where("auctionUuid").is(auctionUuid).and("round").is(round));
+        query.fields().include("biddingUuid");
+        for (AuctionHistory auctionHistory : mongoTemplate.find(query, AuctionHistory.class)) {
+            roundBidders.bidders.add(auctionHistory.getBiddingUuid());
+        }
+        return roundBidders;
+    }
+
+    private static class RoundBidders {
+        private final int round;
+        private final Set<String> bidders = ConcurrentHashMap.newKeySet();
+
+        private RoundBidders(int round) {
+            this.round = round;
+        }
+    }
+}
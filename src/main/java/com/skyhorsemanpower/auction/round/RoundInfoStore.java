@@ -0,0 +1,381 @@
+package com.skyhorsemanpower.auction.round;
+
+import com.skyhorsemanpower.auction.data.dto.OfferBiddingPriceDto;
+import com.skyhorsemanpower.auction.domain.RoundInfo;
+import com.skyhorsemanpower.auction.domain.WinnerLedger;
+import com.skyhorsemanpower.auction.repository.RoundInfoRepository;
+import com.skyhorsemanpower.auction.round.data.RoundInfoChangedEvent;
+import com.skyhorsemanpower.auction.status.RoundInfoModeEnum;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.types.Decimal128;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.data.mongodb.core.schema.JsonSchemaObject;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+// round_info 저장 방식을 감싸는 컴포넌트
+// APPEND: 상태가 바뀔 때마다 round_info 도큐먼트 추가, createdAt 역순 정렬로 최신 상태 조회
+// CURRENT_STATE: 경매당 round_state 도큐먼트 하나를 조건부 findAndModify로 갱신하고,
+//                round_info에는 변경 이력만 경매별 sequence 순서로 추가(tailable 구독자는 그대로 동작)
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RoundInfoStore {
+    public static final String CURRENT_STATE_COLLECTION = "round_state";
+    public static final String HISTORY_COLLECTION = "round_info";
+
+    private final RoundInfoRepository roundInfoRepository;
+    private final MongoTemplate mongoTemplate;
+    private final ReactiveMongoTemplate reactiveMongoTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${auction.round-info.mode:APPEND}")
+    private RoundInfoModeEnum mode;
+
+    // 경매별로 round_info 이력에 마지막으로 추가한 sequence
+    private final Map<String, Long> appendedSequences = new ConcurrentHashMap<>();
+    // 경매별 마지막 이력 추가, 끝나면 제거한다.
+    private final Map<String, CompletableFuture<Void>> historyAppends = new ConcurrentHashMap<>();
+
+    public boolean isCurrentStateMode() {
+        return mode == RoundInfoModeEnum.CURRENT_STATE;
+    }
+
+    // 경매의 현재 라운드 정보 조회
+    public Optional<RoundInfo> findCurrent(String auctionUuid) {
+        if (isCurrentStateMode()) {
+            return Optional.ofNullable(mongoTemplate.findOne(
+                    Query.query(Criteria.where("auctionUuid").is(auctionUuid)),
+                    RoundInfo.class, CURRENT_STATE_COLLECTION));
+        }
+        return roundInfoRepository.findFirstByAuctionUuidOrderByCreatedAtDesc(auctionUuid);
+    }
+
+    // 마감되지 않은 경매들의 현재 라운드 정보
+    public List<RoundInfo> findAllInProgress() {
+        if (isCurrentStateMode()) {
+            return mongoTemplate.find(Query.query(Criteria.where("endStatus").is(false)),
+                    RoundInfo.class, CURRENT_STATE_COLLECTION);
+        }
+
+        Aggregation aggregation = Aggregation.newAggregation(
+                Aggregation.match(Criteria.where("auctionEndTime").gt(LocalDateTime.now())),
+                Aggregation.sort(Sort.Direction.DESC, "createdAt"),
+                Aggregation.group("auctionUuid").first(Aggregation.ROOT).as("latest"),
+                Aggregation.replaceRoot("latest"),
+                Aggregation.match(Criteria.where("endStatus").is(false))
+        ).withOptions(Aggregation.newAggregationOptions().allowDiskUse(true).build());
+
+        return mongoTemplate.aggregate(aggregation, HISTORY_COLLECTION, RoundInfo.class).getMappedResults();
+    }
+
+    // 경매의 현재 라운드 정보 조회, 조회 동안 스레드를 점유하지 않는다.
+    public Mono<RoundInfo> findCurrentReactive(String auctionUuid) {
+        Query query = Query.query(Criteria.where("auctionUuid").is(auctionUuid));
+        if (isCurrentStateMode()) {
+            return reactiveMongoTemplate.findOne(query, RoundInfo.class, CURRENT_STATE_COLLECTION);
+        }
+        return reactiveMongoTemplate.findOne(query.with(Sort.by(Sort.Direction.DESC, "createdAt")).limit(1),
+                RoundInfo.class, HISTORY_COLLECTION);
+    }
+
+    // 라운드 정보 저장
+    public void save(RoundInfo roundInfo) {
+        if (!isCurrentStateMode()) {
+            roundInfoRepository.save(roundInfo);
+            changed(roundInfo);
+            return;
+        }
+
+        try {
+            mongoTemplate.upsert(staleGuardQuery(roundInfo), stateUpdate(roundInfo),
+                    RoundInfo.class, CURRENT_STATE_COLLECTION);
+        } catch (DuplicateKeyException e) {
+            logStale(roundInfo);
+            return;
+        }
+        changed(roundInfo);
+    }
+
+    public Mono<Void> saveReactive(RoundInfo roundInfo) {
+        if (!isCurrentStateMode()) {
+            return reactiveMongoTemplate.save(roundInfo, HISTORY_COLLECTION)
+                    .doOnNext(this::changed)
+                    .then();
+        }
+
+        return reactiveMongoTemplate.upsert(staleGuardQuery(roundInfo), stateUpdate(roundInfo),
+                        RoundInfo.class, CURRENT_STATE_COLLECTION)
+                .flatMap(result -> changedReactive(roundInfo))
+                .onErrorResume(DuplicateKeyException.class, e -> {
+                    logStale(roundInfo);
+                    return Mono.empty();
+                })
+                .then();
+    }
+
+    // 대기 중인 round를 진행 중으로 전환, 이미 전환됐거나 다음 라운드로 넘어갔으면 빈 값
+    // CURRENT_STATE 모드는 isActive만 조건부로 바꾸므로 같은 시점의 입찰 반영을 덮어쓰지 않는다.
+    // APPEND 모드는 (auctionUuid, sequence) unique 인덱스로 같은 대기 상태에서 한 번만 추가되고,
+    // 다른 인스턴스가 먼저 추가했으면(중복 키) 이미 전환된 것으로 본다.
+    public Optional<RoundInfo> activate(String auctionUuid, int round) {
+        if (!isCurrentStateMode()) {
+            Optional<RoundInfo> activated = findCurrent(auctionUuid)
+                    .filter(roundInfo -> roundInfo.isStandbyOf(round))
+                    .map(RoundInfo::setIsActiveTrue);
+            try {
+                activated.ifPresent(this::save);
+            } catch (DuplicateKeyException e) {
+                log.debug("Round already active >>> auctionUuid: {}, round: {}", auctionUuid, round);
+                return Optional.empty();
+            }
+            return activated;
+        }
+
+        RoundInfo activated = mongoTemplate.findAndModify(
+                Query.query(Criteria.where("auctionUuid").is(auctionUuid)
+                        .and("round").is(round)
+                        .and("isActive").is(false)
+                        .and("endStatus").is(false)),
+                new Update()
+                        .set("isActive", true)
+                        .inc("sequence", 1)
+                        .set("createdAt", LocalDateTime.now()),
+                FindAndModifyOptions.options().returnNew(true), RoundInfo.class, CURRENT_STATE_COLLECTION);
+        if (activated == null) return Optional.empty();
+
+        changed(activated);
+        return Optional.of(activated);
+    }
+
+    // 입찰 가능한 경우에만 남은 인원을 1 줄인다.
+    // 시간, 라운드, 입찰가, 남은 인원 조건을 한 번의 findAndModify로 확인하므로 정렬 조회와 경합이 없다.
+    // 입찰이 불가능하면 빈 값을 반환한다.
+    public Optional<RoundInfo> consumeSlot(OfferBiddingPriceDto offerBiddingPriceDto) {
+        LocalDateTime now = LocalDateTime.now();
+        RoundInfo roundInfo = mongoTemplate.findAndModify(slotQuery(offerBiddingPriceDto, now),
+                slotUpdate(offerBiddingPriceDto, now),
+                FindAndModifyOptions.options().returnNew(true), RoundInfo.class, CURRENT_STATE_COLLECTION);
+        if (roundInfo == null) return Optional.empty();
+
+        // 마지막 자리를 채운 입찰이 다음 라운드로 전환
+        if (roundInfo.getLeftNumberOfParticipants() == 0) {
+            return Optional.of(advanceRound(roundInfo));
+        }
+
+        changed(roundInfo);
+        return Optional.of(roundInfo);
+    }
+
+    // 입찰 이력 저장에 실패한 입찰이 차지한 자리를 되돌린다.
+    // 같은 라운드의 입찰자 장부에 남아 있을 때만 되돌리므로, 이미 다음 라운드로 넘어갔으면 false
+    // 남은 인원이 늘어나는 유일한 경로이며, 인원이 마감된(0) 라운드에는 되돌리지 않는다.
+    // 마지막 자리를 차지한 입찰은 같은 호출에서 다음 라운드로 넘어가므로 보통은 이 조건에 걸리지 않고,
+    // BidAdmission은 인원 마감으로 본 라운드에 자리가 다시 생기지 않는다고 가정한다.
+    public boolean returnSlot(OfferBiddingPriceDto offerBiddingPriceDto) {
+        RoundInfo roundInfo = mongoTemplate.findAndModify(
+                Query.query(Criteria.where("auctionUuid").is(offerBiddingPriceDto.getAuctionUuid())
+                        .and("round").is(offerBiddingPriceDto.getRound())
+                        .and("leftNumberOfParticipants").gt(0)
+                        .and("winnerLedger.roundBidders").is(offerBiddingPriceDto.getBiddingUuid())),
+                new Update()
+                        .inc("leftNumberOfParticipants", 1)
+                        .inc("sequence", 1)
+                        .pull("winnerLedger.roundBidders", offerBiddingPriceDto.getBiddingUuid())
+                        .set("createdAt", LocalDateTime.now()),
+                FindAndModifyOptions.options().returnNew(true), RoundInfo.class, CURRENT_STATE_COLLECTION);
+        if (roundInfo == null) {
+            log.warn("Slot not returned, round already advanced >>> auctionUuid: {}, round: {}, biddingUuid: {}",
+                    offerBiddingPriceDto.getAuctionUuid(), offerBiddingPriceDto.getRound(),
+                    offerBiddingPriceDto.getBiddingUuid());
+            return false;
+        }
+
+        changed(roundInfo);
+        return true;
+    }
+
+    public Mono<RoundInfo> consumeSlotReactive(OfferBiddingPriceDto offerBiddingPriceDto) {
+        LocalDateTime now = LocalDateTime.now();
+        return reactiveMongoTemplate.findAndModify(slotQuery(offerBiddingPriceDto, now),
+                        slotUpdate(offerBiddingPriceDto, now),
+                        FindAndModifyOptions.options().returnNew(true), RoundInfo.class, CURRENT_STATE_COLLECTION)
+                .flatMap(roundInfo -> {
+                    if (roundInfo.getLeftNumberOfParticipants() == 0) {
+                        return advanceRoundReactive(roundInfo);
+                    }
+                    return changedReactive(roundInfo);
+                });
+    }
+
+    private RoundInfo advanceRound(RoundInfo filledRoundInfo) {
+        RoundInfo advancedRoundInfo = mongoTemplate.findAndModify(advanceQuery(filledRoundInfo),
+                stateUpdate(RoundInfo.nextRoundUpdate(filledRoundInfo)),
+                FindAndModifyOptions.options().returnNew(true), RoundInfo.class, CURRENT_STATE_COLLECTION);
+        if (advancedRoundInfo == null) {
+            logAlreadyAdvanced(filledRoundInfo);
+            return filledRoundInfo;
+        }
+
+        changed(advancedRoundInfo);
+        return advancedRoundInfo;
+    }
+
+    private Mono<RoundInfo> advanceRoundReactive(RoundInfo filledRoundInfo) {
+        return reactiveMongoTemplate.findAndModify(advanceQuery(filledRoundInfo),
+                        stateUpdate(RoundInfo.nextRoundUpdate(filledRoundInfo)),
+                        FindAndModifyOptions.options().returnNew(true), RoundInfo.class, CURRENT_STATE_COLLECTION)
+                .flatMap(this::changedReactive)
+                .switchIfEmpty(Mono.fromSupplier(() -> {
+                    logAlreadyAdvanced(filledRoundInfo);
+                    return filledRoundInfo;
+                }));
+    }
+
+    // 더 최신 상태가 이미 저장되어 있으면 덮어쓰지 않는다.
+    // 조건이 맞지 않으면 upsert가 insert를 시도하고 auctionUuid unique 인덱스(MongoIndexInitializer)에 걸린다.
+    private Query staleGuardQuery(RoundInfo roundInfo) {
+        return Query.query(Criteria.where("auctionUuid").is(roundInfo.getAuctionUuid())
+                .and("createdAt").lte(roundInfo.getCreatedAt()));
+    }
+
+    private Query slotQuery(OfferBiddingPriceDto offerBiddingPriceDto, LocalDateTime now) {
+        return Query.query(Criteria.where("auctionUuid").is(offerBiddingPriceDto.getAuctionUuid())
+                .and("round").is(offerBiddingPriceDto.getRound())
+                .and("leftNumberOfParticipants").gt(0)
+                .and("roundStartTime").lt(now)
+                .and("roundEndTime").gt(now)
+                // 마이그레이션(MoneyMigrationRunner) 전 Decimal128 원 단위로 저장된 도큐먼트도 일치하도록 형식별로 비교
+                // 숫자 비교는 형식을 가리지 않으므로 $type으로 최소 단위(Int64)와 원 단위(Decimal128)가 섞여 맞지 않게 한다.
+                .orOperator(Criteria.where("price").in(offerBiddingPriceDto.getBiddingPrice().getMinorUnits())
+                                .type(JsonSchemaObject.Type.INT_64),
+                        Criteria.where("price").in(new Decimal128(offerBiddingPriceDto.getBiddingPrice().toBigDecimal()))
+                                .type(JsonSchemaObject.Type.DECIMAL_128)));
+    }
+
+    // 남은 인원 차감과 입찰자 장부 추가를 같은 갱신으로 반영
+    private Update slotUpdate(OfferBiddingPriceDto offerBiddingPriceDto, LocalDateTime now) {
+        return new Update()
+                .inc("leftNumberOfParticipants", -1)
+                .inc("sequence", 1)
+                .push("winnerLedger.roundBidders", offerBiddingPriceDto.getBiddingUuid())
+                .set("createdAt", now);
+    }
+
+    private Query advanceQuery(RoundInfo filledRoundInfo) {
+        return Query.query(Criteria.where("auctionUuid").is(filledRoundInfo.getAuctionUuid())
+                .and("round").is(filledRoundInfo.getRound())
+                .and("leftNumberOfParticipants").is(0));
+    }
+
+    private void logStale(RoundInfo roundInfo) {
+        log.info("Stale round_state ignored >>> auctionUuid: {}, round: {}",
+                roundInfo.getAuctionUuid(), roundInfo.getRound());
+    }
+
+    // 남은 인원이 0이 된 입찰만 전환하므로 발생하지 않아야 한다.
+    private void logAlreadyAdvanced(RoundInfo filledRoundInfo) {
+        log.warn("Round already advanced >>> auctionUuid: {}, round: {}",
+                filledRoundInfo.getAuctionUuid(), filledRoundInfo.getRound());
+    }
+
+    // 저장된 라운드 정보를 알린다(BidAdmission 캐시 갱신 등).
+    // CURRENT_STATE 모드에서는 round_info 이력도 추가한다.
+    private void changed(RoundInfo roundInfo) {
+        if (isCurrentStateMode()) {
+            appendHistory(roundInfo);
+        }
+        eventPublisher.publishEvent(new RoundInfoChangedEvent(roundInfo));
+    }
+
+    // 이력 추가는 기다리지 않으므로 reactive 경로에서도 그대로 실행
+    private Mono<RoundInfo> changedReactive(RoundInfo roundInfo) {
+        return Mono.fromSupplier(() -> {
+            changed(roundInfo);
+            return roundInfo;
+        });
+    }
+
+    // 이력은 경매별로 앞선 추가가 끝난 뒤에 이어 붙여 sequence가 커지는 순서로 추가하고, 저장을 기다리지 않는다.
+    // 더 큰 sequence를 이미 추가하기로 했으면 늦게 도착한 이력은 버린다. 이력 하나가 전체 상태이므로 최신 이력이 대신한다.
+    // round_state가 기준이므로 이력 추가 실패는 입찰 결과를 바꾸지 않는다.
+    private void appendHistory(RoundInfo roundInfo) {
+        String auctionUuid = roundInfo.getAuctionUuid();
+        CompletableFuture<Void> appended = historyAppends.compute(auctionUuid, (key, previous) -> {
+            Long appendedSequence = appendedSequences.get(auctionUuid);
+            if (appendedSequence != null && roundInfo.getSequence() <= appendedSequence) {
+                log.debug("Out-of-order round_info history skipped >>> auctionUuid: {}, sequence: {}",
+                        auctionUuid, roundInfo.getSequence());
+                return previous;
+            }
+
+            // 마감된 경매는 더 이상 이력이 추가되지 않는다.
+            if (Boolean.TRUE.equals(roundInfo.getEndStatus())) {
+                appendedSequences.remove(auctionUuid);
+            } else {
+                appendedSequences.put(auctionUuid, roundInfo.getSequence());
+            }
+            CompletableFuture<Void> tail = previous != null ? previous : CompletableFuture.completedFuture(null);
+            return tail.thenCompose(ignored -> reactiveMongoTemplate
+                    .insert(RoundInfo.historyOf(roundInfo), HISTORY_COLLECTION)
+                    .then()
+                    .toFuture()
+                    .exceptionally(e -> {
+                        log.warn("round_info history append failed >>> {}, {}", auctionUuid, e.getMessage());
+                        return null;
+                    }));
+        });
+        // 추가할 이력이 없는 경매는 map에서 제거
+        if (appended != null) {
+            appended.whenComplete((ignored, e) -> historyAppends.remove(auctionUuid, appended));
+        }
+    }
+
+    // 식별자를 제외한 상태 필드 전체, 금액은 Money 저장 형식과 같은 최소 단위 long
+    private Update stateUpdate(RoundInfo roundInfo) {
+        Update update = new Update()
+                .set("auctionUuid", roundInfo.getAuctionUuid())
+                .set("round", roundInfo.getRound())
+                .set("roundStartTime", roundInfo.getRoundStartTime())
+                .set("roundEndTime", roundInfo.getRoundEndTime())
+                .set("incrementUnit", roundInfo.getIncrementUnit().getMinorUnits())
+                .set("price", roundInfo.getPrice().getMinorUnits())
+                .set("isActive", roundInfo.getIsActive())
+                .set("numberOfParticipants", roundInfo.getNumberOfParticipants())
+                .set("leftNumberOfParticipants", roundInfo.getLeftNumberOfParticipants())
+                .set("createdAt", roundInfo.getCreatedAt())
+                .set("auctionEndTime", roundInfo.getAuctionEndTime())
+                .set("isLastRound", roundInfo.getIsLastRound())
+                .set("endStatus", roundInfo.getEndStatus())
+                .set("sequence", roundInfo.getSequence());
+        setWinnerLedger(update, roundInfo.getWinnerLedger());
+        return update;
+    }
+
+    // 장부 도입 전 상태에서 만든 갱신은 저장된 장부를 그대로 둔다.
+    private void setWinnerLedger(Update update, WinnerLedger winnerLedger) {
+        if (winnerLedger == null) return;
+        update.set("winnerLedger.roundBidders", winnerLedger.getRoundBidders())
+                .set("winnerLedger.previousRoundBidders", winnerLedger.getPreviousRoundBidders())
+                .set("winnerLedger.previousRoundPrice", winnerLedger.getPreviousRoundPrice() != null
+                        ? winnerLedger.getPreviousRoundPrice().getMinorUnits() : null);
+    }
+}
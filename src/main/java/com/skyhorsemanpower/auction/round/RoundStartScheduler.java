@@ -0,0 +1,205 @@
+package com.skyhorsemanpower.auction.round;
+
+import com.skyhorsemanpower.auction.application.AuctionService;
+import com.skyhorsemanpower.auction.close.DeadlineOwnership;
+import com.skyhorsemanpower.auction.common.DateTimeConverter;
+import com.skyhorsemanpower.auction.common.TimingWheel;
+import com.skyhorsemanpower.auction.common.exception.CustomException;
+import com.skyhorsemanpower.auction.common.exception.ResponseStatus;
+import com.skyhorsemanpower.auction.domain.RoundInfo;
+import com.skyhorsemanpower.auction.round.data.RoundInfoChangedEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+// 라운드 대기 -> 진행 전환을 서버에서 roundStartTime에 실행(/auction-standby-end 호출 대체)
+// 대기 중인 라운드 정보가 저장되면(RoundInfoChangedEvent) 메모리 타이밍 휠에 경매당 하나의 시작 시간을 등록하고,
+// 시작 시간이 되면 같은 round가 아직 대기 중일 때만 진행 중으로 바꾼다.
+// 바뀐 라운드 정보는 RoundInfoStore를 거쳐 SSE 구독자에게 바로 전달된다.
+// 시작 시 마감되지 않은 경매 중 대기 중인 라운드를 다시 등록한다.
+// 인스턴스 여러 개가 경매를 나눠 가지면(DeadlineOwnership) 담당 경매만 바로 전환하고,
+// 담당이 아닌 경매는 grace-ms 뒤에도 대기 중이면 이어서 전환한다(담당 인스턴스가 없어졌거나 저장 이벤트를 받지 못한 경우).
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RoundStartScheduler {
+    private final AuctionService auctionService;
+    private final RoundInfoStore roundInfoStore;
+    private final DeadlineOwnership deadlineOwnership;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${auction.round-start.enabled:false}")
+    private boolean enabled;
+
+    @Value("${auction.round-start.tick-ms:100}")
+    private long tickMs;
+
+    @Value("${auction.round-start.workers:2}")
+    private int workers;
+
+    @Value("${auction.round-start.retry-ms:1000}")
+    private long retryMs;
+
+    @Value("${auction.round-start.grace-ms:5000}")
+    private long graceMs;
+
+    // 휠과 경매별 대기 round, 이어받을 경매는 같은 lock(timingWheel)으로 함께 바꾼다.
+    private final Map<String, Integer> standbyRounds = new HashMap<>();
+    private final Set<String> takeOvers = new HashSet<>();
+    private TimingWheel timingWheel;
+    private Counter startedCounter;
+    private ScheduledExecutorService ticker;
+    private ExecutorService startExecutor;
+
+    @PostConstruct
+    public void init() {
+        if (!enabled) return;
+
+        timingWheel = new TimingWheel(tickMs, 512, 2, System.currentTimeMillis());
+        startedCounter = Counter.builder("auction.round.started")
+                .description("서버에서 진행 중으로 전환한 라운드 수")
+                .register(meterRegistry);
+        startExecutor = Executors.newFixedThreadPool(workers, runnable -> {
+            Thread thread = new Thread(runnable, "round-start");
+            thread.setDaemon(true);
+            return thread;
+        });
+        ticker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "round-start-wheel");
+            thread.setDaemon(true);
+            return thread;
+        });
+        ticker.scheduleWithFixedDelay(this::tick, tickMs, tickMs, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (!enabled) return;
+        ticker.shutdownNow();
+        startExecutor.shutdown();
+    }
+
+    // 서버 시작 시 대기 중인 라운드 복구
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        if (!enabled) return;
+
+        int recovered = 0;
+        for (RoundInfo roundInfo : roundInfoStore.findAllInProgress()) {
+            if (!roundInfo.isStandbyOf(roundInfo.getRound())) continue;
+            schedule(roundInfo);
+            recovered++;
+        }
+        log.info("Round start scheduler rebuilt >>> {} auctions", recovered);
+    }
+
+    @EventListener
+    public void onRoundInfoChanged(RoundInfoChangedEvent event) {
+        if (!enabled) return;
+
+        RoundInfo roundInfo = event.getRoundInfo();
+        if (roundInfo.isStandbyOf(roundInfo.getRound())) {
+            schedule(roundInfo);
+            return;
+        }
+        // 다른 경로(대기 종료 API 등)로 이미 전환됐거나 마감된 경매는 등록을 지운다.
+        synchronized (timingWheel) {
+            Integer standbyRound = standbyRounds.get(roundInfo.getAuctionUuid());
+            if (standbyRound != null && (standbyRound <= roundInfo.getRound()
+                    || Boolean.TRUE.equals(roundInfo.getEndStatus()))) {
+                standbyRounds.remove(roundInfo.getAuctionUuid());
+                takeOvers.remove(roundInfo.getAuctionUuid());
+                timingWheel.cancel(roundInfo.getAuctionUuid());
+            }
+        }
+    }
+
+    void tick() {
+        try {
+            List<String> expired;
+            Map<String, Integer> rounds = new HashMap<>();
+            Set<String> expiredTakeOvers = new HashSet<>();
+            synchronized (timingWheel) {
+                expired = timingWheel.advance(System.currentTimeMillis());
+                for (String auctionUuid : expired) {
+                    Integer round = standbyRounds.remove(auctionUuid);
+                    if (round != null) rounds.put(auctionUuid, round);
+                    if (takeOvers.remove(auctionUuid)) expiredTakeOvers.add(auctionUuid);
+                }
+            }
+            rounds.forEach((auctionUuid, round) -> startExecutor.execute(
+                    () -> start(auctionUuid, round, expiredTakeOvers.contains(auctionUuid))));
+        } catch (Exception e) {
+            log.warn("Round start wheel tick failed >>> {}", e.getMessage());
+        }
+    }
+
+    private void start(String auctionUuid, int round, boolean takeOver) {
+        // 담당 인스턴스가 전환하도록 기다렸다가, 그때도 대기 중이면 이어서 전환
+        // 전환은 대기 중인 round일 때만 조건부로 진행되므로 담당 인스턴스와 겹쳐도 한 번만 전환된다.
+        if (!takeOver && !deadlineOwnership.owns(auctionUuid)) {
+            defer(auctionUuid, round);
+            return;
+        }
+        try {
+            if (auctionService.roundStart(auctionUuid, round)) startedCounter.increment();
+        } catch (CustomException e) {
+            // 라운드 정보가 없는 경매는 다시 시도하지 않는다.
+            if (e.getResponseStatus() == ResponseStatus.NO_DATA) return;
+            log.warn("Round start failed, retry >>> {}, {}, {}", auctionUuid, round, e.getMessage());
+            retry(auctionUuid, round);
+        } catch (Exception e) {
+            log.warn("Round start failed, retry >>> {}, {}, {}", auctionUuid, round, e.getMessage());
+            retry(auctionUuid, round);
+        }
+    }
+
+    private void schedule(RoundInfo roundInfo) {
+        String auctionUuid = roundInfo.getAuctionUuid();
+        int round = roundInfo.getRound();
+        long startAt = DateTimeConverter.localDateTimeToInstant(roundInfo.getRoundStartTime());
+        synchronized (timingWheel) {
+            Integer standbyRound = standbyRounds.get(auctionUuid);
+            // 늦게 도착한 이전 라운드 이벤트는 무시
+            if (standbyRound != null && standbyRound > round) return;
+            standbyRounds.put(auctionUuid, round);
+            takeOvers.remove(auctionUuid);
+            timingWheel.schedule(auctionUuid, startAt);
+        }
+    }
+
+    private void defer(String auctionUuid, int round) {
+        synchronized (timingWheel) {
+            // 그 사이 새 라운드가 등록됐으면 그 일정을 따른다.
+            if (standbyRounds.containsKey(auctionUuid)) return;
+            standbyRounds.put(auctionUuid, round);
+            takeOvers.add(auctionUuid);
+            timingWheel.schedule(auctionUuid, System.currentTimeMillis() + graceMs);
+        }
+    }
+
+    private void retry(String auctionUuid, int round) {
+        synchronized (timingWheel) {
+            if (standbyRounds.containsKey(auctionUuid)) return;
+            standbyRounds.put(auctionUuid, round);
+            timingWheel.schedule(auctionUuid, System.currentTimeMillis() + retryMs);
+        }
+    }
+}
@@ -0,0 +1,275 @@
+package com.skyhorsemanpower.auction.round;
+
+import com.skyhorsemanpower.auction.common.exception.CustomException;
+import com.skyhorsemanpower.auction.common.exception.ResponseStatus;
+import com.skyhorsemanpower.auction.data.dto.OfferBiddingPriceDto;
+import com.skyhorsemanpower.auction.domain.RoundInfo;
+import com.skyhorsemanpower.auction.round.data.BidResult;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
+
+// 진행 중인 경매의 라운드 상태를 메모리에 유지하는 엔진
+// 경매마다 하나의 mailbox가 상태를 소유하고, 입찰 검증과 상태 변경은 mailbox 안에서 메모리로만 처리하므로 경합이 없다.
+// DB 반영은 경매별 writer가 상태 변경 순서대로 뒤따라 처리하고, 요청은 반영이 끝난 뒤에 결과를 받는다.
+// 반영에 실패하면 그 뒤에 메모리에서 처리한 변경도 반영하지 않고, 다음 요청에서 DB의 라운드 정보를 다시 적재한다.
+// 제한 시간 안에 mailbox에서 처리를 시작하지 못한 요청은 취소(BIDDING_TIMEOUT)하고,
+// 처리를 시작했지만 반영이 끝나지 않은 입찰은 처리 중(BIDDING_PENDING)으로 알린다.
+// 여러 인스턴스가 같은 경매를 처리하면 상태가 어긋나므로, 경매 단위로 한 인스턴스에 라우팅되는 환경에서 사용한다.
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RoundStateEngine {
+    private final RoundInfoStore roundInfoStore;
+
+    @Value("${auction.round-engine.enabled:false}")
+    private boolean enabled;
+
+    @Value("${auction.round-engine.threads:4}")
+    private int threads;
+
+    @Value("${auction.round-engine.writer-threads:8}")
+    private int writerThreads;
+
+    @Value("${auction.round-engine.timeout-ms:3000}")
+    private long timeoutMs;
+
+    // 경매별 최신 라운드 상태
+    private final Map<String, RoundInfo> states = new ConcurrentHashMap<>();
+    // 경매별 메모리 상태의 반영 실패 여부, DB에서 다시 적재하면 새로 만든다.
+    private final Map<String, Lineage> lineages = new ConcurrentHashMap<>();
+    // 경매별 단일 writer
+    private final Map<String, AuctionMailbox> mailboxes = new ConcurrentHashMap<>();
+    // 경매별 DB 반영 순서
+    private final Map<String, AuctionMailbox> writers = new ConcurrentHashMap<>();
+    private ExecutorService executor;
+    private ExecutorService writerExecutor;
+
+    @PostConstruct
+    public void init() {
+        executor = newExecutor(threads, "round-engine-");
+        writerExecutor = newExecutor(writerThreads, "round-engine-writer-");
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+        writerExecutor.shutdown();
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    // 서버 시작 시 마감되지 않은 경매의 최신 라운드 정보로 상태 복구
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        if (!enabled) return;
+
+        roundInfoStore.findAllInProgress()
+                .forEach(roundInfo -> states.put(roundInfo.getAuctionUuid(), roundInfo));
+        log.info("Round state engine rebuilt >>> {} auctions", states.size());
+    }
+
+    // 입찰 검증, 라운드 입찰자 선점(claim), 메모리 상태 변경을 경매 mailbox에서 순서대로 실행
+    // 입찰 이력(record)은 바로 저장을 시작해 다른 입찰과 함께 배치로 저장되고, 라운드 정보는 writer가 순서대로 저장한다.
+    // record가 실패하면 선점 해제는 record가 맡고, 이력은 저장됐지만 라운드 정보를 반영하지 못하면 discard를 호출한다.
+    public CompletableFuture<BidResult> offer(OfferBiddingPriceDto offerBiddingPriceDto,
+                                              Predicate<OfferBiddingPriceDto> claim,
+                                              Function<OfferBiddingPriceDto, CompletableFuture<Void>> record,
+                                              Consumer<OfferBiddingPriceDto> discard) {
+        return submit(offerBiddingPriceDto.getAuctionUuid(), ResponseStatus.BIDDING_PENDING,
+                result -> applyBid(offerBiddingPriceDto, claim, record, discard, result));
+    }
+
+    // 입찰 외의 상태 변경(대기 종료, 마감 등)도 같은 mailbox와 writer를 거쳐 순서를 보장
+    // transition이 상태를 바꾼 경우에만 저장한다.
+    public CompletableFuture<RoundInfo> update(String auctionUuid, UnaryOperator<RoundInfo> transition) {
+        return submit(auctionUuid, ResponseStatus.BIDDING_TIMEOUT, result -> {
+            RoundInfo roundInfo = load(auctionUuid);
+            RoundInfo updatedRoundInfo = transition.apply(roundInfo);
+            if (updatedRoundInfo == roundInfo) {
+                result.complete(roundInfo);
+                return;
+            }
+
+            states.put(auctionUuid, updatedRoundInfo);
+            persistBehind(auctionUuid, updatedRoundInfo, CompletableFuture.completedFuture(null), () -> { },
+                    result, updatedRoundInfo);
+        });
+    }
+
+    public Optional<RoundInfo> peek(String auctionUuid) {
+        return Optional.ofNullable(states.get(auctionUuid));
+    }
+
+    // 마감된 경매는 mailbox와 writer까지 정리
+    // 먼저 mailbox를 닫아 새 작업을 막고, 남은 작업과 DB 반영을 모두 처리한 뒤 map에서 제거한다.
+    // 제거 이후의 요청은 새 mailbox에서 round_info를 다시 적재한다.
+    public void release(String auctionUuid) {
+        AuctionMailbox mailbox = mailbox(auctionUuid);
+        mailbox.submit(() -> {
+            states.remove(auctionUuid);
+            lineages.remove(auctionUuid);
+            AuctionMailbox writer = writers.get(auctionUuid);
+            if (writer != null) writer.close();
+        });
+        mailbox.close();
+    }
+
+    // 제한 시간은 엔진이 적용하므로 결과가 나올 때까지 기다린다.
+    public <T> T await(CompletableFuture<T> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CustomException(ResponseStatus.INTERNAL_SERVER_ERROR);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof CustomException customException) throw customException;
+            throw new CustomException(ResponseStatus.MONGODB_ERROR);
+        }
+    }
+
+    // 제한 시간이 지나면 아직 시작하지 않은 요청은 취소하고, 시작한 요청은 startedStatus로 알린다.
+    private <T> CompletableFuture<T> submit(String auctionUuid, ResponseStatus startedStatus,
+                                            Consumer<CompletableFuture<T>> task) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        AtomicBoolean started = new AtomicBoolean();
+        boolean submitted = mailbox(auctionUuid).submit(() -> {
+            if (!started.compareAndSet(false, true)) return;
+            try {
+                task.accept(result);
+            } catch (Throwable t) {
+                result.completeExceptionally(t);
+            }
+        });
+        // 마감 정리 중인 mailbox
+        if (!submitted) {
+            result.completeExceptionally(new CustomException(ResponseStatus.CAN_NOT_BIDDING));
+            return result;
+        }
+
+        CompletableFuture.delayedExecutor(timeoutMs, TimeUnit.MILLISECONDS).execute(() -> {
+            if (result.isDone()) return;
+            ResponseStatus status = started.compareAndSet(false, true) ? ResponseStatus.BIDDING_TIMEOUT : startedStatus;
+            result.completeExceptionally(new CustomException(status));
+        });
+        return result;
+    }
+
+    private AuctionMailbox mailbox(String auctionUuid) {
+        return mailboxes.computeIfAbsent(auctionUuid,
+                key -> new AuctionMailbox(executor, mailbox -> mailboxes.remove(key, mailbox)));
+    }
+
+    private AuctionMailbox writer(String auctionUuid) {
+        return writers.computeIfAbsent(auctionUuid,
+                key -> new AuctionMailbox(writerExecutor, writer -> writers.remove(key, writer)));
+    }
+
+    private void applyBid(OfferBiddingPriceDto offerBiddingPriceDto, Predicate<OfferBiddingPriceDto> claim,
+                          Function<OfferBiddingPriceDto, CompletableFuture<Void>> record,
+                          Consumer<OfferBiddingPriceDto> discard, CompletableFuture<BidResult> result) {
+        RoundInfo roundInfo = load(offerBiddingPriceDto.getAuctionUuid());
+        // 어차피 실패할 입찰은 라운드 참여 여부를 확인하지 않는다.
+        if (!roundInfo.canAccept(offerBiddingPriceDto, LocalDateTime.now())
+                || !claim.test(offerBiddingPriceDto)) {
+            result.complete(BidResult.rejected(roundInfo));
+            return;
+        }
+
+        RoundInfo updatedRoundInfo = RoundInfo.acceptBid(roundInfo, offerBiddingPriceDto.getBiddingUuid());
+        states.put(roundInfo.getAuctionUuid(), updatedRoundInfo);
+        persistBehind(roundInfo.getAuctionUuid(), updatedRoundInfo, record.apply(offerBiddingPriceDto),
+                () -> discard.accept(offerBiddingPriceDto), result, BidResult.accepted(roundInfo, updatedRoundInfo));
+    }
+
+    // mailbox 스레드에서 호출, 라운드 정보는 writer에서 메모리 변경 순서대로 저장한다.
+    private <T> void persistBehind(String auctionUuid, RoundInfo updatedRoundInfo, CompletableFuture<Void> recorded,
+                                   Runnable discard, CompletableFuture<T> result, T value) {
+        Lineage lineage = lineages.computeIfAbsent(auctionUuid, key -> new Lineage());
+        boolean submitted = writer(auctionUuid).submit(() -> {
+            try {
+                recorded.join();
+            } catch (CompletionException e) {
+                invalidate(auctionUuid, lineage);
+                result.completeExceptionally(e.getCause());
+                return;
+            }
+
+            try {
+                // 앞선 변경을 반영하지 못했으면 이 변경도 DB 상태와 이어지지 않는다.
+                if (lineage.broken) throw new CustomException(ResponseStatus.MONGODB_ERROR);
+                roundInfoStore.save(updatedRoundInfo);
+                result.complete(value);
+            } catch (Exception e) {
+                log.warn("Round state persist failed >>> {}, {}", auctionUuid, e.getMessage());
+                invalidate(auctionUuid, lineage);
+                discard.run();
+                result.completeExceptionally(e instanceof CustomException
+                        ? e : new CustomException(ResponseStatus.MONGODB_ERROR));
+            }
+        });
+        // 마감 정리 중인 writer
+        if (!submitted) {
+            invalidate(auctionUuid, lineage);
+            recorded.whenComplete((ignored, e) -> {
+                if (e == null) discard.run();
+            });
+            result.completeExceptionally(new CustomException(ResponseStatus.CAN_NOT_BIDDING));
+        }
+    }
+
+    // 반영하지 못한 메모리 상태를 버리고, 다음 요청에서 DB의 라운드 정보를 다시 적재하게 한다.
+    private void invalidate(String auctionUuid, Lineage lineage) {
+        lineage.broken = true;
+        // mailbox가 없으면 이미 정리된 경매
+        AuctionMailbox mailbox = mailboxes.get(auctionUuid);
+        if (mailbox == null) return;
+        mailbox.submit(() -> {
+            if (!lineages.remove(auctionUuid, lineage)) return;
+            states.remove(auctionUuid);
+        });
+    }
+
+    // mailbox 스레드에서만 호출된다.
+    private RoundInfo load(String auctionUuid) {
+        RoundInfo roundInfo = states.get(auctionUuid);
+        if (roundInfo != null) return roundInfo;
+
+        roundInfo = roundInfoStore.findCurrent(auctionUuid).orElseThrow(
+                () -> new CustomException(ResponseStatus.NO_DATA));
+        states.put(auctionUuid, roundInfo);
+        return roundInfo;
+    }
+
+    private static ExecutorService newExecutor(int threads, String namePrefix) {
+        AtomicInteger threadNumber = new AtomicInteger();
+        return Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, namePrefix + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    // DB에서 적재한 뒤로 이어진 메모리 상태, 하나라도 반영에 실패하면 이후 변경은 반영하지 않는다.
+    private static class Lineage {
+        private volatile boolean broken;
+    }
+}
@@ -0,0 +1,38 @@
+package com.skyhorsemanpower.auction.round.data;
+
+import com.skyhorsemanpower.auction.domain.RoundInfo;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+
+@Getter
+@ToString
+public class BidResult {
+    private final boolean accepted;
+    // 입찰 검증에 사용된 라운드 정보
+    private final RoundInfo roundInfo;
+    // 입찰 반영 후 라운드 정보, 입찰이 거절되면 null
+    private final RoundInfo updatedRoundInfo;
+
+    @Builder
+    public BidResult(boolean accepted, RoundInfo roundInfo, RoundInfo updatedRoundInfo) {
+        this.accepted = accepted;
+        this.roundInfo = roundInfo;
+        this.updatedRoundInfo = updatedRoundInfo;
+    }
+
+    public static BidResult rejected(RoundInfo roundInfo) {
+        return BidResult.builder()
+                .accepted(false)
+                .roundInfo(roundInfo)
+                .build();
+    }
+
+    public static BidResult accepted(RoundInfo roundInfo, RoundInfo updatedRoundInfo) {
+        return BidResult.builder()
+                .accepted(true)
+                .roundInfo(roundInfo)
+                .updatedRoundInfo(updatedRoundInfo)
+                .build();
+    }
+}
@@ -0,0 +1,14 @@
+package com.skyhorsemanpower.auction.round.data;
+
+import com.skyhorsemanpower.auction.domain.RoundInfo;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+// RoundInfoStore에 라운드 정보가 저장된 뒤 발행
+@Getter
+@ToString
+@RequiredArgsConstructor
+public class RoundInfoChangedEvent {
+    private final RoundInfo roundInfo;
+}
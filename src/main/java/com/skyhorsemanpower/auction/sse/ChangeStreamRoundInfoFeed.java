@@ -0,0 +1,152 @@
+package com.skyhorsemanpower.auction.sse;
+
+import com.mongodb.MongoException;
+import com.skyhorsemanpower.auction.data.vo.RoundInfoResponseVo;
+import com.skyhorsemanpower.auction.domain.RoundInfo;
+import com.skyhorsemanpower.auction.round.RoundInfoStore;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.BsonDocument;
+import org.bson.BsonValue;
+import org.bson.Document;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.mongodb.core.ChangeStreamEvent;
+import org.springframework.data.mongodb.core.ReactiveChangeStreamOperation;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+// change-stream 프로필의 라운드 정보 스트림
+// 인스턴스마다 round_info insert change stream 하나만 열고 auctionUuid로 나눠 전달한다.
+// capped collection이 필요 없고, 경매 수만큼 tailable cursor를 열지 않는다(replica set 필요).
+// 마지막으로 처리한 resume token을 change_stream_token 컬렉션에 저장해 재시작 후 이어서 읽는다.
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@Profile("change-stream")
+public class ChangeStreamRoundInfoFeed implements RoundInfoFeed {
+    public static final String RESUME_TOKEN_COLLECTION = "change_stream_token";
+    // oplog에서 resume token 위치가 이미 지워진 경우
+    private static final int CHANGE_STREAM_HISTORY_LOST = 286;
+
+    private final ReactiveMongoTemplate reactiveMongoTemplate;
+    private final RoundInfoStore roundInfoStore;
+
+    @Value("${auction.sse.change-stream.token-save-ms:1000}")
+    private long tokenSaveMs;
+
+    @Value("${auction.sse.change-stream.max-backoff-ms:30000}")
+    private long maxBackoffMs;
+
+    private final RoundInfoDemultiplexer demultiplexer = new RoundInfoDemultiplexer();
+    private volatile BsonValue latestToken;
+    private volatile BsonValue savedToken;
+    private Disposable stream;
+    private Disposable tokenSaver;
+
+    @PostConstruct
+    public void start() {
+        stream = loadToken()
+                .doOnNext(token -> {
+                    latestToken = token;
+                    savedToken = token;
+                    log.info("Round info change stream resumes >>> {}", token.asDocument().toJson());
+                })
+                .thenMany(Flux.defer(this::listen)
+                        .retryWhen(Retry.backoff(Long.MAX_VALUE, Duration.ofSeconds(1))
+                                .maxBackoff(Duration.ofMillis(maxBackoffMs))
+                                .doBeforeRetry(signal -> log.warn("Round info change stream error >>> {}",
+                                        signal.failure().getMessage()))))
+                .subscribe(event -> {
+                    latestToken = event.getResumeToken();
+                    RoundInfo roundInfo = event.getBody();
+                    if (roundInfo != null) demultiplexer.dispatch(roundInfo);
+                });
+
+        tokenSaver = Flux.interval(Duration.ofMillis(tokenSaveMs))
+                .concatMap(tick -> saveToken())
+                .subscribe();
+    }
+
+    // 처리한 위치까지 저장한 뒤 종료
+    @PreDestroy
+    public void stop() {
+        tokenSaver.dispose();
+        stream.dispose();
+        saveToken().block(Duration.ofSeconds(3));
+    }
+
+    @Override
+    public Flux<RoundInfoResponseVo> watch(String auctionUuid) {
+        return demultiplexer.watch(auctionUuid, roundInfoStore.findCurrentReactive(auctionUuid));
+    }
+
+    private Flux<ChangeStreamEvent<RoundInfo>> listen() {
+        ReactiveChangeStreamOperation.ChangeStreamWithFilterAndProjection<RoundInfo> changeStream =
+                reactiveMongoTemplate.changeStream(RoundInfo.class)
+                        .watchCollection(RoundInfoStore.HISTORY_COLLECTION)
+                        .filter(Criteria.where("operationType").is("insert"));
+
+        BsonValue token = latestToken;
+        if (token == null) return changeStream.listen();
+
+        return changeStream.resumeAfter(token).listen()
+                .onErrorResume(ChangeStreamRoundInfoFeed::isHistoryLost, error -> {
+                    // 이어서 읽을 수 없으면 현재 시점부터 다시 시작, 구독자는 다음 변경부터 받는다.
+                    log.warn("Round info change stream history lost, restarting from now >>> {}", token.asDocument().toJson());
+                    latestToken = null;
+                    return changeStream.listen();
+                });
+    }
+
+    private Mono<BsonValue> loadToken() {
+        return reactiveMongoTemplate.findById(RoundInfoStore.HISTORY_COLLECTION, Document.class,
+                        RESUME_TOKEN_COLLECTION)
+                .mapNotNull(document -> document.getString("token"))
+                .<BsonValue>map(BsonDocument::parse)
+                .onErrorResume(error -> {
+                    log.warn("Round info resume token load failed >>> {}", error.getMessage());
+                    return Mono.empty();
+                });
+    }
+
+    private Mono<Void> saveToken() {
+        BsonValue token = latestToken;
+        if (token == null || token.equals(savedToken)) return Mono.empty();
+
+        return reactiveMongoTemplate.upsert(
+                        Query.query(Criteria.where("_id").is(RoundInfoStore.HISTORY_COLLECTION)),
+                        new Update()
+                                .set("token", token.asDocument().toJson())
+                                .set("updatedAt", LocalDateTime.now()),
+                        RESUME_TOKEN_COLLECTION)
+                .doOnSuccess(result -> savedToken = token)
+                .onErrorResume(error -> {
+                    log.warn("Round info resume token save failed >>> {}", error.getMessage());
+                    return Mono.empty();
+                })
+                .then();
+    }
+
+    private static boolean isHistoryLost(Throwable error) {
+        for (Throwable cause = error; cause != null; cause = cause.getCause()) {
+            if (cause instanceof MongoException mongoException &&
+                    mongoException.getCode() == CHANGE_STREAM_HISTORY_LOST) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,56 @@
+package com.skyhorsemanpower.auction.sse;
+
+import com.skyhorsemanpower.auction.data.vo.RoundInfoResponseVo;
+import com.skyhorsemanpower.auction.kafka.KafkaProducerCluster;
+import com.skyhorsemanpower.auction.kafka.Topics;
+import com.skyhorsemanpower.auction.kafka.data.dto.RoundStateDto;
+import com.skyhorsemanpower.auction.round.RoundInfoStore;
+import com.skyhorsemanpower.auction.round.data.RoundInfoChangedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.context.event.EventListener;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.messaging.handler.annotation.Payload;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+
+// kafka-fanout 프로필의 라운드 정보 스트림
+// 라운드 정보를 저장한 인스턴스가 auctionUuid 키로 compacted topic에 한 번 발행하고,
+// 모든 인스턴스가 각자 구독해 로컬 SSE 연결에 나눠준다.
+// Mongo는 인스턴스마다 upstream을 만들 때 현재 값을 한 번 읽을 뿐, 시청자 수와 관계없이 tail 하지 않는다.
+// change-stream 프로필과 함께 켜면 RoundInfoFeed가 둘이 되므로 change-stream이 우선한다.
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@Profile(KafkaRoundInfoFeed.PROFILE)
+public class KafkaRoundInfoFeed implements RoundInfoFeed {
+    public static final String PROFILE = "kafka-fanout & !change-stream";
+
+    private final KafkaProducerCluster kafkaProducerCluster;
+    private final RoundInfoStore roundInfoStore;
+
+    private final RoundInfoDemultiplexer demultiplexer = new RoundInfoDemultiplexer();
+
+    @Override
+    public Flux<RoundInfoResponseVo> watch(String auctionUuid) {
+        return demultiplexer.watch(auctionUuid, roundInfoStore.findCurrentReactive(auctionUuid));
+    }
+
+    // 이 인스턴스에서 저장한 라운드 정보만 발행
+    @EventListener
+    public void onRoundInfoChanged(RoundInfoChangedEvent event) {
+        kafkaProducerCluster.sendMessage(Topics.Constant.ROUND_STATE, event.getRoundInfo().getAuctionUuid(),
+                RoundStateDto.of(event.getRoundInfo()));
+    }
+
+    // 모든 인스턴스가 같은 메시지를 받도록 인스턴스마다 다른 consumer group을 사용
+    // group id는 호스트와 포트로 고정해 재시작해도 같은 group을 이어서 쓰고, 재시작마다 group이 쌓이지 않는다.
+    // 처음 시작하는 인스턴스는 현재 값을 Mongo에서 읽으므로 지난 메시지는 읽지 않는다.
+    @KafkaListener(topics = Topics.Constant.ROUND_STATE,
+            groupId = "${spring.application.name}-round-state-${spring.cloud.client.hostname:localhost}-${server.port:8080}",
+            properties = "auto.offset.reset=latest")
+    public void roundState(@Payload RoundStateDto roundStateDto) {
+        demultiplexer.dispatch(roundStateDto.toRoundInfo());
+    }
+}
@@ -0,0 +1,152 @@
+package com.skyhorsemanpower.auction.sse;
+
+import com.skyhorsemanpower.auction.data.vo.RoundInfoResponseVo;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Sinks;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// 경매 페이지 SSE 공유 스트림
+// 인스턴스마다 경매당 하나의 upstream(RoundInfoFeed)만 열고, 같은 경매를 보는 모든 연결에 나눠준다.
+// 새로 들어온 연결은 마지막 라운드 정보(snapshot)를 바로 받고,
+// Last-Event-ID로 재연결하면 최근 replay-size 개 안에서 놓친 이벤트만 받는다.
+// 마지막 연결이 끊기면 upstream도 닫는다.
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RoundInfoBroadcaster {
+    private final RoundInfoFeed roundInfoFeed;
+    private final MeterRegistry meterRegistry;
+
+    // 구독자 수 변경과 upstream 생성/해제는 compute 안에서만 한다.
+    private final Map<String, AuctionUpstream> upstreams = new ConcurrentHashMap<>();
+    private final AtomicInteger subscribers = new AtomicInteger();
+
+    @Value("${auction.sse.replay-size:32}")
+    private int replaySize;
+
+    @PostConstruct
+    public void init() {
+        Gauge.builder("auction.sse.upstreams", upstreams, Map::size)
+                .description("경매별로 열려 있는 라운드 정보 upstream 수")
+                .register(meterRegistry);
+        Gauge.builder("auction.sse.subscribers", subscribers, AtomicInteger::get)
+                .description("라운드 정보 스트림을 구독 중인 SSE 연결 수")
+                .register(meterRegistry);
+    }
+
+    // 경매 라운드 정보 구독, 구독 시점의 마지막 값부터 받는다.
+    public Flux<RoundInfoResponseVo> subscribe(String auctionUuid) {
+        return subscribe(auctionUuid, null);
+    }
+
+    // lastEventId 이후 이벤트부터 받는다.
+    // replay 버퍼보다 오래 끊겨 있었으면 마지막 값 하나(snapshot)부터 받는다.
+    public Flux<RoundInfoResponseVo> subscribe(String auctionUuid, Long lastEventId) {
+        return Flux.defer(() -> {
+            AuctionUpstream upstream = upstreams.compute(auctionUuid, (key, current) -> {
+                AuctionUpstream target = current != null ? current : new AuctionUpstream();
+                target.subscribers++;
+                return target;
+            });
+            subscribers.incrementAndGet();
+            // 첫 구독자가 upstream을 연결한다.
+            upstream.connect(auctionUuid);
+
+            // 느린 연결은 중간 상태를 건너뛰고 최신 상태만 받는다(연결당 최대 1개 보관).
+            return upstream.events(lastEventId)
+                    .onBackpressureLatest()
+                    .doFinally(signalType -> release(auctionUuid, upstream));
+        });
+    }
+
+    public int upstreamCount() {
+        return upstreams.size();
+    }
+
+    public int subscriberCount() {
+        return subscribers.get();
+    }
+
+    private void release(String auctionUuid, AuctionUpstream upstream) {
+        subscribers.decrementAndGet();
+        upstreams.computeIfPresent(auctionUuid, (key, current) -> {
+            if (current != upstream) return current;
+            if (--current.subscribers > 0) return current;
+            current.dispose();
+            log.debug("SSE upstream closed >>> {}", auctionUuid);
+            return null;
+        });
+    }
+
+    // upstream이 끝나면 다음 구독자가 새로 연결하도록 맵에서 제거
+    private void terminated(String auctionUuid, AuctionUpstream upstream) {
+        upstreams.remove(auctionUuid, upstream);
+    }
+
+    private class AuctionUpstream {
+        private final Sinks.Many<RoundInfoResponseVo> latest = Sinks.many().replay().latest();
+        private final Sinks.Many<RoundInfoResponseVo> recent = Sinks.many().replay().limit(replaySize);
+        private int subscribers;
+        private Disposable subscription;
+        private boolean connected;
+
+        private synchronized void connect(String auctionUuid) {
+            if (connected) return;
+            connected = true;
+            log.debug("SSE upstream opened >>> {}", auctionUuid);
+
+            // upstream은 한 구독자이므로 emit이 겹치지 않는다.
+            subscription = roundInfoFeed.watch(auctionUuid)
+                    .subscribe(
+                            roundInfoResponseVo -> {
+                                recent.tryEmitNext(roundInfoResponseVo);
+                                latest.tryEmitNext(roundInfoResponseVo);
+                            },
+                            error -> {
+                                log.info("SSE upstream error >>> {}, {}", auctionUuid, error.toString());
+                                terminated(auctionUuid, this);
+                                recent.tryEmitError(error);
+                                latest.tryEmitError(error);
+                            },
+                            () -> {
+                                terminated(auctionUuid, this);
+                                recent.tryEmitComplete();
+                                latest.tryEmitComplete();
+                            });
+        }
+
+        // replay 버퍼의 가장 오래된 이벤트로 이어서 받을 수 있는지 판단
+        private Flux<RoundInfoResponseVo> events(Long lastEventId) {
+            if (lastEventId == null) return latest.asFlux();
+
+            return recent.asFlux().switchOnFirst((first, events) -> {
+                if (first.hasValue() && sequenceOf(first.get()) <= lastEventId + 1) {
+                    return events.filter(roundInfoResponseVo -> sequenceOf(roundInfoResponseVo) > lastEventId);
+                }
+                return latest.asFlux();
+            });
+        }
+
+        private synchronized void dispose() {
+            if (subscription != null) subscription.dispose();
+            recent.tryEmitComplete();
+            latest.tryEmitComplete();
+        }
+    }
+
+    // sequence 도입 전 도큐먼트는 0
+    private static long sequenceOf(RoundInfoResponseVo roundInfoResponseVo) {
+        return roundInfoResponseVo.getSequence() != null ? roundInfoResponseVo.getSequence() : 0;
+    }
+}
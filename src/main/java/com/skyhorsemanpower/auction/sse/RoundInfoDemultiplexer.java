@@ -0,0 +1,67 @@
+package com.skyhorsemanpower.auction.sse;
+
+import com.skyhorsemanpower.auction.data.vo.RoundInfoResponseVo;
+import com.skyhorsemanpower.auction.domain.RoundInfo;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+// 인스턴스 하나의 공유 변경 스트림을 경매별 채널로 나눈다.
+// 구독 중인 경매의 변경만 전달하고, 구독자가 없는 경매의 변경은 버린다.
+// dispatch는 공유 스트림 한 곳에서만 호출한다.
+class RoundInfoDemultiplexer {
+    private final Map<String, Channel> channels = new ConcurrentHashMap<>();
+
+    Flux<RoundInfo> channel(String auctionUuid) {
+        return Flux.defer(() -> {
+            Channel channel = channels.compute(auctionUuid, (key, current) -> {
+                Channel target = current != null ? current : new Channel();
+                target.subscribers++;
+                return target;
+            });
+            return channel.sink.asFlux()
+                    .doFinally(signalType -> release(auctionUuid, channel));
+        });
+    }
+
+    // 현재 라운드 정보 이후 변경을 내보낸다.
+    // 채널을 먼저 구독한 뒤 현재 값을 읽으므로 그 사이 변경을 놓치지 않고, 이미 반영된 변경은 sequence로 거른다.
+    // createdAt은 같은 시각에 저장된 변경이나 인스턴스 간 시계 차이로 순서를 보장하지 못한다.
+    Flux<RoundInfoResponseVo> watch(String auctionUuid, Mono<RoundInfo> current) {
+        return channel(auctionUuid).publish(changes -> {
+            AtomicLong lastSequence = new AtomicLong(-1);
+            return current.flux()
+                    .concatWith(changes)
+                    .filter(roundInfo -> roundInfo.getSequence() > lastSequence.get())
+                    .doOnNext(roundInfo -> lastSequence.set(roundInfo.getSequence()))
+                    .map(RoundInfoResponseVo::from);
+        });
+    }
+
+    void dispatch(RoundInfo roundInfo) {
+        Channel channel = channels.get(roundInfo.getAuctionUuid());
+        if (channel != null) {
+            channel.sink.tryEmitNext(roundInfo);
+        }
+    }
+
+    int size() {
+        return channels.size();
+    }
+
+    private void release(String auctionUuid, Channel channel) {
+        channels.computeIfPresent(auctionUuid, (key, current) -> {
+            if (current != channel) return current;
+            return --current.subscribers > 0 ? current : null;
+        });
+    }
+
+    private static class Channel {
+        private final Sinks.Many<RoundInfo> sink = Sinks.many().multicast().directBestEffort();
+        private int subscribers;
+    }
+}
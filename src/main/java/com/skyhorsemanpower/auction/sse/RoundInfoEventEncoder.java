@@ -0,0 +1,79 @@
+package com.skyhorsemanpower.auction.sse;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.skyhorsemanpower.auction.data.vo.RoundInfoResponseVo;
+import com.skyhorsemanpower.auction.status.SseEncodingEnum;
+import org.springframework.http.codec.ServerSentEvent;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+// SSE 연결 하나의 라운드 정보 인코더, 연결마다 새로 만든다.
+// DELTA 형식은 클라이언트가 마지막으로 받은 상태와 비교해 바뀐 필드만 보내고,
+// snapshot-every 번마다 전체 상태를 snapshot 이벤트로 보낸다.
+// 실제로 전달되는 순서대로 호출되어야 하므로 conflation 이후에 적용한다.
+// 경매별 sequence는 이벤트 id로 보내 재연결 시 Last-Event-ID로 돌려받는다.
+// 데이터는 JSON 문자열로 미리 직렬화해 연결별 전송 대기 바이트를 그대로 셀 수 있게 한다.
+public class RoundInfoEventEncoder {
+    public static final String SNAPSHOT_EVENT = "snapshot";
+    public static final String DELTA_EVENT = "delta";
+
+    private final SseEncodingEnum encoding;
+    private final int snapshotEvery;
+    private final ObjectMapper objectMapper;
+
+    private Map<String, Object> lastFields;
+    private int deltasSinceSnapshot;
+
+    public RoundInfoEventEncoder(SseEncodingEnum encoding, int snapshotEvery, ObjectMapper objectMapper) {
+        this.encoding = encoding;
+        this.snapshotEvery = snapshotEvery;
+        this.objectMapper = objectMapper;
+    }
+
+    public ServerSentEvent<Object> encode(RoundInfoResponseVo roundInfoResponseVo) {
+        String id = roundInfoResponseVo.getSequence() != null ? roundInfoResponseVo.getSequence().toString() : null;
+        if (encoding == SseEncodingEnum.FULL) {
+            return ServerSentEvent.builder(json(roundInfoResponseVo)).id(id).build();
+        }
+
+        Map<String, Object> fields = fields(roundInfoResponseVo);
+        if (lastFields == null || deltasSinceSnapshot >= snapshotEvery) {
+            lastFields = fields;
+            deltasSinceSnapshot = 0;
+            return ServerSentEvent.builder(json(fields)).id(id).event(SNAPSHOT_EVENT).build();
+        }
+
+        Map<String, Object> delta = new LinkedHashMap<>();
+        fields.forEach((name, value) -> {
+            if (!Objects.equals(lastFields.get(name), value)) delta.put(name, value);
+        });
+        lastFields = fields;
+        deltasSinceSnapshot++;
+        return ServerSentEvent.builder(json(delta)).id(id).event(DELTA_EVENT).build();
+    }
+
+    private Object json(Object data) {
+        try {
+            return objectMapper.writeValueAsString(data);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static Map<String, Object> fields(RoundInfoResponseVo roundInfoResponseVo) {
+        Map<String, Object> fields = new LinkedHashMap<>();
+        fields.put("round", roundInfoResponseVo.getRound());
+        fields.put("roundStartTime", roundInfoResponseVo.getRoundStartTime());
+        fields.put("roundEndTime", roundInfoResponseVo.getRoundEndTime());
+        fields.put("incrementUnit", roundInfoResponseVo.getIncrementUnit());
+        fields.put("price", roundInfoResponseVo.getPrice());
+        fields.put("isActive", roundInfoResponseVo.getIsActive());
+        fields.put("numberOfParticipants", roundInfoResponseVo.getNumberOfParticipants());
+        fields.put("leftNumberOfParticipants", roundInfoResponseVo.getLeftNumberOfParticipants());
+        fields.put("endStatus", roundInfoResponseVo.getEndStatus());
+        return fields;
+    }
+}
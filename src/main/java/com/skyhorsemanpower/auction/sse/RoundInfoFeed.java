@@ -0,0 +1,11 @@
+package com.skyhorsemanpower.auction.sse;
+
+import com.skyhorsemanpower.auction.data.vo.RoundInfoResponseVo;
+import reactor.core.publisher.Flux;
+
+// RoundInfoBroadcaster가 경매별 upstream으로 사용하는 라운드 정보 변경 스트림
+// 구독 시점의 현재 라운드 정보부터 이후 변경을 순서대로 내보낸다.
+public interface RoundInfoFeed {
+
+    Flux<RoundInfoResponseVo> watch(String auctionUuid);
+}
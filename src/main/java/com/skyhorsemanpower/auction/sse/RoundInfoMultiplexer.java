@@ -0,0 +1,144 @@
+package com.skyhorsemanpower.auction.sse;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.skyhorsemanpower.auction.common.exception.CustomException;
+import com.skyhorsemanpower.auction.common.exception.ResponseStatus;
+import com.skyhorsemanpower.auction.data.vo.AuctionRoundInfoResponseVo;
+import com.skyhorsemanpower.auction.data.vo.RoundInfoResponseVo;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Sinks;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 여러 경매의 라운드 정보를 SSE 연결 하나로 보낸다.
+// 첫 이벤트(connection)로 연결 id를 알려주고, 이후 round 이벤트에 auctionUuid를 붙여 보낸다.
+// 구독 경매는 연결 id로 다시 연결하지 않고 바꿀 수 있으며, 경매별 upstream은 RoundInfoBroadcaster를 함께 쓴다.
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RoundInfoMultiplexer {
+    public static final String CONNECTION_EVENT = "connection";
+    public static final String ROUND_EVENT = "round";
+
+    private final RoundInfoBroadcaster roundInfoBroadcaster;
+    private final SseConnectionRegistry sseConnectionRegistry;
+    private final ObjectMapper objectMapper;
+
+    @Value("${auction.sse.multiplex.max-auctions:50}")
+    private int maxAuctions;
+
+    private final Map<String, MultiplexedSubscription> subscriptions = new ConcurrentHashMap<>();
+
+    public Flux<ServerSentEvent<Object>> open(Collection<String> auctionUuids, String userUuid) {
+        validate(auctionUuids);
+        // 연결 수 제한을 넘으면 스트림을 열기 전에 거절
+        sseConnectionRegistry.admit(null, userUuid);
+
+        // 연결과 구독은 스트림을 구독할 때 등록하므로, 구독되지 않은 응답은 연결 수를 차지하지 않는다.
+        return Flux.using(() -> sseConnectionRegistry.open(null, userUuid), connection -> {
+            MultiplexedSubscription subscription = new MultiplexedSubscription(userUuid);
+            subscriptions.put(connection.getId(), subscription);
+            subscription.update(auctionUuids);
+
+            Flux<ServerSentEvent<Object>> events = Flux.just(ServerSentEvent.builder(
+                            json(Map.of("connectionId", connection.getId()))).event(CONNECTION_EVENT).build())
+                    .concatWith(subscription.events());
+            return connection.attach(events);
+        }, connection -> {
+            subscriptions.remove(connection.getId());
+            sseConnectionRegistry.close(connection);
+        });
+    }
+
+    // 구독 경매를 auctionUuids로 바꾼다. 빠진 경매는 구독을 끊고, 추가된 경매는 현재 값부터 보낸다.
+    public void update(String connectionId, String userUuid, Collection<String> auctionUuids) {
+        validate(auctionUuids);
+        MultiplexedSubscription subscription = subscriptions.get(connectionId);
+        if (subscription == null) throw new CustomException(ResponseStatus.NO_DATA);
+        subscription.update(auctionUuids, userUuid);
+    }
+
+    private void validate(Collection<String> auctionUuids) {
+        if (auctionUuids.size() > maxAuctions) throw new CustomException(ResponseStatus.TOO_MANY_AUCTIONS);
+    }
+
+    private Object json(Object data) {
+        try {
+            return objectMapper.writeValueAsString(data);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private ServerSentEvent<Object> roundEvent(String auctionUuid, RoundInfoResponseVo roundInfoResponseVo) {
+        return ServerSentEvent.builder(json(AuctionRoundInfoResponseVo.builder()
+                        .auctionUuid(auctionUuid)
+                        .roundInfo(roundInfoResponseVo)
+                        .build()))
+                .event(ROUND_EVENT)
+                .build();
+    }
+
+    private class MultiplexedSubscription {
+        private final Sinks.Many<AuctionSubscription> added = Sinks.many().unicast().onBackpressureBuffer();
+        // 구독 중인 경매와 구독 해제 신호, 변경은 synchronized 안에서만 한다.
+        private final Map<String, Sinks.Empty<Void>> active = new HashMap<>();
+        private final String userUuid;
+
+        private MultiplexedSubscription(String userUuid) {
+            this.userUuid = userUuid;
+        }
+
+        // 경매별로 느린 연결은 최신 상태만 받고(RoundInfoBroadcaster), prefetch 1로 합쳐 경매당 최대 1개만 쌓인다.
+        private Flux<ServerSentEvent<Object>> events() {
+            return added.asFlux().flatMap(auction -> roundInfoBroadcaster.subscribe(auction.auctionUuid)
+                    .takeUntilOther(auction.removed.asMono())
+                    .map(roundInfoResponseVo -> roundEvent(auction.auctionUuid, roundInfoResponseVo))
+                    .onErrorResume(error -> {
+                        // 경매 하나의 오류로 연결 전체를 끊지 않는다.
+                        log.info("Multiplexed SSE error >>> {}, {}", auction.auctionUuid, error.toString());
+                        return Flux.empty();
+                    }), maxAuctions, 1);
+        }
+
+        private synchronized void update(Collection<String> auctionUuids) {
+            Set<String> next = new LinkedHashSet<>(auctionUuids);
+            active.entrySet().removeIf(entry -> {
+                if (next.contains(entry.getKey())) return false;
+                entry.getValue().tryEmitEmpty();
+                return true;
+            });
+            for (String auctionUuid : next) {
+                if (active.containsKey(auctionUuid)) continue;
+                Sinks.Empty<Void> removed = Sinks.empty();
+                active.put(auctionUuid, removed);
+                added.tryEmitNext(new AuctionSubscription(auctionUuid, removed));
+            }
+        }
+
+        // 연결을 연 사용자만 구독을 바꿀 수 있다. 사용자 없이 연 연결은 바꿀 수 없다.
+        private synchronized void update(Collection<String> auctionUuids, String requestUserUuid) {
+            if (userUuid == null || !userUuid.equals(requestUserUuid)) {
+                throw new CustomException(ResponseStatus.NOT_CONNECTION_OWNER);
+            }
+            update(auctionUuids);
+        }
+    }
+
+    private static class AuctionSubscription {
+        private final String auctionUuid;
+        private final Sinks.Empty<Void> removed;
+
+        private AuctionSubscription(String auctionUuid, Sinks.Empty<Void> removed) {
+            this.auctionUuid = auctionUuid;
+            this.removed = removed;
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package com.skyhorsemanpower.auction.sse;
+
+import lombok.Getter;
+import org.springframework.http.codec.ServerSentEvent;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Sinks;
+
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+// SSE 연결 하나, 데이터 이벤트와 heartbeat 같은 제어 이벤트를 하나의 스트림으로 합친다.
+// Spring MVC는 이벤트 하나를 소켓에 쓴 뒤에 다음 이벤트를 요청하고, 그 요청만 upstream에 그대로 전달한다.
+// 연결 앞에 버퍼를 두지 않으므로 느린 연결은 RoundInfoBroadcaster의 onBackpressureLatest에서 중간 상태를 건너뛴다.
+// 데이터, 제어 스트림에서 하나씩 미리 받아둔 이벤트와 MVC에 넘겼지만 쓰기가 끝나지 않은 이벤트 크기를 센다.
+public class SseConnection {
+    @Getter
+    private final String id = UUID.randomUUID().toString();
+    @Getter
+    private final String auctionUuid;
+    @Getter
+    private final String userUuid;
+
+    // 제어 이벤트는 heartbeat 스케줄러와 종료 처리에서만 보낸다.
+    // 요청이 없는(막힌) 연결에 보내는 제어 이벤트는 버린다.
+    private final Sinks.Many<ServerSentEvent<Object>> control = Sinks.many().multicast().directBestEffort();
+    private final Sinks.Empty<Void> draining = Sinks.empty();
+    private final Sinks.Empty<Void> evicted = Sinks.empty();
+    private final AtomicLong pendingBytes = new AtomicLong();
+    // MVC에 넘겼지만 아직 쓰기가 끝나지 않은 이벤트 크기
+    private final AtomicLong writingBytes = new AtomicLong();
+    private volatile long lastProgressNanos;
+    private volatile long lastActivityNanos = System.nanoTime();
+
+    // heartbeat wheel 슬롯
+    int slot;
+
+    public SseConnection(String auctionUuid, String userUuid) {
+        this.auctionUuid = auctionUuid;
+        this.userUuid = userUuid;
+    }
+
+    // prefetch 1로 합쳐 스트림마다 최대 1개만 미리 받는다.
+    // 강제 종료는 합친 뒤에서 끊어, 미리 받은 이벤트를 기다리지 않고 MVC에 완료를 알린다.
+    public Flux<ServerSentEvent<Object>> attach(Flux<ServerSentEvent<Object>> events) {
+        return Flux.merge(1,
+                        events.doOnNext(event -> touch())
+                                .takeUntilOther(draining.asMono())
+                                .doOnNext(this::buffered),
+                        control.asFlux().doOnNext(this::buffered))
+                .takeUntilOther(evicted.asMono())
+                .doOnNext(this::writing)
+                .doOnRequest(requested -> written());
+    }
+
+    public long pendingBytes() {
+        return pendingBytes.get();
+    }
+
+    // 전송 대기 중인 이벤트가 있는데 nanos 이상 한 건도 쓰이지 않았는지
+    boolean isStalledFor(long nanos, long now) {
+        return pendingBytes.get() > 0 && now - lastProgressNanos >= nanos;
+    }
+
+    // 데이터 전송을 멈추고 마지막 이벤트까지 보낸 뒤 연결을 끝낸다.
+    void drain(ServerSentEvent<Object> lastEvent) {
+        control.tryEmitNext(lastEvent);
+        control.tryEmitComplete();
+        draining.tryEmitEmpty();
+    }
+
+    // 쓰기가 막힌 연결이므로 남은 이벤트를 기다리지 않고 바로 끝낸다.
+    // 이미 소켓 쓰기에서 막힌 MVC 스레드는 깨우지 못하고, 컨테이너 쓰기 timeout(server.tomcat.connection-timeout)에 끝난다.
+    // 연결 수 집계는 SseConnectionRegistry가 종료를 기다리지 않고 바로 해제한다.
+    void evict() {
+        evicted.tryEmitEmpty();
+    }
+
+    void touch() {
+        lastActivityNanos = System.nanoTime();
+    }
+
+    boolean isIdleFor(long nanos, long now) {
+        return now - lastActivityNanos >= nanos;
+    }
+
+    void emit(ServerSentEvent<Object> event) {
+        if (control.tryEmitNext(event).isSuccess()) touch();
+    }
+
+    private void buffered(ServerSentEvent<Object> event) {
+        if (pendingBytes.getAndAdd(sizeOf(event)) == 0) {
+            lastProgressNanos = System.nanoTime();
+        }
+    }
+
+    private void writing(ServerSentEvent<Object> event) {
+        writingBytes.set(sizeOf(event));
+    }
+
+    // 다음 이벤트 요청은 이전 이벤트 쓰기가 끝났다는 뜻
+    private void written() {
+        pendingBytes.addAndGet(-writingBytes.getAndSet(0));
+        lastProgressNanos = System.nanoTime();
+    }
+
+    // 필드 이름과 줄바꿈을 포함한 대략적인 프레임 크기
+    private static long sizeOf(ServerSentEvent<Object> event) {
+        long size = 8;
+        if (event.data() instanceof String data) size += data.length() + 6;
+        if (event.id() != null) size += event.id().length() + 4;
+        if (event.event() != null) size += event.event().length() + 7;
+        if (event.comment() != null) size += event.comment().length() + 2;
+        return size;
+    }
+}
@@ -0,0 +1,236 @@
+package com.skyhorsemanpower.auction.sse;
+
+import com.skyhorsemanpower.auction.common.exception.CustomException;
+import com.skyhorsemanpower.auction.common.exception.ResponseStatus;
+import com.skyhorsemanpower.auction.common.exception.RetryableException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// 경매 페이지 SSE 연결 관리
+// 1. 노드, 경매, 사용자별 최대 연결 수를 넘는 연결은 429로 거절
+// 2. sweep-ms 마다 전송 대기 바이트가 max-pending-bytes를 넘거나
+//    stall-timeout-ms 동안 쓰이지 않은 연결(읽지 않는 클라이언트)을 끊는다.
+//    느린 연결은 최신 상태만 받으므로(RoundInfoBroadcaster) 전송 대기 이벤트 수로는 끊지 않는다.
+// 3. 종료 시 새 연결을 받지 않고, 기존 연결에는 재연결 간격을 알린 뒤 끊어 다른 인스턴스로 옮겨가게 한다.
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SseConnectionRegistry implements SmartLifecycle {
+    private final SseHeartbeatScheduler sseHeartbeatScheduler;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${auction.sse.governor.max-connections:20000}")
+    private int maxConnections;
+
+    @Value("${auction.sse.governor.max-per-auction:5000}")
+    private int maxPerAuction;
+
+    @Value("${auction.sse.governor.max-per-user:5}")
+    private int maxPerUser;
+
+    @Value("${auction.sse.governor.max-pending-bytes:65536}")
+    private long maxPendingBytes;
+
+    @Value("${auction.sse.governor.stall-timeout-ms:30000}")
+    private long stallTimeoutMs;
+
+    @Value("${auction.sse.governor.sweep-ms:1000}")
+    private long sweepMs;
+
+    // 종료 시 클라이언트가 재연결할 때까지 기다리는 최대 시간, 한꺼번에 몰리지 않도록 나눠준다.
+    @Value("${auction.sse.governor.drain-retry-ms:5000}")
+    private long drainRetryMs;
+
+    private final Map<String, SseConnection> connections = new ConcurrentHashMap<>();
+    // 증감은 compute 안에서만 한다.
+    private final Map<String, Integer> perAuction = new ConcurrentHashMap<>();
+    private final Map<String, Integer> perUser = new ConcurrentHashMap<>();
+    private final AtomicInteger total = new AtomicInteger();
+
+    private Counter pendingBytesEvictions;
+    private Counter stalledEvictions;
+    private Counter rejections;
+    private ScheduledExecutorService sweeper;
+    private volatile boolean running;
+
+    @PostConstruct
+    public void init() {
+        Gauge.builder("auction.sse.connections", total, AtomicInteger::get)
+                .description("열려 있는 경매 페이지 SSE 연결 수")
+                .register(meterRegistry);
+        pendingBytesEvictions = Counter.builder("auction.sse.evicted")
+                .tag("reason", "pending_bytes")
+                .description("전송 대기 바이트 초과로 끊은 SSE 연결 수")
+                .register(meterRegistry);
+        stalledEvictions = Counter.builder("auction.sse.evicted")
+                .tag("reason", "stalled")
+                .description("읽지 않는 클라이언트로 판단해 끊은 SSE 연결 수")
+                .register(meterRegistry);
+        rejections = Counter.builder("auction.sse.rejected")
+                .description("연결 수 제한으로 거절한 SSE 연결 수")
+                .register(meterRegistry);
+    }
+
+    // 응답을 시작하기 전에 429, 503으로 거절할 수 있도록 현재 연결 수만 확인한다.
+    // 실제 집계는 스트림을 구독할 때 open에서 하므로, 그 사이 다른 연결이 자리를 차지하면 open에서 다시 거절된다.
+    public void admit(String auctionUuid, String userUuid) {
+        if (!running) throw new RetryableException(ResponseStatus.SERVER_DRAINING, 1);
+        if (total.get() >= maxConnections) reject("node", auctionUuid);
+        if (auctionUuid != null && perAuction.getOrDefault(auctionUuid, 0) >= maxPerAuction) {
+            reject("auction", auctionUuid);
+        }
+        if (userUuid != null && perUser.getOrDefault(userUuid, 0) >= maxPerUser) reject("user", auctionUuid);
+    }
+
+    // 제한을 넘으면 CustomException, 종료 중이면 RetryableException
+    // 여러 경매를 구독하는 연결은 auctionUuid 없이 노드, 사용자 제한만 적용
+    // 스트림을 구독할 때(Flux.using) 호출해, 구독되지 않은 스트림이 연결 수를 차지하지 않게 한다.
+    public SseConnection open(String auctionUuid, String userUuid) {
+        if (!running) throw new RetryableException(ResponseStatus.SERVER_DRAINING, 1);
+
+        if (total.incrementAndGet() > maxConnections) {
+            total.decrementAndGet();
+            reject("node", auctionUuid);
+        }
+        if (auctionUuid != null && !tryIncrement(perAuction, auctionUuid, maxPerAuction)) {
+            total.decrementAndGet();
+            reject("auction", auctionUuid);
+        }
+        if (userUuid != null && !tryIncrement(perUser, userUuid, maxPerUser)) {
+            total.decrementAndGet();
+            if (auctionUuid != null) decrement(perAuction, auctionUuid);
+            reject("user", auctionUuid);
+        }
+
+        SseConnection connection = new SseConnection(auctionUuid, userUuid);
+        connections.put(connection.getId(), connection);
+        sseHeartbeatScheduler.register(connection);
+        return connection;
+    }
+
+    // 연결이 끝나면(정상 종료, 클라이언트 종료, 강제 종료) 한 번 호출
+    public void close(SseConnection connection) {
+        if (connections.remove(connection.getId()) == null) return;
+
+        sseHeartbeatScheduler.unregister(connection);
+        total.decrementAndGet();
+        if (connection.getAuctionUuid() != null) {
+            decrement(perAuction, connection.getAuctionUuid());
+        }
+        if (connection.getUserUuid() != null) {
+            decrement(perUser, connection.getUserUuid());
+        }
+    }
+
+    public int connectionCount() {
+        return total.get();
+    }
+
+    public Map<String, Integer> connectionsPerAuction() {
+        Map<String, Integer> counts = new TreeMap<>();
+        counts.putAll(perAuction);
+        return counts;
+    }
+
+    public Map<String, Double> evictions() {
+        return Map.of("pendingBytes", pendingBytesEvictions.count(),
+                "stalled", stalledEvictions.count(),
+                "rejected", rejections.count());
+    }
+
+    void sweep() {
+        try {
+            long now = System.nanoTime();
+            long stallTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(stallTimeoutMs);
+            for (SseConnection connection : connections.values()) {
+                if (connection.pendingBytes() > maxPendingBytes) {
+                    evict(connection, pendingBytesEvictions, "pending bytes");
+                } else if (connection.isStalledFor(stallTimeoutNanos, now)) {
+                    evict(connection, stalledEvictions, "stalled");
+                }
+            }
+        } catch (Exception e) {
+            log.warn("SSE connection sweep failed >>> {}", e.getMessage());
+        }
+    }
+
+    @Override
+    public void start() {
+        sweeper = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "sse-governor");
+            thread.setDaemon(true);
+            return thread;
+        });
+        sweeper.scheduleWithFixedDelay(this::sweep, sweepMs, sweepMs, TimeUnit.MILLISECONDS);
+        running = true;
+    }
+
+    // 웹 서버 graceful shutdown보다 먼저 실행되어, 열린 스트림이 종료를 막지 않도록 한다.
+    @Override
+    public void stop() {
+        running = false;
+        log.info("Draining SSE connections >>> {}", connections.size());
+        for (SseConnection connection : connections.values()) {
+            long retryMs = ThreadLocalRandom.current().nextLong(1, Math.max(2, drainRetryMs));
+            connection.drain(ServerSentEvent.<Object>builder()
+                    .comment("reconnect")
+                    .retry(Duration.ofMillis(retryMs))
+                    .build());
+        }
+        sweeper.shutdownNow();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void evict(SseConnection connection, Counter counter, String reason) {
+        counter.increment();
+        log.info("SSE connection evicted >>> auctionUuid: {}, reason: {}, pendingBytes: {}",
+                connection.getAuctionUuid(), reason, connection.pendingBytes());
+        connection.evict();
+        // 소켓 쓰기에서 막힌 스트림은 바로 끝나지 않으므로 종료를 기다리지 않고 집계에서 뺀다.
+        close(connection);
+    }
+
+    private void reject(String scope, String auctionUuid) {
+        rejections.increment();
+        log.info("SSE connection rejected >>> auctionUuid: {}, scope: {}", auctionUuid, scope);
+        throw new CustomException(ResponseStatus.TOO_MANY_CONNECTIONS);
+    }
+
+    private static boolean tryIncrement(Map<String, Integer> counts, String key, int max) {
+        boolean[] admitted = new boolean[1];
+        counts.compute(key, (k, count) -> {
+            int current = count != null ? count : 0;
+            if (current >= max) return count;
+            admitted[0] = true;
+            return current + 1;
+        });
+        return admitted[0];
+    }
+
+    // 연결이 없는 경매와 사용자는 맵에서 지운다.
+    private static void decrement(Map<String, Integer> counts, String key) {
+        counts.computeIfPresent(key, (k, count) -> count > 1 ? count - 1 : null);
+    }
+}
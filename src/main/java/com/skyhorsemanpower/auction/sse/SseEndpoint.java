@@ -0,0 +1,29 @@
+package com.skyhorsemanpower.auction.sse;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+// /actuator/sse, 경매별 SSE 연결 수와 강제 종료 횟수
+// management.endpoints.web.exposure.include에 sse를 추가해야 노출된다.
+@Component
+@RequiredArgsConstructor
+@Endpoint(id = "sse")
+public class SseEndpoint {
+    private final SseConnectionRegistry sseConnectionRegistry;
+    private final RoundInfoBroadcaster roundInfoBroadcaster;
+
+    @ReadOperation
+    public Map<String, Object> sse() {
+        Map<String, Object> sse = new LinkedHashMap<>();
+        sse.put("connections", sseConnectionRegistry.connectionCount());
+        sse.put("upstreams", roundInfoBroadcaster.upstreamCount());
+        sse.put("connectionsPerAuction", sseConnectionRegistry.connectionsPerAuction());
+        sse.put("evictions", sseConnectionRegistry.evictions());
+        return sse;
+    }
+}
@@ -0,0 +1,92 @@
+package com.skyhorsemanpower.auction.sse;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+// 노드 하나에 하나인 SSE heartbeat 스케줄러(hashed wheel)
+// 연결은 등록 시점의 슬롯에 들어가고, 스레드 하나가 tick마다 슬롯 하나씩 돌면서
+// interval 동안 아무 이벤트도 보내지 않은 연결에만 미리 만들어 둔 주석 이벤트를 보낸다.
+// 연결마다 타이머를 만들지 않으므로 연결 수와 관계없이 타이머는 하나다.
+@Slf4j
+@Component
+public class SseHeartbeatScheduler {
+    public static final ServerSentEvent<Object> HEARTBEAT = ServerSentEvent.<Object>builder().comment("heartbeat").build();
+
+    @Value("${auction.sse.heartbeat.interval-ms:60000}")
+    private long intervalMs;
+
+    @Value("${auction.sse.heartbeat.wheel-size:60}")
+    private int wheelSize;
+
+    private List<Set<SseConnection>> wheel;
+    private volatile int cursor;
+    private ScheduledExecutorService ticker;
+
+    @PostConstruct
+    public void start() {
+        wheel = new ArrayList<>(wheelSize);
+        for (int i = 0; i < wheelSize; i++) {
+            wheel.add(ConcurrentHashMap.newKeySet());
+        }
+
+        long tickMs = Math.max(1, intervalMs / wheelSize);
+        ticker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "sse-heartbeat");
+            thread.setDaemon(true);
+            return thread;
+        });
+        ticker.scheduleAtFixedRate(this::tick, tickMs, tickMs, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void stop() {
+        ticker.shutdownNow();
+    }
+
+    // 방금 처리한 슬롯에 넣어 한 바퀴(interval) 뒤에 처음 확인한다.
+    public void register(SseConnection connection) {
+        connection.slot = Math.floorMod(cursor - 1, wheelSize);
+        wheel.get(connection.slot).add(connection);
+    }
+
+    public void unregister(SseConnection connection) {
+        wheel.get(connection.slot).remove(connection);
+    }
+
+    public int connectionCount() {
+        int count = 0;
+        for (Set<SseConnection> slot : wheel) {
+            count += slot.size();
+        }
+        return count;
+    }
+
+    void tick() {
+        try {
+            long now = System.nanoTime();
+            long intervalNanos = TimeUnit.MILLISECONDS.toNanos(intervalMs);
+            for (SseConnection connection : wheel.get(cursor)) {
+                if (connection.isIdleFor(intervalNanos, now)) {
+                    connection.emit(HEARTBEAT);
+                }
+            }
+        } catch (Exception e) {
+            // 예외로 스케줄이 멈추지 않도록 한다.
+            log.warn("SSE heartbeat tick failed >>> {}", e.getMessage());
+        } finally {
+            cursor = (cursor + 1) % wheelSize;
+        }
+    }
+}
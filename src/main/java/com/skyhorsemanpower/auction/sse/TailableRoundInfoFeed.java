@@ -0,0 +1,21 @@
+package com.skyhorsemanpower.auction.sse;
+
+import com.skyhorsemanpower.auction.data.vo.RoundInfoResponseVo;
+import com.skyhorsemanpower.auction.repository.RoundInfoReactiveRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+
+// 기본 라운드 정보 스트림, 경매마다 round_info(capped collection) tailable cursor를 연다.
+@Component
+@RequiredArgsConstructor
+@Profile("!change-stream & !kafka-fanout")
+public class TailableRoundInfoFeed implements RoundInfoFeed {
+    private final RoundInfoReactiveRepository roundInfoReactiveRepository;
+
+    @Override
+    public Flux<RoundInfoResponseVo> watch(String auctionUuid) {
+        return roundInfoReactiveRepository.searchRoundInfo(auctionUuid);
+    }
+}
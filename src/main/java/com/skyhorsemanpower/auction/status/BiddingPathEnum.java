@@ -0,0 +1,14 @@
+package com.skyhorsemanpower.auction.status;
+
+// 입찰을 처리한 방식
+public enum BiddingPathEnum {
+    APPEND,
+    CURRENT_STATE,
+    ENGINE;
+
+    public static BiddingPathEnum of(boolean engineEnabled, boolean currentStateMode) {
+        if (engineEnabled) return ENGINE;
+        if (currentStateMode) return CURRENT_STATE;
+        return APPEND;
+    }
+}
@@ -0,0 +1,15 @@
+package com.skyhorsemanpower.auction.status;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum CloseStateEnum {
+    // 마감 전, 필드가 없는 도큐먼트도 마감 전으로 본다.
+    PENDING,
+    // 마감 처리 중, closeLeaseUntil이 지나면 다른 인스턴스가 이어서 마감
+    CLOSING,
+    // 마감 완료
+    CLOSED
+}
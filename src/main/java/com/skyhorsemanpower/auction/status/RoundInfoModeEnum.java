@@ -0,0 +1,13 @@
+package com.skyhorsemanpower.auction.status;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum RoundInfoModeEnum {
+    // 상태가 바뀔 때마다 round_info 도큐먼트를 새로 추가하고 createdAt 정렬로 최신 상태 조회
+    APPEND,
+    // 경매당 round_state 도큐먼트 하나를 조건부로 갱신하고 round_info는 이력으로만 추가
+    CURRENT_STATE
+}
@@ -0,0 +1,17 @@
+package com.skyhorsemanpower.auction.status;
+
+// 경매 페이지 SSE 데이터 형식
+// FULL: 매번 RoundInfoResponseVo 전체(기존 형식)
+// DELTA: snapshot 이벤트 이후 바뀐 필드만 delta 이벤트로 전송
+public enum SseEncodingEnum {
+    FULL,
+    DELTA;
+
+    // 알 수 없는 값은 기존 형식으로 처리
+    public static SseEncodingEnum of(String encoding) {
+        for (SseEncodingEnum value : values()) {
+            if (value.name().equalsIgnoreCase(encoding)) return value;
+        }
+        return FULL;
+    }
+}
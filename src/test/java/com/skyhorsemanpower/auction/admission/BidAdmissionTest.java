@@ -0,0 +1,118 @@
+package com.skyhorsemanpower.auction.admission;
+
+import com.skyhorsemanpower.auction.common.Money;
+import com.skyhorsemanpower.auction.common.exception.RetryableException;
+import com.skyhorsemanpower.auction.data.dto.OfferBiddingPriceDto;
+import com.skyhorsemanpower.auction.domain.RoundInfo;
+import com.skyhorsemanpower.auction.round.RoundInfoStore;
+import com.skyhorsemanpower.auction.round.data.RoundInfoChangedEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class BidAdmissionTest {
+
+    @Mock
+    private RoundInfoStore roundInfoStore;
+
+    private BidAdmission bidAdmission;
+
+    @BeforeEach
+    void setUp() {
+        bidAdmission = new BidAdmission(roundInfoStore, new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(bidAdmission, "enabled", true);
+        ReflectionTestUtils.setField(bidAdmission, "permitsPerSecond", 1.0);
+        ReflectionTestUtils.setField(bidAdmission, "burst", 1);
+        ReflectionTestUtils.setField(bidAdmission, "queueSize", 0);
+        ReflectionTestUtils.setField(bidAdmission, "refreshMs", 200L);
+        ReflectionTestUtils.setField(bidAdmission, "loadTimeoutMs", 500L);
+        bidAdmission.init();
+
+        // 2라운드 진행 중
+        LocalDateTime now = LocalDateTime.now();
+        bidAdmission.onRoundInfoChanged(new RoundInfoChangedEvent(RoundInfo.builder()
+                .auctionUuid("test-uuid")
+                .round(2)
+                .roundStartTime(now.minusSeconds(10))
+                .roundEndTime(now.plusSeconds(50))
+                .incrementUnit(Money.of(100))
+                .price(Money.of(1100))
+                .isActive(true)
+                .numberOfParticipants(5)
+                .leftNumberOfParticipants(5)
+                .auctionEndTime(now.plusHours(2))
+                .isLastRound(false)
+                .endStatus(false)
+                .build()));
+    }
+
+    @Test
+    @DisplayName("지난 라운드 입찰은 DB 조회 없이 거절된다")
+    void testAcquire_PastRound() {
+        // When
+        boolean admitted = bidAdmission.acquire(bid(1, "1000"));
+
+        // Then
+        assertThat(admitted).isFalse();
+        verify(roundInfoStore, never()).findCurrentReactive(any());
+    }
+
+    @Test
+    @DisplayName("처리량을 넘는 입찰은 Retry-After 값과 함께 거절된다")
+    void testAcquire_Throttled() {
+        // Given
+        assertThat(bidAdmission.acquire(bid(2, "1100"))).isTrue();
+
+        // When, Then
+        assertThatThrownBy(() -> bidAdmission.acquire(bid(2, "1100")))
+                .isInstanceOf(RetryableException.class)
+                .satisfies(e -> assertThat(((RetryableException) e).getRetryAfterSeconds()).isEqualTo(1));
+    }
+
+    @Test
+    @DisplayName("마감된 경매는 캐시에서 제거되어 다음 입찰은 현재 라운드 정보를 다시 읽는다")
+    void testEvictOnEnd() {
+        // Given
+        when(roundInfoStore.findCurrentReactive("test-uuid")).thenReturn(Mono.empty());
+        LocalDateTime now = LocalDateTime.now();
+        bidAdmission.onRoundInfoChanged(new RoundInfoChangedEvent(RoundInfo.builder()
+                .auctionUuid("test-uuid")
+                .round(2)
+                .createdAt(now)
+                .endStatus(true)
+                .build()));
+
+        // When
+        boolean admitted = bidAdmission.acquire(bid(2, "1100"));
+
+        // Then
+        assertThat(admitted).isTrue();
+        verify(roundInfoStore).findCurrentReactive("test-uuid");
+    }
+
+    private OfferBiddingPriceDto bid(int round, String price) {
+        return OfferBiddingPriceDto.builder()
+                .auctionUuid("test-uuid")
+                .biddingUuid("member")
+                .biddingPrice(Money.of(new BigDecimal(price)))
+                .round(round)
+                .build();
+    }
+}
@@ -0,0 +1,183 @@
+package com.skyhorsemanpower.auction.application.impl;
+
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+import com.skyhorsemanpower.auction.close.AuctionCloseProcessor;
+import com.skyhorsemanpower.auction.common.Money;
+import com.skyhorsemanpower.auction.config.MongoConfig;
+import com.skyhorsemanpower.auction.config.MongoIndexInitializer;
+import com.skyhorsemanpower.auction.data.dto.OfferBiddingPriceDto;
+import com.skyhorsemanpower.auction.domain.AuctionHistory;
+import com.skyhorsemanpower.auction.domain.RoundInfo;
+import com.skyhorsemanpower.auction.domain.WinnerLedger;
+import com.skyhorsemanpower.auction.history.AuctionHistoryBatchWriter;
+import com.skyhorsemanpower.auction.logging.BidEventLogger;
+import com.skyhorsemanpower.auction.repository.AuctionHistoryReactiveRepository;
+import com.skyhorsemanpower.auction.repository.AuctionHistoryRepository;
+import com.skyhorsemanpower.auction.repository.AuctionResultRepository;
+import com.skyhorsemanpower.auction.repository.RoundInfoRepository;
+import com.skyhorsemanpower.auction.round.BidderIndex;
+import com.skyhorsemanpower.auction.round.RoundInfoStore;
+import com.skyhorsemanpower.auction.round.RoundStateEngine;
+import com.skyhorsemanpower.auction.status.RoundInfoModeEnum;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.SimpleMongoClientDatabaseFactory;
+import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
+import org.springframework.data.mongodb.core.convert.MongoCustomConversions;
+import org.springframework.data.mongodb.core.convert.NoOpDbRefResolver;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.repository.support.MongoRepositoryFactory;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.testcontainers.containers.MongoDBContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+// APPEND 모드에서 같은 round_info 상태를 읽은 동시 입찰 확인
+// Docker가 없는 환경에서는 건너뛴다.
+@Testcontainers(disabledWithoutDocker = true)
+public class AuctionServiceImplTest {
+    private static final int BIDDERS = 4;
+
+    @Container
+    private static final MongoDBContainer MONGO = new MongoDBContainer("mongo:6.0");
+
+    private static MongoClient mongoClient;
+    private static MongoTemplate mongoTemplate;
+
+    private BidderIndex bidderIndex;
+    private AuctionServiceImpl auctionService;
+
+    @BeforeAll
+    static void setUpAll() {
+        mongoClient = MongoClients.create(MONGO.getReplicaSetUrl());
+        // Money 저장 형식은 애플리케이션과 같은 변환기로
+        MongoCustomConversions conversions = new MongoConfig().mongoCustomConversions();
+        MongoMappingContext mappingContext = new MongoMappingContext();
+        mappingContext.setSimpleTypeHolder(conversions.getSimpleTypeHolder());
+        MappingMongoConverter converter = new MappingMongoConverter(NoOpDbRefResolver.INSTANCE, mappingContext);
+        converter.setCustomConversions(conversions);
+        converter.afterPropertiesSet();
+        mongoTemplate = new MongoTemplate(new SimpleMongoClientDatabaseFactory(mongoClient, "auction"), converter);
+    }
+
+    @AfterAll
+    static void tearDownAll() {
+        mongoClient.close();
+    }
+
+    @BeforeEach
+    void setUp() throws Exception {
+        mongoTemplate.dropCollection(RoundInfoStore.HISTORY_COLLECTION);
+        mongoTemplate.dropCollection(AuctionHistory.class);
+        new MongoIndexInitializer(mongoTemplate).ensureIndexes();
+
+        MongoRepositoryFactory repositoryFactory = new MongoRepositoryFactory(mongoTemplate);
+        AuctionHistoryRepository auctionHistoryRepository =
+                repositoryFactory.getRepository(AuctionHistoryRepository.class);
+        RoundInfoStore roundInfoStore = new RoundInfoStore(repositoryFactory.getRepository(RoundInfoRepository.class),
+                mongoTemplate, mock(ReactiveMongoTemplate.class), mock(ApplicationEventPublisher.class));
+        ReflectionTestUtils.setField(roundInfoStore, "mode", RoundInfoModeEnum.APPEND);
+        AuctionHistoryBatchWriter auctionHistoryBatchWriter = new AuctionHistoryBatchWriter(auctionHistoryRepository,
+                mock(AuctionHistoryReactiveRepository.class), mongoTemplate, new SimpleMeterRegistry());
+        auctionHistoryBatchWriter.init();
+
+        // 모든 입찰이 같은 round_info를 읽은 뒤에 저장하도록 선점 단계에서 함께 기다린다.
+        CyclicBarrier barrier = new CyclicBarrier(BIDDERS);
+        bidderIndex = mock(BidderIndex.class);
+        when(bidderIndex.claim(anyString(), anyInt(), anyString())).thenAnswer(invocation -> {
+            barrier.await(5, TimeUnit.SECONDS);
+            return true;
+        });
+        RoundStateEngine roundStateEngine = mock(RoundStateEngine.class);
+        when(roundStateEngine.isEnabled()).thenReturn(false);
+
+        auctionService = new AuctionServiceImpl(roundInfoStore, mock(AuctionResultRepository.class),
+                roundStateEngine, auctionHistoryBatchWriter,
+                new BiddingSupport(roundInfoStore, bidderIndex, auctionHistoryBatchWriter, auctionHistoryRepository),
+                mock(BidEventLogger.class), mock(AuctionCloseProcessor.class));
+
+        mongoTemplate.insert(roundInfo(), RoundInfoStore.HISTORY_COLLECTION);
+    }
+
+    @Test
+    @DisplayName("같은 round_info를 읽은 동시 입찰은 하나만 반영되고, 나머지는 입찰 이력과 선점을 되돌리고 거절된다")
+    void testConcurrentBidsOnSameState() throws Exception {
+        // Given
+        ExecutorService executor = Executors.newFixedThreadPool(BIDDERS);
+
+        // When
+        List<Future<Boolean>> futures = IntStream.range(0, BIDDERS)
+                .mapToObj(i -> executor.submit(() -> auctionService.offerBiddingPrice(bid("member-" + i))))
+                .toList();
+        long accepted = 0;
+        for (Future<Boolean> future : futures) {
+            if (future.get(10, TimeUnit.SECONDS)) accepted++;
+        }
+        executor.shutdown();
+
+        // Then
+        assertThat(accepted).isEqualTo(1);
+        assertThat(mongoTemplate.count(Query.query(Criteria.where("auctionUuid").is("test-uuid")),
+                AuctionHistory.class)).isEqualTo(1);
+        assertThat(mongoTemplate.count(Query.query(Criteria.where("auctionUuid").is("test-uuid")),
+                RoundInfoStore.HISTORY_COLLECTION)).isEqualTo(2);
+        verify(bidderIndex, times(BIDDERS - 1)).release(anyString(), anyInt(), anyString());
+    }
+
+    private RoundInfo roundInfo() {
+        LocalDateTime now = LocalDateTime.now();
+        return RoundInfo.builder()
+                .auctionUuid("test-uuid")
+                .round(1)
+                .roundStartTime(now.minusSeconds(10))
+                .roundEndTime(now.plusSeconds(50))
+                .incrementUnit(Money.of(100))
+                .price(Money.of(1000))
+                .isActive(true)
+                .numberOfParticipants(BIDDERS + 1)
+                .leftNumberOfParticipants(BIDDERS + 1)
+                .createdAt(now)
+                .auctionEndTime(now.plusHours(2))
+                .isLastRound(false)
+                .endStatus(false)
+                .sequence(1)
+                .winnerLedger(WinnerLedger.empty())
+                .build();
+    }
+
+    private OfferBiddingPriceDto bid(String biddingUuid) {
+        return OfferBiddingPriceDto.builder()
+                .auctionUuid("test-uuid")
+                .biddingUuid(biddingUuid)
+                .biddingPrice(Money.of(1000))
+                .round(1)
+                .build();
+    }
+}
@@ -0,0 +1,97 @@
+package com.skyhorsemanpower.auction.close;
+
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+import com.skyhorsemanpower.auction.round.RoundInfoStore;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.testcontainers.containers.MongoDBContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+// Docker가 없는 환경에서는 건너뛴다.
+@Testcontainers(disabledWithoutDocker = true)
+public class AuctionCloseCoordinatorTest {
+
+    @Container
+    private static final MongoDBContainer MONGO = new MongoDBContainer("mongo:6.0");
+
+    private static MongoClient mongoClient;
+    private static MongoTemplate mongoTemplate;
+
+    private AuctionCloseCoordinator auctionCloseCoordinator;
+
+    @BeforeAll
+    static void setUpAll() {
+        mongoClient = MongoClients.create(MONGO.getReplicaSetUrl());
+        mongoTemplate = new MongoTemplate(mongoClient, "auction");
+    }
+
+    @AfterAll
+    static void tearDownAll() {
+        mongoClient.close();
+    }
+
+    @BeforeEach
+    void setUp() {
+        mongoTemplate.dropCollection(AuctionCloseCoordinator.CLOSE_STATE_COLLECTION);
+        RoundInfoStore roundInfoStore = mock(RoundInfoStore.class);
+        when(roundInfoStore.isCurrentStateMode()).thenReturn(false);
+        auctionCloseCoordinator = new AuctionCloseCoordinator(mongoTemplate, roundInfoStore);
+        ReflectionTestUtils.setField(auctionCloseCoordinator, "leaseMs", 60_000L);
+    }
+
+    @Test
+    @DisplayName("마감은 한 번만 선점되고, 마감 완료 후에는 다시 선점되지 않는다")
+    void testCloseOnce() {
+        // Given
+        Optional<String> leaseToken = auctionCloseCoordinator.tryAcquire("test-uuid");
+
+        // When, Then
+        assertThat(leaseToken).isPresent();
+        assertThat(auctionCloseCoordinator.tryAcquire("test-uuid")).isEmpty();
+        assertThat(auctionCloseCoordinator.complete("test-uuid", leaseToken.get())).isTrue();
+        assertThat(auctionCloseCoordinator.tryAcquire("test-uuid")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("lease가 지나면 다른 요청이 이어서 마감하고, 이전 lease로는 완료할 수 없다")
+    void testTakeOverExpiredLease() {
+        // Given
+        ReflectionTestUtils.setField(auctionCloseCoordinator, "leaseMs", -1_000L);
+        Optional<String> crashed = auctionCloseCoordinator.tryAcquire("test-uuid");
+
+        // When
+        Optional<String> takenOver = auctionCloseCoordinator.tryAcquire("test-uuid");
+
+        // Then
+        assertThat(crashed).isPresent();
+        assertThat(takenOver).isPresent();
+        assertThat(auctionCloseCoordinator.complete("test-uuid", crashed.get())).isFalse();
+        assertThat(auctionCloseCoordinator.complete("test-uuid", takenOver.get())).isTrue();
+    }
+
+    @Test
+    @DisplayName("마감 중 오류로 lease를 되돌리면 바로 다시 선점할 수 있다")
+    void testReleaseLease() {
+        // Given
+        Optional<String> leaseToken = auctionCloseCoordinator.tryAcquire("test-uuid");
+
+        // When
+        auctionCloseCoordinator.release("test-uuid", leaseToken.orElseThrow());
+
+        // Then
+        assertThat(auctionCloseCoordinator.tryAcquire("test-uuid")).isPresent();
+    }
+}
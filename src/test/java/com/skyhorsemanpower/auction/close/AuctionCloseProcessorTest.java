@@ -0,0 +1,198 @@
+package com.skyhorsemanpower.auction.close;
+
+import com.skyhorsemanpower.auction.admission.BidAdmission;
+import com.skyhorsemanpower.auction.common.Money;
+import com.skyhorsemanpower.auction.common.exception.CustomException;
+import com.skyhorsemanpower.auction.common.exception.ResponseStatus;
+import com.skyhorsemanpower.auction.data.projection.CloseWinnersProjection;
+import com.skyhorsemanpower.auction.domain.AuctionResult;
+import com.skyhorsemanpower.auction.domain.RoundInfo;
+import com.skyhorsemanpower.auction.domain.WinnerLedger;
+import com.skyhorsemanpower.auction.logging.BidEventLogger;
+import com.skyhorsemanpower.auction.repository.AuctionHistoryRepository;
+import com.skyhorsemanpower.auction.repository.AuctionResultRepository;
+import com.skyhorsemanpower.auction.round.BidderIndex;
+import com.skyhorsemanpower.auction.round.RoundInfoStore;
+import com.skyhorsemanpower.auction.round.RoundStateEngine;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class AuctionCloseProcessorTest {
+
+    @Mock
+    private AuctionHistoryRepository auctionHistoryRepository;
+
+    @Mock
+    private RoundInfoStore roundInfoStore;
+
+    @Mock
+    private AuctionResultRepository auctionResultRepository;
+
+    @Mock
+    private AuctionCloseCoordinator auctionCloseCoordinator;
+
+    @Mock
+    private RoundStateEngine roundStateEngine;
+
+    @Mock
+    private BidderIndex bidderIndex;
+
+    @Mock
+    private BidEventLogger bidEventLogger;
+
+    @Mock
+    private BidAdmission bidAdmission;
+
+    @InjectMocks
+    private AuctionCloseProcessor auctionCloseProcessor;
+
+    @Test
+    @DisplayName("round_info가 없으면 입찰자 없음으로 마감하지 않고 NO_DATA로 실패한 뒤 lease를 놓는다")
+    void testCloseWithoutRoundInfo() {
+        // Given
+        when(auctionCloseCoordinator.tryAcquire("test-uuid")).thenReturn(Optional.of("lease-token"));
+        when(roundInfoStore.findCurrent("test-uuid")).thenReturn(Optional.empty());
+
+        // When, Then
+        assertThatThrownBy(() -> auctionCloseProcessor.close("test-uuid"))
+                .isInstanceOf(CustomException.class)
+                .extracting("responseStatus").isEqualTo(ResponseStatus.NO_DATA);
+        verify(auctionResultRepository, never()).insert(any(AuctionResult.class));
+        verify(auctionCloseCoordinator).release("test-uuid", "lease-token");
+        verify(auctionCloseCoordinator, never()).complete(anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("APPEND 방식에서는 장부가 맞아 보여도 auction_history 집계로 낙찰자를 정한다")
+    void testAppendModeUsesAggregation() {
+        // Given
+        givenRoundInfo(completeLedgerRoundInfo());
+        when(roundStateEngine.isEnabled()).thenReturn(false);
+        when(roundInfoStore.isCurrentStateMode()).thenReturn(false);
+        when(auctionHistoryRepository.findCloseWinners("test-uuid", 2, 1, 2)).thenReturn(Optional.of(
+                CloseWinnersProjection.builder().memberUuids(List.of("member-3", "member-1")).price(Money.of(1000))
+                        .build()));
+
+        // When
+        auctionCloseProcessor.close("test-uuid");
+
+        // Then
+        assertThat(savedResult().getMemberUuids()).containsExactly("member-3", "member-1");
+    }
+
+    @Test
+    @DisplayName("CURRENT_STATE 방식에서 장부가 맞으면 auction_history를 읽지 않는다")
+    void testCurrentStateModeUsesLedger() {
+        // Given
+        givenRoundInfo(completeLedgerRoundInfo());
+        when(roundStateEngine.isEnabled()).thenReturn(false);
+        when(roundInfoStore.isCurrentStateMode()).thenReturn(true);
+
+        // When
+        auctionCloseProcessor.close("test-uuid");
+
+        // Then
+        assertThat(savedResult().getMemberUuids()).containsExactly("member-2", "member-1");
+        assertThat(savedResult().getPrice()).isEqualByComparingTo(Money.of(1000));
+        verify(auctionHistoryRepository, never()).findCloseWinners(anyString(), anyInt(), anyInt(), anyLong());
+    }
+
+    @Test
+    @DisplayName("ENGINE 방식이라도 장부가 맞지 않으면 auction_history 집계로 넘긴다")
+    void testIncompleteLedgerFallsBack() {
+        // Given, 2라운드 입찰 1명인데 장부에는 없음
+        RoundInfo roundInfo = roundInfo(WinnerLedger.empty().accept("member-1").accept("member-2")
+                .advance(Money.of(1000)));
+        givenRoundInfo(roundInfo);
+        when(roundStateEngine.isEnabled()).thenReturn(true);
+        when(auctionHistoryRepository.findCloseWinners("test-uuid", 2, 1, 2)).thenReturn(Optional.of(
+                CloseWinnersProjection.builder().memberUuids(List.of("member-2", "member-1")).price(Money.of(1000))
+                        .build()));
+
+        // When
+        auctionCloseProcessor.close("test-uuid");
+
+        // Then
+        verify(auctionHistoryRepository).findCloseWinners("test-uuid", 2, 1, 2);
+        assertThat(savedResult().getMemberUuids()).containsExactly("member-2", "member-1");
+    }
+
+    @Test
+    @DisplayName("입찰자 없이 마감된 경매도 라운드 상태 엔진, 입찰자 색인, 입장 제어에서 제거한다")
+    void testCloseWithoutParticipantsEvicts() {
+        // Given
+        givenRoundInfo(roundInfo(WinnerLedger.empty()));
+        when(roundStateEngine.isEnabled()).thenReturn(false);
+        when(roundInfoStore.isCurrentStateMode()).thenReturn(false);
+        when(auctionHistoryRepository.findCloseWinners("test-uuid", 2, 1, 2)).thenReturn(Optional.empty());
+
+        // When
+        auctionCloseProcessor.close("test-uuid");
+
+        // Then
+        assertThat(savedResult().getMemberUuids()).isEmpty();
+        verify(roundStateEngine).release("test-uuid");
+        verify(bidderIndex).evict("test-uuid");
+        verify(bidEventLogger).evict("test-uuid");
+        verify(bidAdmission).evict("test-uuid");
+    }
+
+    private void givenRoundInfo(RoundInfo roundInfo) {
+        when(auctionCloseCoordinator.tryAcquire("test-uuid")).thenReturn(Optional.of("lease-token"));
+        when(roundInfoStore.findCurrent("test-uuid")).thenReturn(Optional.of(roundInfo));
+    }
+
+    // 2명 낙찰 경매, 1라운드 2명, 2라운드 1명 입찰
+    private RoundInfo completeLedgerRoundInfo() {
+        return roundInfo(WinnerLedger.empty().accept("member-1").accept("member-2")
+                .advance(Money.of(1000))
+                .accept("member-2"));
+    }
+
+    private RoundInfo roundInfo(WinnerLedger winnerLedger) {
+        LocalDateTime now = LocalDateTime.now();
+        return RoundInfo.builder()
+                .auctionUuid("test-uuid")
+                .round(2)
+                .roundStartTime(now.minusSeconds(30))
+                .roundEndTime(now.plusSeconds(30))
+                .incrementUnit(Money.of(100))
+                .price(Money.of(1100))
+                .isActive(true)
+                .numberOfParticipants(2)
+                .leftNumberOfParticipants(1)
+                .createdAt(now)
+                .auctionEndTime(now)
+                .isLastRound(true)
+                .endStatus(false)
+                .sequence(5)
+                .winnerLedger(winnerLedger)
+                .build();
+    }
+
+    private AuctionResult savedResult() {
+        ArgumentCaptor<AuctionResult> auctionResult = ArgumentCaptor.forClass(AuctionResult.class);
+        verify(auctionResultRepository).insert(auctionResult.capture());
+        return auctionResult.getValue();
+    }
+}
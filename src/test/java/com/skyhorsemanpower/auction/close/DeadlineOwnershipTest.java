@@ -0,0 +1,43 @@
+package com.skyhorsemanpower.auction.close;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class DeadlineOwnershipTest {
+
+    @Test
+    @DisplayName("경매는 인스턴스마다 고르게 나뉘고, 인스턴스가 나가면 그 인스턴스의 경매만 옮겨진다")
+    void testRebalanceOnlyDepartedMember() {
+        // Given
+        List<String> members = List.of("auction-1", "auction-2", "auction-3");
+        List<String> remaining = List.of("auction-1", "auction-3");
+        Map<String, Integer> owned = new HashMap<>();
+        int moved = 0;
+
+        // When
+        for (int i = 0; i < 3_000; i++) {
+            String auctionUuid = UUID.randomUUID().toString();
+            String owner = DeadlineOwnership.ownerOf(auctionUuid, members);
+            owned.merge(owner, 1, Integer::sum);
+
+            String nextOwner = DeadlineOwnership.ownerOf(auctionUuid, remaining);
+            if (!owner.equals(nextOwner)) {
+                moved++;
+                // Then
+                assertThat(owner).isEqualTo("auction-2");
+            }
+        }
+
+        // Then
+        assertThat(owned).hasSize(3);
+        assertThat(owned.values()).allSatisfy(count -> assertThat(count).isBetween(800, 1_200));
+        assertThat(moved).isEqualTo(owned.get("auction-2"));
+    }
+}
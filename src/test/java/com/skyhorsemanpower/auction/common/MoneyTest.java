@@ -0,0 +1,39 @@
+package com.skyhorsemanpower.auction.common;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.exc.InvalidFormatException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class MoneyTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    @DisplayName("표기가 달라도 같은 금액이면 같다")
+    void testEquals() {
+        assertThat(Money.of(new BigDecimal("12000.00"))).isEqualTo(Money.of(12000));
+        assertThat(Money.of(12000).plus(Money.of(new BigDecimal("0.5"))).getMinorUnits()).isEqualTo(1200050);
+    }
+
+    @Test
+    @DisplayName("JSON은 기존 BigDecimal과 같은 숫자 형식으로 주고받는다")
+    void testJson() throws Exception {
+        assertThat(objectMapper.writeValueAsString(Money.of(12000))).isEqualTo("12000");
+        assertThat(objectMapper.writeValueAsString(Money.of(new BigDecimal("12000.5")))).isEqualTo("12000.50");
+        assertThat(objectMapper.readValue("12000", Money.class)).isEqualTo(Money.of(12000));
+        assertThat(objectMapper.readValue("\"12000.10\"", Money.class)).isEqualTo(Money.ofMinor(1200010));
+    }
+
+    @Test
+    @DisplayName("소수점 셋째 자리 이하 금액은 거절한다")
+    void testJson_TooManyDecimals() {
+        assertThatThrownBy(() -> objectMapper.readValue("12000.001", Money.class))
+                .isInstanceOf(InvalidFormatException.class);
+    }
+}
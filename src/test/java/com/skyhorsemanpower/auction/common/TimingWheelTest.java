@@ -0,0 +1,71 @@
+package com.skyhorsemanpower.auction.common;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class TimingWheelTest {
+    private static final long START = 1_000_000L;
+
+    private TimingWheel timingWheel;
+
+    @BeforeEach
+    void setUp() {
+        // tick 10ms, 단계당 4칸, 2단계 -> 하위 단계 40ms, 상위 단계 160ms, 그 이후는 overflow
+        timingWheel = new TimingWheel(10, 4, 2, START);
+    }
+
+    @Test
+    @DisplayName("여러 단계와 overflow에 걸친 마감 시간을 만료 순서대로 꺼낸다")
+    void testExpireAcrossLevels() {
+        // Given
+        timingWheel.schedule("level-0", START + 25);
+        timingWheel.schedule("level-1", START + 130);
+        timingWheel.schedule("overflow", START + 1_000);
+
+        // When
+        List<String> expired = new ArrayList<>();
+        List<Long> expiredAt = new ArrayList<>();
+        for (long now = START; now <= START + 1_200; now += 10) {
+            for (String key : timingWheel.advance(now)) {
+                expired.add(key);
+                expiredAt.add(now - START);
+            }
+        }
+
+        // Then
+        assertThat(expired).containsExactly("level-0", "level-1", "overflow");
+        assertThat(expiredAt).containsExactly(30L, 130L, 1_000L);
+        assertThat(timingWheel.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("다시 등록하면 이전 마감 시간은 무시하고, 취소하면 꺼내지 않는다")
+    void testRescheduleAndCancel() {
+        // Given
+        timingWheel.schedule("rescheduled", START + 20);
+        timingWheel.schedule("rescheduled", START + 60);
+        timingWheel.schedule("cancelled", START + 30);
+        timingWheel.cancel("cancelled");
+
+        // When, Then
+        assertThat(timingWheel.advance(START + 50)).isEmpty();
+        assertThat(timingWheel.advance(START + 60)).containsExactly("rescheduled");
+        assertThat(timingWheel.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("이미 지난 마감 시간은 다음 advance에서 바로 꺼낸다")
+    void testExpirePastDeadline() {
+        // Given
+        timingWheel.schedule("past", START - 5_000);
+
+        // When, Then
+        assertThat(timingWheel.advance(START)).containsExactly("past");
+    }
+}
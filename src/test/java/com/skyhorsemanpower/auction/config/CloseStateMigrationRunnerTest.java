@@ -0,0 +1,122 @@
+package com.skyhorsemanpower.auction.config;
+
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+import com.skyhorsemanpower.auction.close.AuctionCloseCoordinator;
+import com.skyhorsemanpower.auction.round.RoundInfoStore;
+import com.skyhorsemanpower.auction.status.CloseStateEnum;
+import org.bson.Document;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.jdbc.BadSqlGrammarException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.testcontainers.containers.MongoDBContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.sql.SQLException;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+// Docker가 없는 환경에서는 건너뛴다.
+@Testcontainers(disabledWithoutDocker = true)
+public class CloseStateMigrationRunnerTest {
+
+    @Container
+    private static final MongoDBContainer MONGO = new MongoDBContainer("mongo:6.0");
+
+    private static MongoClient mongoClient;
+    private static MongoTemplate mongoTemplate;
+
+    private JdbcTemplate jdbcTemplate;
+    private CloseStateMigrationRunner closeStateMigrationRunner;
+
+    @BeforeAll
+    static void setUpAll() {
+        mongoClient = MongoClients.create(MONGO.getReplicaSetUrl());
+        mongoTemplate = new MongoTemplate(mongoClient, "auction");
+    }
+
+    @AfterAll
+    static void tearDownAll() {
+        mongoClient.close();
+    }
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        mongoTemplate.dropCollection("auction_result");
+        mongoTemplate.dropCollection(RoundInfoStore.CURRENT_STATE_COLLECTION);
+        mongoTemplate.dropCollection(AuctionCloseCoordinator.CLOSE_STATE_COLLECTION);
+
+        jdbcTemplate = mock(JdbcTemplate.class);
+        ObjectProvider<JdbcTemplate> jdbcTemplateProvider = mock(ObjectProvider.class);
+        when(jdbcTemplateProvider.getIfAvailable()).thenReturn(jdbcTemplate);
+        closeStateMigrationRunner = new CloseStateMigrationRunner(mongoTemplate, jdbcTemplateProvider);
+    }
+
+    @Test
+    @DisplayName("auction_result 또는 auction_unique가 있는 경매는 CLOSED로 기록하고, 마감 상태가 있는 경매는 건드리지 않는다")
+    void testMigrateClosedAuctions() {
+        // Given
+        mongoTemplate.insert(new Document("_id", "result-uuid").append("auctionUuid", "result-uuid"),
+                "auction_result");
+        when(jdbcTemplate.queryForList(CloseStateMigrationRunner.AUCTION_UNIQUE_QUERY, String.class))
+                .thenReturn(List.of("unique-uuid", "closing-uuid"));
+        mongoTemplate.insert(new Document("auctionUuid", "result-uuid"), RoundInfoStore.CURRENT_STATE_COLLECTION);
+        mongoTemplate.insert(new Document("auctionUuid", "open-uuid"), RoundInfoStore.CURRENT_STATE_COLLECTION);
+        mongoTemplate.insert(new Document("_id", "closing-uuid")
+                .append("closeState", CloseStateEnum.CLOSING.name()), AuctionCloseCoordinator.CLOSE_STATE_COLLECTION);
+
+        // When, 두 번 실행해도 결과는 같다.
+        closeStateMigrationRunner.migrate();
+        closeStateMigrationRunner.migrate();
+
+        // Then
+        assertThat(roundStateCloseState("result-uuid")).isEqualTo(CloseStateEnum.CLOSED.name());
+        assertThat(roundStateCloseState("open-uuid")).isNull();
+        assertThat(auctionCloseState("result-uuid")).isEqualTo(CloseStateEnum.CLOSED.name());
+        assertThat(auctionCloseState("unique-uuid")).isEqualTo(CloseStateEnum.CLOSED.name());
+        assertThat(auctionCloseState("closing-uuid")).isEqualTo(CloseStateEnum.CLOSING.name());
+        assertThat(auctionCloseState("open-uuid")).isNull();
+    }
+
+    @Test
+    @DisplayName("auction_unique 테이블이 없으면 auction_result만으로 마감 상태를 기록한다")
+    void testMigrateWithoutAuctionUnique() {
+        // Given
+        mongoTemplate.insert(new Document("_id", "result-uuid").append("auctionUuid", "result-uuid"),
+                "auction_result");
+        when(jdbcTemplate.queryForList(CloseStateMigrationRunner.AUCTION_UNIQUE_QUERY, String.class))
+                .thenThrow(new BadSqlGrammarException("auction_unique", CloseStateMigrationRunner.AUCTION_UNIQUE_QUERY,
+                        new SQLException("relation \"auction_unique\" does not exist")));
+
+        // When
+        closeStateMigrationRunner.migrate();
+
+        // Then
+        assertThat(auctionCloseState("result-uuid")).isEqualTo(CloseStateEnum.CLOSED.name());
+    }
+
+    private String roundStateCloseState(String auctionUuid) {
+        Document roundState = mongoTemplate.findOne(Query.query(Criteria.where("auctionUuid").is(auctionUuid)),
+                Document.class, RoundInfoStore.CURRENT_STATE_COLLECTION);
+        return roundState == null ? null : roundState.getString("closeState");
+    }
+
+    private String auctionCloseState(String auctionUuid) {
+        Document closeState = mongoTemplate.findById(auctionUuid, Document.class,
+                AuctionCloseCoordinator.CLOSE_STATE_COLLECTION);
+        return closeState == null ? null : closeState.getString("closeState");
+    }
+}
@@ -0,0 +1,115 @@
+package com.skyhorsemanpower.auction.domain;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.skyhorsemanpower.auction.common.Money;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class WinnerLedgerTest {
+
+    @Test
+    @DisplayName("입찰자는 현재 라운드에 입찰 순서대로 추가되고, 기존 장부는 바뀌지 않는다")
+    void testAccept() {
+        // Given
+        WinnerLedger winnerLedger = WinnerLedger.empty().accept("member-1");
+
+        // When
+        WinnerLedger accepted = winnerLedger.accept("member-2");
+
+        // Then
+        assertThat(accepted.getRoundBidders()).containsExactly("member-1", "member-2");
+        assertThat(winnerLedger.getRoundBidders()).containsExactly("member-1");
+    }
+
+    @Test
+    @DisplayName("다음 라운드로 넘어가면 현재 라운드 입찰자와 입찰가가 직전 라운드로 옮겨진다")
+    void testAdvance() {
+        // Given
+        WinnerLedger winnerLedger = WinnerLedger.empty().accept("member-1").accept("member-2");
+
+        // When
+        WinnerLedger advanced = winnerLedger.advance(Money.of(1000));
+
+        // Then
+        assertThat(advanced.getRoundBidders()).isEmpty();
+        assertThat(advanced.getPreviousRoundBidders()).containsExactly("member-1", "member-2");
+        assertThat(advanced.getPreviousRoundPrice()).isEqualByComparingTo(Money.of(1000));
+    }
+
+    @Test
+    @DisplayName("입찰 수와 장부가 맞으면 장부만으로 낙찰자와 낙찰가를 정한다")
+    void testComplete() {
+        // Given, 2명 낙찰 경매, 2라운드에 1명 입찰
+        WinnerLedger winnerLedger = WinnerLedger.empty().accept("member-1").accept("member-2")
+                .advance(Money.of(1000))
+                .accept("member-2");
+        RoundInfo roundInfo = roundInfo(2, 1, winnerLedger);
+
+        // When, Then
+        assertThat(winnerLedger.isComplete(roundInfo)).isTrue();
+        assertThat(winnerLedger.winners(2)).containsExactly("member-2", "member-1");
+        assertThat(winnerLedger.clearingPrice(Money.of(1100))).isEqualByComparingTo(Money.of(1000));
+    }
+
+    @Test
+    @DisplayName("1라운드에서는 현재 라운드 입찰 수만 맞으면 되고 낙찰가는 현재 라운드 입찰가다")
+    void testCompleteInFirstRound() {
+        // Given
+        WinnerLedger winnerLedger = WinnerLedger.empty().accept("member-1");
+        RoundInfo roundInfo = roundInfo(1, 1, winnerLedger);
+
+        // When, Then
+        assertThat(winnerLedger.isComplete(roundInfo)).isTrue();
+        assertThat(winnerLedger.clearingPrice(Money.of(1000))).isEqualByComparingTo(Money.of(1000));
+    }
+
+    @Test
+    @DisplayName("장부가 입찰 수와 다르거나 직전 라운드 기록이 없으면 auction_history 집계로 넘긴다")
+    void testIncomplete() {
+        // Given
+        WinnerLedger missingBidder = WinnerLedger.empty().accept("member-1").accept("member-2")
+                .advance(Money.of(1000));
+        WinnerLedger missingPreviousRound = WinnerLedger.builder().roundBidders(List.of("member-1")).build();
+        RoundInfo legacyRoundInfo = RoundInfo.builder().round(2).numberOfParticipants(2)
+                .leftNumberOfParticipants(1).build();
+
+        // When, Then
+        assertThat(missingBidder.isComplete(roundInfo(2, 1, missingBidder))).isFalse();
+        assertThat(missingPreviousRound.isComplete(roundInfo(2, 1, missingPreviousRound))).isFalse();
+        assertThat(WinnerLedger.of(legacyRoundInfo).isComplete(legacyRoundInfo)).isFalse();
+    }
+
+    // 2명 낙찰 경매의 라운드 정보
+    private RoundInfo roundInfo(int round, int roundBidderCount, WinnerLedger winnerLedger) {
+        return RoundInfo.builder()
+                .auctionUuid("test-uuid")
+                .round(round)
+                .numberOfParticipants(2)
+                .leftNumberOfParticipants(2 - roundBidderCount)
+                .winnerLedger(winnerLedger)
+                .build();
+    }
+
+    @Test
+    @DisplayName("라운드 정보를 API 응답으로 내보낼 때 입찰자 장부는 포함하지 않는다")
+    void testLedgerNotSerialized() throws Exception {
+        // Given
+        ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        RoundInfo roundInfo = RoundInfo.builder()
+                .auctionUuid("test-uuid")
+                .round(1)
+                .winnerLedger(WinnerLedger.empty().accept("member-1"))
+                .build();
+
+        // When
+        String json = objectMapper.writeValueAsString(roundInfo);
+
+        // Then
+        assertThat(json).contains("test-uuid").doesNotContain("winnerLedger").doesNotContain("member-1");
+    }
+}
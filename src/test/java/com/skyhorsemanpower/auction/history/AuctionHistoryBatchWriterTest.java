@@ -0,0 +1,155 @@
+package com.skyhorsemanpower.auction.history;
+
+import com.skyhorsemanpower.auction.common.Money;
+import com.skyhorsemanpower.auction.common.exception.CustomException;
+import com.skyhorsemanpower.auction.common.exception.ResponseStatus;
+import com.skyhorsemanpower.auction.domain.AuctionHistory;
+import com.skyhorsemanpower.auction.repository.AuctionHistoryReactiveRepository;
+import com.skyhorsemanpower.auction.repository.AuctionHistoryRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+
+@ExtendWith(MockitoExtension.class)
+public class AuctionHistoryBatchWriterTest {
+
+    @Mock
+    private AuctionHistoryRepository auctionHistoryRepository;
+
+    @Mock
+    private AuctionHistoryReactiveRepository auctionHistoryReactiveRepository;
+
+    @Mock
+    private MongoTemplate mongoTemplate;
+
+    private final List<List<String>> flushedBatches = new CopyOnWriteArrayList<>();
+    // 배치 저장을 멈춰 두는 latch, 기본은 바로 통과
+    private volatile CountDownLatch flushGate = new CountDownLatch(0);
+
+    private AuctionHistoryBatchWriter auctionHistoryBatchWriter;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        BulkOperations bulkOperations = mock(BulkOperations.class);
+        lenient().when(mongoTemplate.bulkOps(eq(BulkOperations.BulkMode.UNORDERED), eq(AuctionHistory.class)))
+                .thenReturn(bulkOperations);
+        lenient().when(bulkOperations.insert(anyList())).thenAnswer(invocation -> {
+            List<AuctionHistory> histories = invocation.getArgument(0);
+            flushedBatches.add(histories.stream().map(AuctionHistory::getBiddingUuid).toList());
+            return bulkOperations;
+        });
+        lenient().when(bulkOperations.execute()).thenAnswer(invocation -> {
+            flushGate.await(5, TimeUnit.SECONDS);
+            return null;
+        });
+
+        auctionHistoryBatchWriter = new AuctionHistoryBatchWriter(auctionHistoryRepository,
+                auctionHistoryReactiveRepository, mongoTemplate, new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(auctionHistoryBatchWriter, "enabled", true);
+        ReflectionTestUtils.setField(auctionHistoryBatchWriter, "windowMs", 50L);
+        ReflectionTestUtils.setField(auctionHistoryBatchWriter, "maxSize", 128);
+        ReflectionTestUtils.setField(auctionHistoryBatchWriter, "timeoutMs", 300L);
+        auctionHistoryBatchWriter.init();
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        flushGate.countDown();
+        auctionHistoryBatchWriter.shutdown();
+    }
+
+    @Test
+    @DisplayName("window 안에 들어온 입찰 이력은 insertMany 한 번으로 저장된다")
+    void testBatching() throws Exception {
+        // Given
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
+
+        // When
+        for (int i = 0; i < 10; i++) {
+            futures.add(auctionHistoryBatchWriter.write(history("member-" + i)));
+        }
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).get(1, TimeUnit.SECONDS);
+
+        // Then
+        assertThat(flushedBatches).hasSize(1);
+        assertThat(flushedBatches.get(0)).hasSize(10);
+    }
+
+    @Test
+    @DisplayName("제한 시간이 지나 호출자가 포기한 입찰 이력은 저장하지 않는다")
+    void testTimeout() throws Exception {
+        // Given, 첫 배치 저장이 멈춰 있는 동안 두 번째 이력이 대기
+        flushGate = new CountDownLatch(1);
+        CompletableFuture<Void> first = auctionHistoryBatchWriter.write(history("member-0"));
+        Thread.sleep(100);
+
+        // When
+        assertThatThrownBy(() -> auctionHistoryBatchWriter.save(history("member-1")))
+                .isInstanceOf(CustomException.class)
+                .extracting("responseStatus").isEqualTo(ResponseStatus.BIDDING_TIMEOUT);
+        flushGate.countDown();
+        first.get(1, TimeUnit.SECONDS);
+        Thread.sleep(200);
+
+        // Then
+        assertThat(flushedBatches).hasSize(1);
+        assertThat(flushedBatches.get(0)).containsExactly("member-0");
+    }
+
+    @Test
+    @DisplayName("종료 시 저장하지 못한 입찰 이력과 종료 후 들어온 이력은 실패로 끝난다")
+    void testShutdown() throws Exception {
+        // Given, 첫 배치 저장이 멈춰 있는 동안 두 번째 이력이 대기
+        flushGate = new CountDownLatch(1);
+        ReflectionTestUtils.setField(auctionHistoryBatchWriter, "timeoutMs", 100L);
+        auctionHistoryBatchWriter.write(history("member-0"));
+        Thread.sleep(100);
+        CompletableFuture<Void> queued = auctionHistoryBatchWriter.write(history("member-1"));
+
+        // When
+        auctionHistoryBatchWriter.shutdown();
+        CompletableFuture<Void> afterShutdown = auctionHistoryBatchWriter.write(history("member-2"));
+
+        // Then
+        assertThatThrownBy(() -> queued.get(1, TimeUnit.SECONDS)).isInstanceOf(ExecutionException.class);
+        assertThatThrownBy(() -> afterShutdown.get(1, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(IllegalStateException.class);
+    }
+
+    private AuctionHistory history(String biddingUuid) {
+        return AuctionHistory.builder()
+                .auctionUuid("test-uuid")
+                .biddingUuid(biddingUuid)
+                .biddingPrice(Money.of(1000))
+                .round(1)
+                .biddingTime(LocalDateTime.now())
+                .build();
+    }
+}
@@ -0,0 +1,57 @@
+package com.skyhorsemanpower.auction.idempotency;
+
+import com.skyhorsemanpower.auction.common.exception.CustomException;
+import com.skyhorsemanpower.auction.common.exception.ResponseStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class IdempotentBidCacheTest {
+
+    private IdempotentBidCache idempotentBidCache;
+
+    @BeforeEach
+    void setUp() {
+        idempotentBidCache = new IdempotentBidCache();
+        ReflectionTestUtils.setField(idempotentBidCache, "maxSize", 100);
+        ReflectionTestUtils.setField(idempotentBidCache, "ttlMs", 60000L);
+        ReflectionTestUtils.setField(idempotentBidCache, "waitTimeoutMs", 1000L);
+    }
+
+    @Test
+    @DisplayName("같은 Idempotency-Key로 재시도하면 입찰을 다시 처리하지 않고 처음 결과를 반환한다")
+    void testExecute_Replay() {
+        // Given
+        AtomicInteger calls = new AtomicInteger();
+
+        // When
+        Boolean first = idempotentBidCache.execute("member", "key-1", () -> calls.incrementAndGet() == 1);
+        Boolean retry = idempotentBidCache.execute("member", "key-1", () -> calls.incrementAndGet() == 1);
+
+        // Then
+        assertThat(first).isTrue();
+        assertThat(retry).isTrue();
+        assertThat(calls.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("예외로 끝난 입찰은 캐시하지 않는다")
+    void testExecute_ExceptionNotCached() {
+        // Given
+        assertThatThrownBy(() -> idempotentBidCache.execute("member", "key-1", () -> {
+            throw new CustomException(ResponseStatus.MONGODB_ERROR);
+        })).isInstanceOf(CustomException.class);
+
+        // When
+        Boolean retry = idempotentBidCache.execute("member", "key-1", () -> true);
+
+        // Then
+        assertThat(retry).isTrue();
+    }
+}
@@ -1,9 +1,9 @@
 package com.skyhorsemanpower.auction.kafka;
 
-import com.skyhorsemanpower.auction.config.QuartzJobConfig;
+import com.skyhorsemanpower.auction.close.AuctionCloseScheduler;
 import com.skyhorsemanpower.auction.domain.RoundInfo;
 import com.skyhorsemanpower.auction.kafka.data.dto.InitialAuctionDto;
-import com.skyhorsemanpower.auction.repository.RoundInfoRepository;
+import com.skyhorsemanpower.auction.round.RoundInfoStore;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -11,7 +11,6 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.quartz.SchedulerException;
 import org.springframework.messaging.MessageHeaders;
 import org.springframework.messaging.support.GenericMessage;
 
@@ -24,10 +23,10 @@ import static org.mockito.Mockito.*;
 public class KafkaConsumerClusterTest {
 
     @Mock
-    private RoundInfoRepository roundInfoRepository;
+    private RoundInfoStore roundInfoStore;
 
     @Mock
-    private QuartzJobConfig quartzJobConfig;
+    private AuctionCloseScheduler auctionCloseScheduler;
 
     @InjectMocks
     private KafkaConsumerCluster kafkaConsumerCluster;
@@ -50,7 +49,7 @@ public class KafkaConsumerClusterTest {
 
     @Test
     @DisplayName("메시지 수신 내용 중 auctionEndTime이 현재보다 미래인 경우(정상)")
-    void testInitialAuction_FutureEndTime() throws SchedulerException {
+    void testInitialAuction_FutureEndTime() {
         // Given
         Long auctionEndTime = System.currentTimeMillis() + 20000;
         message.put("auctionEndTime", auctionEndTime);
@@ -60,13 +59,13 @@ public class KafkaConsumerClusterTest {
 
         // Then
         // 저장과 스케줄 등록 로직이 한 번 호출되야 한다.
-        verify(roundInfoRepository, times(1)).save(any(RoundInfo.class));
-        verify(quartzJobConfig, times(1)).schedulerUpdateAuctionStateJob(any(InitialAuctionDto.class));
+        verify(roundInfoStore, times(1)).save(any(RoundInfo.class));
+        verify(auctionCloseScheduler, times(1)).schedule(any(InitialAuctionDto.class));
     }
 
     @Test
     @DisplayName("메시지 수신 내용 중 auctionEndTime이 현재보다 과거인 경우(비정상)")
-    void testInitialAuction_PastEndTime() throws SchedulerException {
+    void testInitialAuction_PastEndTime() {
         // Given
         Long auctionEndTime = System.currentTimeMillis() - 20000;
         message.put("auctionEndTime", auctionEndTime);
@@ -76,7 +75,7 @@ public class KafkaConsumerClusterTest {
 
         // Then
         // 저장과 스케줄 등록이 되면 안된다.
-        verify(roundInfoRepository, never()).save(any());
-        verify(quartzJobConfig, never()).schedulerUpdateAuctionStateJob(any());
+        verify(roundInfoStore, never()).save(any());
+        verify(auctionCloseScheduler, never()).schedule(any());
     }
 }
@@ -0,0 +1,60 @@
+package com.skyhorsemanpower.auction.kafka.data.dto;
+
+import com.skyhorsemanpower.auction.common.Money;
+import com.skyhorsemanpower.auction.domain.RoundInfo;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.support.serializer.JsonDeserializer;
+import org.springframework.kafka.support.serializer.JsonSerializer;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class RoundStateDtoTest {
+
+    @Test
+    @DisplayName("라운드 정보는 Kafka 직렬화를 거쳐도 같은 값으로 복원된다")
+    void testRoundTrip() {
+        // Given
+        RoundInfo roundInfo = roundInfo();
+        RecordHeaders headers = new RecordHeaders();
+
+        // When, KafkaProducerConfig, KafkaConsumerConfig와 같은 직렬화 방식
+        byte[] payload;
+        Object deserialized;
+        try (JsonSerializer<Object> serializer = new JsonSerializer<>();
+             JsonDeserializer<Object> deserializer = new JsonDeserializer<>(Object.class)) {
+            deserializer.addTrustedPackages("*");
+            payload = serializer.serialize("auction-round-state-topic", headers, RoundStateDto.of(roundInfo));
+            deserialized = deserializer.deserialize("auction-round-state-topic", headers, payload);
+        }
+
+        // Then
+        assertThat(deserialized).isInstanceOf(RoundStateDto.class);
+        assertThat(((RoundStateDto) deserialized).toRoundInfo()).usingRecursiveComparison()
+                .ignoringFields("roundInfoId", "winnerLedger")
+                .isEqualTo(roundInfo);
+    }
+
+    private RoundInfo roundInfo() {
+        LocalDateTime now = LocalDateTime.of(2024, 5, 1, 12, 0, 0);
+        return RoundInfo.builder()
+                .auctionUuid("test-uuid")
+                .round(3)
+                .roundStartTime(now)
+                .roundEndTime(now.plusSeconds(60))
+                .incrementUnit(Money.of(100))
+                .price(Money.of(1200))
+                .isActive(true)
+                .numberOfParticipants(5)
+                .leftNumberOfParticipants(2)
+                .createdAt(now.minusSeconds(3))
+                .auctionEndTime(now.plusHours(2))
+                .isLastRound(false)
+                .endStatus(false)
+                .sequence(7)
+                .build();
+    }
+}
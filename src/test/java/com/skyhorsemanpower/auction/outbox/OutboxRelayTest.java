@@ -0,0 +1,185 @@
+package com.skyhorsemanpower.auction.outbox;
+
+import com.mongodb.client.result.UpdateResult;
+import com.skyhorsemanpower.auction.common.Money;
+import com.skyhorsemanpower.auction.domain.AuctionResult;
+import com.skyhorsemanpower.auction.domain.OutboxMessage;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.bson.Document;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.UpdateDefinition;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class OutboxRelayTest {
+
+    @Mock
+    private MongoTemplate mongoTemplate;
+
+    @Mock
+    private KafkaTemplate<String, Object> kafkaTemplate;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    // lease를 잡지 못하는 도큐먼트
+    private final Set<String> leasedByOthers = new HashSet<>();
+    private final List<String> acquired = new ArrayList<>();
+    private final List<String> released = new ArrayList<>();
+    private final List<String> markedSent = new ArrayList<>();
+    // 발행 완료 표시에서 오류를 낼지 여부
+    private boolean markSentFails;
+
+    private OutboxRelay outboxRelay;
+
+    @BeforeEach
+    void setUp() {
+        when(mongoTemplate.updateFirst(any(Query.class), any(UpdateDefinition.class), eq(AuctionResult.class)))
+                .thenAnswer(invocation -> {
+                    Query query = invocation.getArgument(0);
+                    Document update = invocation.<UpdateDefinition>getArgument(1).getUpdateObject();
+                    String auctionResultId = query.getQueryObject().getString("_id");
+
+                    if (update.containsKey("$unset")) {
+                        released.add(auctionResultId);
+                    } else if (update.get("$set", Document.class).containsKey("outboxLeaseUntil")) {
+                        if (leasedByOthers.contains(auctionResultId)) return UpdateResult.acknowledged(0, 0L, null);
+                        acquired.add(auctionResultId);
+                    } else {
+                        if (markSentFails) throw new DataAccessResourceFailureException("mongo down");
+                        markedSent.add(query.getQueryObject().getString("outbox.messageId"));
+                    }
+                    return UpdateResult.acknowledged(1, 1L, null);
+                });
+
+        outboxRelay = new OutboxRelay(mongoTemplate, kafkaTemplate, meterRegistry);
+        ReflectionTestUtils.setField(outboxRelay, "batchSize", 100);
+        ReflectionTestUtils.setField(outboxRelay, "sendTimeoutMs", 1000L);
+        ReflectionTestUtils.setField(outboxRelay, "leaseMs", 30_000L);
+        outboxRelay.init();
+    }
+
+    @Test
+    @DisplayName("lease를 잡은 도큐먼트의 메시지만 보내고, 다른 인스턴스가 발행 중인 도큐먼트는 건너뛴다")
+    void testSkipLeasedByOthers() {
+        // Given
+        OutboxMessage mine = message("auction-1");
+        OutboxMessage others = message("auction-2");
+        givenPending(result("auction-1", mine), result("auction-2", others));
+        leasedByOthers.add("auction-2");
+        givenSendSucceeds(mine);
+
+        // When
+        outboxRelay.relayBatch();
+
+        // Then
+        assertThat(acquired).containsExactly("auction-1");
+        assertThat(markedSent).containsExactly(mine.getMessageId());
+        assertThat(released).containsExactly("auction-1");
+        verify(kafkaTemplate, never()).send(others.getTopic(), others.getKey(), others.getPayload());
+    }
+
+    @Test
+    @DisplayName("Kafka가 확인한 메시지만 sent로 표시하고, 실패한 메시지는 다음 주기에 다시 보내도록 남긴다")
+    void testMarkSentOnlyOnAck() {
+        // Given
+        OutboxMessage acked = message("auction-1");
+        OutboxMessage failed = message("auction-1");
+        givenPending(result("auction-1", acked, failed));
+        givenSendSucceeds(acked);
+        when(kafkaTemplate.send(failed.getTopic(), failed.getKey(), failed.getPayload()))
+                .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("broker down")));
+
+        // When
+        outboxRelay.relayBatch();
+
+        // Then
+        assertThat(markedSent).containsExactly(acked.getMessageId());
+        assertThat(meterRegistry.counter("auction.outbox.sent").count()).isEqualTo(1);
+        assertThat(meterRegistry.counter("auction.outbox.failed").count()).isEqualTo(1);
+        // 실패한 메시지가 바로 다시 보내지도록 lease 해제
+        assertThat(released).containsExactly("auction-1");
+    }
+
+    @Test
+    @DisplayName("send 호출이 바로 실패해도 같은 주기의 다른 메시지는 보내고 lease를 해제한다")
+    void testReleaseLeaseWhenSendThrows() {
+        // Given
+        OutboxMessage broken = message("auction-1");
+        OutboxMessage next = message("auction-2");
+        givenPending(result("auction-1", broken), result("auction-2", next));
+        when(kafkaTemplate.send(broken.getTopic(), broken.getKey(), broken.getPayload()))
+                .thenThrow(new IllegalStateException("metadata timeout"));
+        givenSendSucceeds(next);
+
+        // When
+        outboxRelay.relayBatch();
+
+        // Then
+        assertThat(markedSent).containsExactly(next.getMessageId());
+        assertThat(released).containsExactly("auction-1", "auction-2");
+    }
+
+    @Test
+    @DisplayName("발행 완료 표시 중 오류가 나도 잡은 lease를 모두 해제한다")
+    void testReleaseLeaseWhenMarkSentFails() {
+        // Given
+        OutboxMessage message = message("auction-1");
+        givenPending(result("auction-1", message));
+        givenSendSucceeds(message);
+        markSentFails = true;
+
+        // When, Then
+        assertThatThrownBy(() -> outboxRelay.relayBatch()).isInstanceOf(DataAccessResourceFailureException.class);
+        assertThat(released).containsExactly("auction-1");
+    }
+
+    private void givenPending(AuctionResult... auctionResults) {
+        when(mongoTemplate.find(any(Query.class), eq(AuctionResult.class))).thenReturn(List.of(auctionResults));
+    }
+
+    private void givenSendSucceeds(OutboxMessage message) {
+        when(kafkaTemplate.send(message.getTopic(), message.getKey(), message.getPayload()))
+                .thenReturn(CompletableFuture.completedFuture(new SendResult<>(null, null)));
+    }
+
+    private AuctionResult result(String auctionUuid, OutboxMessage... messages) {
+        return AuctionResult.builder()
+                .auctionUuid(auctionUuid)
+                .memberUuids(List.of("member-1"))
+                .price(Money.of(1000))
+                .outbox(List.of(messages))
+                .build();
+    }
+
+    private OutboxMessage message(String auctionUuid) {
+        return OutboxMessage.builder()
+                .topic("auction-close-topic")
+                .key(auctionUuid)
+                .payload(new Object())
+                .build();
+    }
+}
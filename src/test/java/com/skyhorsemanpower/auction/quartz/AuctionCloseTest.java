@@ -0,0 +1,113 @@
+package com.skyhorsemanpower.auction.quartz;
+
+import com.skyhorsemanpower.auction.close.AuctionCloseCoordinator;
+import com.skyhorsemanpower.auction.close.AuctionCloseProcessor;
+import com.skyhorsemanpower.auction.common.exception.CustomException;
+import com.skyhorsemanpower.auction.common.exception.ResponseStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.quartz.JobBuilder;
+import org.quartz.JobDetail;
+import org.quartz.JobExecutionContext;
+import org.quartz.Scheduler;
+import org.quartz.Trigger;
+import org.quartz.TriggerBuilder;
+import org.quartz.TriggerKey;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class AuctionCloseTest {
+
+    @Mock
+    private AuctionCloseProcessor auctionCloseProcessor;
+
+    @Mock
+    private AuctionCloseCoordinator auctionCloseCoordinator;
+
+    @Mock
+    private JobExecutionContext context;
+
+    @Mock
+    private Scheduler scheduler;
+
+    @InjectMocks
+    private AuctionClose auctionClose;
+
+    private final TriggerKey triggerKey = TriggerKey.triggerKey("AuctionCloseTrigger_test-uuid", "AuctionCloseGroup");
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(auctionClose, "retryMs", 5000L);
+        JobDetail jobDetail = JobBuilder.newJob(AuctionClose.class)
+                .withIdentity("AuctionCloseJob_test-uuid", "AuctionCloseGroup")
+                .usingJobData("auctionUuid", "test-uuid")
+                .build();
+        when(context.getJobDetail()).thenReturn(jobDetail);
+    }
+
+    @Test
+    @DisplayName("마감에 실패하면 같은 Trigger를 retry-ms 뒤로 다시 등록한다")
+    void testRetryWhenCloseFailed() throws Exception {
+        // Given
+        givenTrigger();
+        doThrow(new CustomException(ResponseStatus.MONGODB_ERROR)).when(auctionCloseProcessor).close("test-uuid");
+        when(auctionCloseCoordinator.isClosed("test-uuid")).thenReturn(false);
+        long now = System.currentTimeMillis();
+
+        // When
+        auctionClose.execute(context);
+
+        // Then
+        ArgumentCaptor<Trigger> retryTrigger = ArgumentCaptor.forClass(Trigger.class);
+        verify(scheduler).rescheduleJob(eq(triggerKey), retryTrigger.capture());
+        assertThat(retryTrigger.getValue().getKey()).isEqualTo(triggerKey);
+        assertThat(retryTrigger.getValue().getStartTime().getTime()).isGreaterThanOrEqualTo(now + 5000);
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스의 lease가 남아 마감하지 못했으면 마감될 때까지 다시 실행한다")
+    void testRetryWhileLeased() throws Exception {
+        // Given, 마감 중(CLOSING)이라 close는 바로 끝난다.
+        givenTrigger();
+        when(auctionCloseCoordinator.isClosed("test-uuid")).thenReturn(false);
+
+        // When
+        auctionClose.execute(context);
+
+        // Then
+        verify(auctionCloseProcessor).close("test-uuid");
+        verify(scheduler).rescheduleJob(eq(triggerKey), any(Trigger.class));
+    }
+
+    @Test
+    @DisplayName("마감이 끝났으면 다시 등록하지 않는다")
+    void testNoRetryWhenClosed() throws Exception {
+        // Given
+        when(auctionCloseCoordinator.isClosed("test-uuid")).thenReturn(true);
+
+        // When
+        auctionClose.execute(context);
+
+        // Then
+        verify(scheduler, never()).rescheduleJob(any(TriggerKey.class), any(Trigger.class));
+    }
+
+    private void givenTrigger() {
+        when(context.getTrigger()).thenReturn(TriggerBuilder.newTrigger().withIdentity(triggerKey).build());
+        when(context.getScheduler()).thenReturn(scheduler);
+    }
+}
@@ -0,0 +1,149 @@
+package com.skyhorsemanpower.auction.repository;
+
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+import com.skyhorsemanpower.auction.common.Money;
+import com.skyhorsemanpower.auction.config.MongoConfig;
+import com.skyhorsemanpower.auction.data.projection.CloseWinnersProjection;
+import com.skyhorsemanpower.auction.domain.AuctionHistory;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.SimpleMongoClientDatabaseFactory;
+import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
+import org.springframework.data.mongodb.core.convert.MongoCustomConversions;
+import org.springframework.data.mongodb.core.convert.NoOpDbRefResolver;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+import org.springframework.data.mongodb.repository.support.MongoRepositoryFactory;
+import org.testcontainers.containers.MongoDBContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 경매 마감 낙찰자, 낙찰가 집계(findCloseWinners) 확인
+// Docker가 없는 환경에서는 건너뛴다.
+@Testcontainers(disabledWithoutDocker = true)
+public class AuctionHistoryRepositoryTest {
+
+    @Container
+    private static final MongoDBContainer MONGO = new MongoDBContainer("mongo:6.0");
+
+    private static MongoClient mongoClient;
+    private static MongoTemplate mongoTemplate;
+    private static AuctionHistoryRepository auctionHistoryRepository;
+
+    private final List<AuctionHistory> histories = new ArrayList<>();
+    private LocalDateTime biddingTime;
+
+    @BeforeAll
+    static void setUpAll() {
+        mongoClient = MongoClients.create(MONGO.getReplicaSetUrl());
+        // Money 저장 형식은 애플리케이션과 같은 변환기로
+        MongoCustomConversions conversions = new MongoConfig().mongoCustomConversions();
+        MongoMappingContext mappingContext = new MongoMappingContext();
+        mappingContext.setSimpleTypeHolder(conversions.getSimpleTypeHolder());
+        MappingMongoConverter converter = new MappingMongoConverter(NoOpDbRefResolver.INSTANCE, mappingContext);
+        converter.setCustomConversions(conversions);
+        converter.afterPropertiesSet();
+        mongoTemplate = new MongoTemplate(new SimpleMongoClientDatabaseFactory(mongoClient, "auction"), converter);
+        auctionHistoryRepository = new MongoRepositoryFactory(mongoTemplate).getRepository(AuctionHistoryRepository.class);
+    }
+
+    @AfterAll
+    static void tearDownAll() {
+        mongoClient.close();
+    }
+
+    @BeforeEach
+    void setUp() {
+        mongoTemplate.dropCollection(AuctionHistory.class);
+        biddingTime = LocalDateTime.now().minusMinutes(10);
+    }
+
+    @Test
+    @DisplayName("1라운드에서 마감되면 1라운드 입찰자가 모두 낙찰되고 낙찰가는 1라운드 입찰가다")
+    void testCloseInFirstRound() {
+        // Given
+        bid(1, 1000, "member-1", "member-2");
+        // 다른 경매의 이력은 섞이지 않는다.
+        histories.add(history("other-uuid", "member-9", 1, 1000));
+        auctionHistoryRepository.saveAll(histories);
+
+        // When
+        CloseWinnersProjection winners = auctionHistoryRepository.findCloseWinners("test-uuid", 1, 0, 3)
+                .orElseThrow();
+
+        // Then
+        assertThat(winners.getMemberUuids()).containsExactly("member-1", "member-2");
+        assertThat(winners.getPrice()).isEqualByComparingTo(Money.of(1000));
+    }
+
+    @Test
+    @DisplayName("N라운드가 모두 채워져 다음 라운드에서 마감되면 N라운드 입찰자와 N라운드 입찰가로 낙찰된다")
+    void testCloseAfterFullRound() {
+        // Given, 3명 낙찰 경매, 3라운드가 채워져 4라운드에서 마감
+        bid(1, 1000, "member-1", "member-2", "member-3");
+        bid(2, 1100, "member-2", "member-1", "member-3");
+        bid(3, 1200, "member-3", "member-1", "member-2");
+        auctionHistoryRepository.saveAll(histories);
+
+        // When
+        CloseWinnersProjection winners = auctionHistoryRepository.findCloseWinners("test-uuid", 4, 3, 3)
+                .orElseThrow();
+
+        // Then
+        assertThat(winners.getMemberUuids()).containsExactly("member-3", "member-1", "member-2");
+        assertThat(winners.getPrice()).isEqualByComparingTo(Money.of(1200));
+    }
+
+    @Test
+    @DisplayName("N라운드가 일부만 채워져 마감되면 N라운드 입찰자에 직전 라운드 입찰자를 입찰 순서대로 더하고 직전 라운드 입찰가로 낙찰된다")
+    void testCloseInPartialRound() {
+        // Given, 3명 낙찰 경매, 3라운드에 1명만 입찰
+        bid(1, 1000, "member-1", "member-2", "member-3");
+        bid(2, 1100, "member-4", "member-2", "member-1");
+        bid(3, 1200, "member-2");
+        auctionHistoryRepository.saveAll(histories);
+
+        // When
+        CloseWinnersProjection winners = auctionHistoryRepository.findCloseWinners("test-uuid", 3, 2, 3)
+                .orElseThrow();
+
+        // Then, 3라운드 입찰자는 직전 라운드와 중복되어도 한 번만 포함
+        assertThat(winners.getMemberUuids()).containsExactly("member-2", "member-4", "member-1");
+        assertThat(winners.getPrice()).isEqualByComparingTo(Money.of(1100));
+    }
+
+    @Test
+    @DisplayName("입찰 이력이 없으면 결과가 없다")
+    void testNoBids() {
+        // When, Then
+        assertThat(auctionHistoryRepository.findCloseWinners("test-uuid", 1, 0, 3)).isEmpty();
+    }
+
+    // 입찰 순서는 biddingTime 순서
+    private void bid(int round, long price, String... biddingUuids) {
+        for (String biddingUuid : biddingUuids) {
+            histories.add(history("test-uuid", biddingUuid, round, price));
+        }
+    }
+
+    private AuctionHistory history(String auctionUuid, String biddingUuid, int round, long price) {
+        biddingTime = biddingTime.plusSeconds(1);
+        return AuctionHistory.builder()
+                .auctionUuid(auctionUuid)
+                .biddingUuid(biddingUuid)
+                .biddingPrice(Money.of(price))
+                .biddingTime(biddingTime)
+                .round(round)
+                .build();
+    }
+}
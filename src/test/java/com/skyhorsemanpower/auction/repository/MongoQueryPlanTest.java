@@ -0,0 +1,234 @@
+package com.skyhorsemanpower.auction.repository;
+
+import com.mongodb.ConnectionString;
+import com.mongodb.MongoClientSettings;
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+import com.mongodb.event.CommandListener;
+import com.mongodb.event.CommandStartedEvent;
+import com.skyhorsemanpower.auction.common.Money;
+import com.skyhorsemanpower.auction.config.MongoConfig;
+import com.skyhorsemanpower.auction.config.MongoIndexInitializer;
+import com.skyhorsemanpower.auction.data.dto.OfferBiddingPriceDto;
+import com.skyhorsemanpower.auction.round.RoundInfoStore;
+import com.skyhorsemanpower.auction.status.RoundInfoModeEnum;
+import org.bson.BsonDocument;
+import org.bson.BsonString;
+import org.bson.Document;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.SimpleMongoClientDatabaseFactory;
+import org.springframework.data.mongodb.core.SimpleReactiveMongoDatabaseFactory;
+import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
+import org.springframework.data.mongodb.core.convert.MongoCustomConversions;
+import org.springframework.data.mongodb.core.convert.NoOpDbRefResolver;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+import org.springframework.data.mongodb.repository.support.MongoRepositoryFactory;
+import org.springframework.data.mongodb.repository.support.ReactiveMongoRepositoryFactory;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.testcontainers.containers.MongoDBContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import reactor.core.publisher.Flux;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+// 모든 repository 쿼리 메서드와 RoundInfoStore 조회/갱신이 관리 대상 인덱스를 타는지 explain으로 확인
+// 실제 repository와 RoundInfoStore를 실행해 드라이버로 나간 명령을 그대로 explain 한다.
+// Docker가 없는 환경에서는 건너뛴다.
+@Testcontainers(disabledWithoutDocker = true)
+public class MongoQueryPlanTest {
+    private static final Set<String> QUERY_COMMANDS = Set.of("find", "aggregate", "findAndModify");
+    // explain에 넘길 수 없는 세션, 커서 관련 필드
+    private static final List<String> NON_EXPLAINABLE_FIELDS = List.of(
+            "$db", "lsid", "$clusterTime", "txnNumber", "$readPreference", "tailable", "awaitData");
+
+    @Container
+    private static final MongoDBContainer MONGO = new MongoDBContainer("mongo:6.0");
+
+    private static final List<BsonDocument> commands = new CopyOnWriteArrayList<>();
+
+    private static MongoClient mongoClient;
+    private static com.mongodb.reactivestreams.client.MongoClient reactiveMongoClient;
+    private static MongoTemplate mongoTemplate;
+
+    private static AuctionHistoryRepository auctionHistoryRepository;
+    private static AuctionHistoryReactiveRepository auctionHistoryReactiveRepository;
+    private static RoundInfoRepository roundInfoRepository;
+    private static RoundInfoReactiveRepository roundInfoReactiveRepository;
+    private static AuctionResultRepository auctionResultRepository;
+    private static RoundInfoStore roundInfoStore;
+
+    @BeforeAll
+    static void setUp() {
+        CommandListener commandListener = new CommandListener() {
+            @Override
+            public void commandStarted(CommandStartedEvent event) {
+                if (QUERY_COMMANDS.contains(event.getCommandName())) commands.add(event.getCommand().clone());
+            }
+        };
+        MongoClientSettings settings = MongoClientSettings.builder()
+                .applyConnectionString(new ConnectionString(MONGO.getReplicaSetUrl()))
+                .addCommandListener(commandListener)
+                .build();
+        mongoClient = MongoClients.create(settings);
+        reactiveMongoClient = com.mongodb.reactivestreams.client.MongoClients.create(settings);
+
+        // Money 저장 형식은 애플리케이션과 같은 변환기로
+        MongoCustomConversions conversions = new MongoConfig().mongoCustomConversions();
+        MongoMappingContext mappingContext = new MongoMappingContext();
+        mappingContext.setSimpleTypeHolder(conversions.getSimpleTypeHolder());
+        MappingMongoConverter converter = new MappingMongoConverter(NoOpDbRefResolver.INSTANCE, mappingContext);
+        converter.setCustomConversions(conversions);
+        converter.afterPropertiesSet();
+        mongoTemplate = new MongoTemplate(new SimpleMongoClientDatabaseFactory(mongoClient, "auction"), converter);
+        ReactiveMongoTemplate reactiveMongoTemplate = new ReactiveMongoTemplate(
+                new SimpleReactiveMongoDatabaseFactory(reactiveMongoClient, "auction"), converter);
+
+        MongoRepositoryFactory repositoryFactory = new MongoRepositoryFactory(mongoTemplate);
+        ReactiveMongoRepositoryFactory reactiveRepositoryFactory = new ReactiveMongoRepositoryFactory(reactiveMongoTemplate);
+        auctionHistoryRepository = repositoryFactory.getRepository(AuctionHistoryRepository.class);
+        roundInfoRepository = repositoryFactory.getRepository(RoundInfoRepository.class);
+        auctionResultRepository = repositoryFactory.getRepository(AuctionResultRepository.class);
+        auctionHistoryReactiveRepository = reactiveRepositoryFactory.getRepository(AuctionHistoryReactiveRepository.class);
+        roundInfoReactiveRepository = reactiveRepositoryFactory.getRepository(RoundInfoReactiveRepository.class);
+
+        roundInfoStore = new RoundInfoStore(roundInfoRepository, mongoTemplate, reactiveMongoTemplate,
+                mock(ApplicationEventPublisher.class));
+        ReflectionTestUtils.setField(roundInfoStore, "mode", RoundInfoModeEnum.CURRENT_STATE);
+
+        // 쿼리 플래너가 인덱스와 COLLSCAN을 비교하도록 모든 컬렉션에 데이터 추가
+        List<Document> histories = new ArrayList<>();
+        List<Document> roundInfos = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            histories.add(new Document("auctionUuid", "auction-" + (i % 10))
+                    .append("biddingUuid", "member-" + i)
+                    .append("biddingPrice", 1000L + i)
+                    .append("round", i % 5)
+                    .append("biddingTime", new Date()));
+            roundInfos.add(new Document("auctionUuid", "auction-" + (i % 10))
+                    .append("round", i % 5)
+                    .append("createdAt", new Date()));
+        }
+        List<Document> roundStates = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            roundStates.add(new Document("auctionUuid", "auction-" + i)
+                    .append("round", 1)
+                    .append("price", 1000L)
+                    .append("isActive", true)
+                    .append("leftNumberOfParticipants", 5)
+                    .append("endStatus", false)
+                    .append("sequence", 1L)
+                    .append("createdAt", new Date()));
+        }
+        mongoTemplate.getCollection("auction_history").insertMany(histories);
+        mongoTemplate.getCollection("round_info").insertMany(roundInfos);
+        mongoTemplate.getCollection(RoundInfoStore.CURRENT_STATE_COLLECTION).insertMany(roundStates);
+        mongoTemplate.getCollection("auction_result").insertOne(new Document("auctionUuid", "auction-0")
+                .append("memberUuids", List.of("member-0", "member-1")));
+
+        new MongoIndexInitializer(mongoTemplate).ensureIndexes();
+    }
+
+    @AfterAll
+    static void tearDown() {
+        mongoClient.close();
+        reactiveMongoClient.close();
+    }
+
+    @Test
+    @DisplayName("관리 대상 인덱스가 모두 생성된다")
+    void testEnsureIndexes() {
+        assertThat(new MongoIndexInitializer(mongoTemplate).ensureIndexes()).isEmpty();
+    }
+
+    // 실행 시점에 repository가 준비되도록 호출은 Runnable로 넘긴다.
+    static Stream<Arguments> queries() {
+        // 조건이 맞지 않는 입찰, 갱신 쿼리도 도큐먼트를 바꾸지 않고 실행된다.
+        OfferBiddingPriceDto unmatchedBid = OfferBiddingPriceDto.builder()
+                .auctionUuid("auction-1")
+                .biddingUuid("member-x")
+                .biddingPrice(Money.of(1))
+                .round(1)
+                .build();
+
+        return Stream.of(
+                // AuctionHistoryRepository
+                Arguments.of("findCloseWinners", (Runnable) () ->
+                        auctionHistoryRepository.findCloseWinners("auction-1", 2, 1, 5)),
+                Arguments.of("findByAuctionUuidAndBiddingUuidAndRound", (Runnable) () ->
+                        auctionHistoryRepository.findByAuctionUuidAndBiddingUuidAndRound("auction-1", "member-1", 1)),
+                Arguments.of("findFirstByAuctionUuidOrderByBiddingTimeDesc", (Runnable) () ->
+                        auctionHistoryRepository.findFirstByAuctionUuidOrderByBiddingTimeDesc("auction-1")),
+                Arguments.of("findMaxBiddingPriceByAuctionUuid", (Runnable) () ->
+                        auctionHistoryRepository.findMaxBiddingPriceByAuctionUuid("auction-1")),
+                // AuctionHistoryReactiveRepository
+                Arguments.of("searchBiddingPrice", (Runnable) () ->
+                        awaitCommand(auctionHistoryReactiveRepository.searchBiddingPrice("auction-1"))),
+                Arguments.of("findTopByAuctionUuidOrderByBiddingPriceDesc", (Runnable) () ->
+                        auctionHistoryReactiveRepository.findTopByAuctionUuidOrderByBiddingPriceDesc("auction-1")
+                                .block(Duration.ofSeconds(5))),
+                // RoundInfoRepository, RoundInfoReactiveRepository
+                Arguments.of("findFirstByAuctionUuidOrderByCreatedAtDesc", (Runnable) () ->
+                        roundInfoRepository.findFirstByAuctionUuidOrderByCreatedAtDesc("auction-1")),
+                Arguments.of("searchRoundInfo", (Runnable) () ->
+                        awaitCommand(roundInfoReactiveRepository.searchRoundInfo("auction-1"))),
+                // RoundInfoStore (CURRENT_STATE)
+                Arguments.of("RoundInfoStore.findCurrent", (Runnable) () -> roundInfoStore.findCurrent("auction-1")),
+                Arguments.of("RoundInfoStore.consumeSlot", (Runnable) () -> roundInfoStore.consumeSlot(unmatchedBid)),
+                Arguments.of("RoundInfoStore.returnSlot", (Runnable) () -> roundInfoStore.returnSlot(unmatchedBid)),
+                Arguments.of("RoundInfoStore.activate", (Runnable) () -> roundInfoStore.activate("auction-1", 9)),
+                // AuctionResultRepository
+                Arguments.of("findByAuctionUuidAndMemberUuidsContains", (Runnable) () ->
+                        auctionResultRepository.findByAuctionUuidAndMemberUuidsContains("auction-0", "member-0"))
+        );
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("queries")
+    @DisplayName("repository와 RoundInfoStore 쿼리는 COLLSCAN을 하지 않는다")
+    void testQueryPlan(String queryMethod, Runnable query) {
+        // Given
+        commands.clear();
+
+        // When
+        query.run();
+
+        // Then
+        assertThat(commands).as(queryMethod).isNotEmpty();
+        for (BsonDocument command : commands) {
+            Document explain = mongoTemplate.getDb().runCommand(explainOf(command));
+            assertThat(explain.toJson()).as(queryMethod).doesNotContain("COLLSCAN");
+        }
+    }
+
+    // tailable 쿼리는 capped 컬렉션이 아니면 서버에서 실패하지만, 명령은 이미 기록되어 있다.
+    private static void awaitCommand(Flux<?> tailable) {
+        tailable.onErrorResume(e -> Flux.empty())
+                .take(Duration.ofSeconds(1))
+                .blockLast(Duration.ofSeconds(5));
+    }
+
+    private static BsonDocument explainOf(BsonDocument command) {
+        BsonDocument explainable = command.clone();
+        NON_EXPLAINABLE_FIELDS.forEach(explainable::remove);
+        return new BsonDocument("explain", explainable).append("verbosity", new BsonString("queryPlanner"));
+    }
+}
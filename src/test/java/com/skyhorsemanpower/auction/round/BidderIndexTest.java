@@ -0,0 +1,131 @@
+package com.skyhorsemanpower.auction.round;
+
+import com.skyhorsemanpower.auction.domain.AuctionHistory;
+import com.skyhorsemanpower.auction.domain.RoundInfo;
+import com.skyhorsemanpower.auction.repository.AuctionHistoryRepository;
+import com.skyhorsemanpower.auction.round.data.RoundInfoChangedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class BidderIndexTest {
+
+    @Mock
+    private AuctionHistoryRepository auctionHistoryRepository;
+
+    @Mock
+    private MongoTemplate mongoTemplate;
+
+    @Mock
+    private RoundInfoStore roundInfoStore;
+
+    @InjectMocks
+    private BidderIndex bidderIndex;
+
+    @BeforeEach
+    void setUp() {
+        when(mongoTemplate.find(any(Query.class), eq(AuctionHistory.class))).thenReturn(List.of());
+    }
+
+    @Test
+    @DisplayName("처음 입찰하는 회원과 같은 라운드 재입찰은 auction_history 조회 없이 판별된다")
+    void testClaim_WithoutQuery() {
+        // Given
+        when(roundInfoStore.findCurrent("test-uuid")).thenReturn(Optional.of(roundInfo(1)));
+
+        // When
+        boolean first = bidderIndex.claim("test-uuid", 1, "member");
+        boolean second = bidderIndex.claim("test-uuid", 1, "member");
+
+        // Then
+        assertThat(first).isTrue();
+        assertThat(second).isFalse();
+        verify(auctionHistoryRepository, never()).findByAuctionUuidAndBiddingUuidAndRound(any(), any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("선점을 되돌린 회원은 auction_history 조회 없이 다시 선점할 수 있다")
+    void testClaim_AfterRelease() {
+        // Given
+        when(roundInfoStore.findCurrent("test-uuid")).thenReturn(Optional.of(roundInfo(1)));
+        bidderIndex.claim("test-uuid", 1, "member");
+        bidderIndex.release("test-uuid", 1, "member");
+
+        // When
+        boolean claimed = bidderIndex.claim("test-uuid", 1, "member");
+
+        // Then
+        assertThat(claimed).isTrue();
+        verify(auctionHistoryRepository, never()).findByAuctionUuidAndBiddingUuidAndRound(any(), any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("다음 라운드로 넘어가면 이전 라운드 입찰자는 다시 입찰할 수 있다")
+    void testClaim_NextRound() {
+        // Given
+        bidderIndex.onRoundInfoChanged(new RoundInfoChangedEvent(roundInfo(1)));
+        bidderIndex.claim("test-uuid", 1, "member");
+        bidderIndex.onRoundInfoChanged(new RoundInfoChangedEvent(roundInfo(2)));
+
+        // When
+        boolean claimed = bidderIndex.claim("test-uuid", 2, "member");
+
+        // Then
+        assertThat(claimed).isTrue();
+        verify(roundInfoStore, never()).findCurrent(any());
+    }
+
+    @Test
+    @DisplayName("현재 라운드보다 높은 라운드로는 선점할 수 없고 색인도 넘어가지 않는다")
+    void testClaim_RoundAboveCurrent() {
+        // Given
+        bidderIndex.onRoundInfoChanged(new RoundInfoChangedEvent(roundInfo(1)));
+        bidderIndex.claim("test-uuid", 1, "member");
+        when(roundInfoStore.findCurrent("test-uuid")).thenReturn(Optional.of(roundInfo(1)));
+
+        // When
+        boolean claimed = bidderIndex.claim("test-uuid", 5, "other");
+
+        // Then
+        assertThat(claimed).isFalse();
+        // 색인은 1라운드에 그대로 남아 있다.
+        assertThat(bidderIndex.claim("test-uuid", 1, "member")).isFalse();
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스가 넘긴 라운드는 저장된 현재 라운드로 확인한 뒤 색인을 옮긴다")
+    void testClaim_AdvancedElsewhere() {
+        // Given
+        bidderIndex.onRoundInfoChanged(new RoundInfoChangedEvent(roundInfo(1)));
+        when(roundInfoStore.findCurrent("test-uuid")).thenReturn(Optional.of(roundInfo(2)));
+
+        // When
+        boolean claimed = bidderIndex.claim("test-uuid", 2, "member");
+
+        // Then
+        assertThat(claimed).isTrue();
+        assertThat(bidderIndex.claim("test-uuid", 2, "member")).isFalse();
+    }
+
+    private RoundInfo roundInfo(int round) {
+        return RoundInfo.builder()
+                .auctionUuid("test-uuid")
+                .round(round)
+                .endStatus(false)
+                .build();
+    }
+}
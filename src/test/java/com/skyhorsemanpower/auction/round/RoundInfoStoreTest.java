@@ -0,0 +1,289 @@
+package com.skyhorsemanpower.auction.round;
+
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+import com.skyhorsemanpower.auction.common.Money;
+import com.skyhorsemanpower.auction.config.MongoConfig;
+import com.skyhorsemanpower.auction.config.MongoIndexInitializer;
+import com.skyhorsemanpower.auction.data.dto.OfferBiddingPriceDto;
+import com.skyhorsemanpower.auction.domain.RoundInfo;
+import com.skyhorsemanpower.auction.domain.WinnerLedger;
+import com.skyhorsemanpower.auction.repository.RoundInfoRepository;
+import com.skyhorsemanpower.auction.status.RoundInfoModeEnum;
+import org.bson.types.Decimal128;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.SimpleMongoClientDatabaseFactory;
+import org.springframework.data.mongodb.core.SimpleReactiveMongoDatabaseFactory;
+import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
+import org.springframework.data.mongodb.core.convert.MongoCustomConversions;
+import org.springframework.data.mongodb.core.convert.NoOpDbRefResolver;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.data.mongodb.repository.support.MongoRepositoryFactory;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.testcontainers.containers.MongoDBContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+// round_state 조건부 갱신(consumeSlot)과 다음 라운드 전환 조건 확인
+// Docker가 없는 환경에서는 건너뛴다.
+@Testcontainers(disabledWithoutDocker = true)
+public class RoundInfoStoreTest {
+
+    @Container
+    private static final MongoDBContainer MONGO = new MongoDBContainer("mongo:6.0");
+
+    private static MongoClient mongoClient;
+    private static com.mongodb.reactivestreams.client.MongoClient reactiveMongoClient;
+    private static MongoTemplate mongoTemplate;
+    private static ReactiveMongoTemplate reactiveMongoTemplate;
+
+    private RoundInfoStore roundInfoStore;
+
+    @BeforeAll
+    static void setUpAll() {
+        mongoClient = MongoClients.create(MONGO.getReplicaSetUrl());
+        // Money 저장 형식은 애플리케이션과 같은 변환기로
+        MongoCustomConversions conversions = new MongoConfig().mongoCustomConversions();
+        MongoMappingContext mappingContext = new MongoMappingContext();
+        mappingContext.setSimpleTypeHolder(conversions.getSimpleTypeHolder());
+        MappingMongoConverter converter = new MappingMongoConverter(NoOpDbRefResolver.INSTANCE, mappingContext);
+        converter.setCustomConversions(conversions);
+        converter.afterPropertiesSet();
+        mongoTemplate = new MongoTemplate(new SimpleMongoClientDatabaseFactory(mongoClient, "auction"), converter);
+        // 이력 추가는 reactive 저장으로
+        reactiveMongoClient = com.mongodb.reactivestreams.client.MongoClients.create(MONGO.getReplicaSetUrl());
+        reactiveMongoTemplate = new ReactiveMongoTemplate(
+                new SimpleReactiveMongoDatabaseFactory(reactiveMongoClient, "auction"), converter);
+    }
+
+    @AfterAll
+    static void tearDownAll() {
+        mongoClient.close();
+        reactiveMongoClient.close();
+    }
+
+    @BeforeEach
+    void setUp() {
+        mongoTemplate.dropCollection(RoundInfoStore.CURRENT_STATE_COLLECTION);
+        mongoTemplate.dropCollection(RoundInfoStore.HISTORY_COLLECTION);
+        new MongoIndexInitializer(mongoTemplate).ensureIndexes();
+
+        roundInfoStore = new RoundInfoStore(mock(RoundInfoRepository.class), mongoTemplate,
+                reactiveMongoTemplate, mock(ApplicationEventPublisher.class));
+        ReflectionTestUtils.setField(roundInfoStore, "mode", RoundInfoModeEnum.CURRENT_STATE);
+        roundInfoStore.save(roundInfo(3));
+    }
+
+    @Test
+    @DisplayName("동시에 들어온 입찰은 남은 인원 수만큼만 자리를 차지하고, 다음 라운드 전환은 한 번만 일어난다")
+    void testConsumeSlot_Concurrent() throws Exception {
+        // Given
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        // When
+        List<Future<Optional<RoundInfo>>> futures = IntStream.range(0, 10)
+                .mapToObj(i -> executor.submit(() -> roundInfoStore.consumeSlot(bid("member-" + i, 1, 1000))))
+                .toList();
+        long consumed = 0;
+        for (Future<Optional<RoundInfo>> future : futures) {
+            if (future.get().isPresent()) consumed++;
+        }
+        executor.shutdown();
+
+        // Then
+        assertThat(consumed).isEqualTo(3);
+        RoundInfo current = roundInfoStore.findCurrent("test-uuid").orElseThrow();
+        assertThat(current.getRound()).isEqualTo(2);
+        assertThat(current.getLeftNumberOfParticipants()).isEqualTo(3);
+        assertThat(current.getPrice()).isEqualByComparingTo(Money.of(1100));
+        assertThat(current.getWinnerLedger().getRoundBidders()).isEmpty();
+        assertThat(current.getWinnerLedger().getPreviousRoundBidders()).hasSize(3);
+        assertThat(current.getWinnerLedger().getPreviousRoundPrice()).isEqualByComparingTo(Money.of(1000));
+    }
+
+    @Test
+    @DisplayName("라운드나 입찰가가 다르면 자리를 차지하지 않는다")
+    void testConsumeSlot_Mismatch() {
+        // When
+        Optional<RoundInfo> wrongRound = roundInfoStore.consumeSlot(bid("member-0", 2, 1000));
+        Optional<RoundInfo> wrongPrice = roundInfoStore.consumeSlot(bid("member-0", 1, 900));
+
+        // Then
+        assertThat(wrongRound).isEmpty();
+        assertThat(wrongPrice).isEmpty();
+        assertThat(roundInfoStore.findCurrent("test-uuid").orElseThrow().getLeftNumberOfParticipants()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("마이그레이션 전 Decimal128 원 단위 입찰가는 원 단위 금액으로만 비교한다")
+    void testConsumeSlot_LegacyPrice() {
+        // Given
+        mongoTemplate.updateFirst(Query.query(Criteria.where("auctionUuid").is("test-uuid")),
+                new Update().set("price", new Decimal128(new BigDecimal("1000"))),
+                RoundInfoStore.CURRENT_STATE_COLLECTION);
+
+        // When, 10원의 최소 단위(1000)는 1000원과 같은 숫자지만 일치하지 않아야 한다.
+        Optional<RoundInfo> minorUnitsMatched = roundInfoStore.consumeSlot(bid("member-0", 1, 10));
+        Optional<RoundInfo> consumed = roundInfoStore.consumeSlot(bid("member-1", 1, 1000));
+
+        // Then
+        assertThat(minorUnitsMatched).isEmpty();
+        assertThat(consumed).isPresent();
+        assertThat(roundInfoStore.findCurrent("test-uuid").orElseThrow().getLeftNumberOfParticipants()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("다음 라운드로 넘어간 뒤에는 지난 라운드 입찰로 다시 전환되지 않는다")
+    void testAdvanceGuard() {
+        // Given
+        for (int i = 0; i < 3; i++) {
+            roundInfoStore.consumeSlot(bid("member-" + i, 1, 1000));
+        }
+
+        // When
+        Optional<RoundInfo> late = roundInfoStore.consumeSlot(bid("member-3", 1, 1000));
+
+        // Then
+        assertThat(late).isEmpty();
+        RoundInfo current = roundInfoStore.findCurrent("test-uuid").orElseThrow();
+        assertThat(current.getRound()).isEqualTo(2);
+        assertThat(current.getLeftNumberOfParticipants()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("입찰 이력 저장에 실패한 자리는 같은 라운드일 때만 되돌린다")
+    void testReturnSlot() {
+        // Given
+        roundInfoStore.consumeSlot(bid("member-0", 1, 1000));
+
+        // When
+        boolean returned = roundInfoStore.returnSlot(bid("member-0", 1, 1000));
+        boolean returnedAgain = roundInfoStore.returnSlot(bid("member-0", 1, 1000));
+
+        // Then
+        assertThat(returned).isTrue();
+        assertThat(returnedAgain).isFalse();
+        RoundInfo current = roundInfoStore.findCurrent("test-uuid").orElseThrow();
+        assertThat(current.getLeftNumberOfParticipants()).isEqualTo(3);
+        assertThat(current.getWinnerLedger().getRoundBidders()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("round_info 이력은 경매별 sequence가 커지는 순서로 추가된다")
+    void testHistoryOrder() throws Exception {
+        // Given
+        for (int i = 0; i < 3; i++) {
+            roundInfoStore.consumeSlot(bid("member-" + i, 1, 1000));
+        }
+
+        // When
+        // 이력 추가는 기다리지 않으므로 마지막 라운드 전환 이력이 추가될 때까지 확인
+        Query historyQuery = Query.query(Criteria.where("auctionUuid").is("test-uuid")).with(Sort.by("_id"));
+        List<RoundInfo> histories = mongoTemplate.find(historyQuery, RoundInfo.class, RoundInfoStore.HISTORY_COLLECTION);
+        for (int i = 0; i < 50 && (histories.isEmpty() || histories.get(histories.size() - 1).getRound() != 2); i++) {
+            Thread.sleep(100);
+            histories = mongoTemplate.find(historyQuery, RoundInfo.class, RoundInfoStore.HISTORY_COLLECTION);
+        }
+
+        // Then
+        assertThat(histories).extracting(RoundInfo::getSequence).isSorted().doesNotHaveDuplicates();
+        assertThat(histories.get(histories.size() - 1).getRound()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("APPEND 모드에서 다른 인스턴스가 같은 대기 상태를 먼저 전환했으면 다시 전환하지 않는다")
+    void testActivateAppend_AlreadyActive() {
+        // Given
+        mongoTemplate.dropCollection(RoundInfoStore.HISTORY_COLLECTION);
+        new MongoIndexInitializer(mongoTemplate).ensureIndexes();
+        RoundInfoStore appendStore = new RoundInfoStore(
+                new MongoRepositoryFactory(mongoTemplate).getRepository(RoundInfoRepository.class), mongoTemplate,
+                mock(ReactiveMongoTemplate.class), mock(ApplicationEventPublisher.class));
+        ReflectionTestUtils.setField(appendStore, "mode", RoundInfoModeEnum.APPEND);
+        LocalDateTime now = LocalDateTime.now();
+        mongoTemplate.insert(secondRoundInfo(false, 5, now), RoundInfoStore.HISTORY_COLLECTION);
+        // 다른 인스턴스가 같은 대기 상태(sequence 5)에서 전환한 이력, 아직 최신 이력으로 조회되지 않는 상황
+        mongoTemplate.insert(secondRoundInfo(true, 6, now.minusSeconds(1)), RoundInfoStore.HISTORY_COLLECTION);
+
+        // When
+        Optional<RoundInfo> activated = appendStore.activate("test-uuid", 2);
+
+        // Then
+        assertThat(activated).isEmpty();
+        assertThat(mongoTemplate.count(Query.query(Criteria.where("auctionUuid").is("test-uuid")
+                .and("isActive").is(true)), RoundInfoStore.HISTORY_COLLECTION)).isEqualTo(1);
+    }
+
+    private RoundInfo secondRoundInfo(boolean isActive, long sequence, LocalDateTime createdAt) {
+        return RoundInfo.builder()
+                .auctionUuid("test-uuid")
+                .round(2)
+                .roundStartTime(createdAt.minusSeconds(1))
+                .roundEndTime(createdAt.plusSeconds(59))
+                .incrementUnit(Money.of(100))
+                .price(Money.of(1100))
+                .isActive(isActive)
+                .numberOfParticipants(3)
+                .leftNumberOfParticipants(3)
+                .createdAt(createdAt)
+                .auctionEndTime(createdAt.plusHours(2))
+                .isLastRound(false)
+                .endStatus(false)
+                .sequence(sequence)
+                .winnerLedger(WinnerLedger.empty())
+                .build();
+    }
+
+    private RoundInfo roundInfo(int numberOfParticipants) {
+        LocalDateTime now = LocalDateTime.now();
+        return RoundInfo.builder()
+                .auctionUuid("test-uuid")
+                .round(1)
+                .roundStartTime(now.minusSeconds(10))
+                .roundEndTime(now.plusSeconds(50))
+                .incrementUnit(Money.of(100))
+                .price(Money.of(1000))
+                .isActive(true)
+                .numberOfParticipants(numberOfParticipants)
+                .leftNumberOfParticipants(numberOfParticipants)
+                .createdAt(now)
+                .auctionEndTime(now.plusHours(2))
+                .isLastRound(false)
+                .endStatus(false)
+                .sequence(1)
+                .winnerLedger(WinnerLedger.empty())
+                .build();
+    }
+
+    private OfferBiddingPriceDto bid(String biddingUuid, int round, long price) {
+        return OfferBiddingPriceDto.builder()
+                .auctionUuid("test-uuid")
+                .biddingUuid(biddingUuid)
+                .biddingPrice(Money.of(price))
+                .round(round)
+                .build();
+    }
+}
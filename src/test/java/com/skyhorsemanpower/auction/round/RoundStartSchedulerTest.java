@@ -0,0 +1,124 @@
+package com.skyhorsemanpower.auction.round;
+
+import com.skyhorsemanpower.auction.application.AuctionService;
+import com.skyhorsemanpower.auction.close.DeadlineOwnership;
+import com.skyhorsemanpower.auction.domain.RoundInfo;
+import com.skyhorsemanpower.auction.round.data.RoundInfoChangedEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class RoundStartSchedulerTest {
+
+    @Mock
+    private AuctionService auctionService;
+
+    @Mock
+    private RoundInfoStore roundInfoStore;
+
+    @Mock
+    private DeadlineOwnership deadlineOwnership;
+
+    private RoundStartScheduler roundStartScheduler;
+
+    @BeforeEach
+    void setUp() {
+        roundStartScheduler = new RoundStartScheduler(auctionService, roundInfoStore, deadlineOwnership,
+                new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(roundStartScheduler, "enabled", true);
+        // 테스트에서 tick을 직접 호출
+        ReflectionTestUtils.setField(roundStartScheduler, "tickMs", 60_000L);
+        ReflectionTestUtils.setField(roundStartScheduler, "workers", 1);
+        ReflectionTestUtils.setField(roundStartScheduler, "retryMs", 1000L);
+        ReflectionTestUtils.setField(roundStartScheduler, "graceMs", 60_000L);
+        roundStartScheduler.init();
+    }
+
+    @AfterEach
+    void tearDown() {
+        roundStartScheduler.shutdown();
+    }
+
+    @Test
+    @DisplayName("대기 중인 라운드는 시작 시간이 되면 진행 중으로 전환한다")
+    void testStartStandbyRound() {
+        // Given, 시작 시간은 tick(60초) 단위로 올림되므로 한 tick보다 앞선 시간
+        when(deadlineOwnership.owns("test-uuid")).thenReturn(true);
+        roundStartScheduler.onRoundInfoChanged(new RoundInfoChangedEvent(
+                roundInfo(2, false, LocalDateTime.now().minusSeconds(120))));
+
+        // When
+        roundStartScheduler.tick();
+
+        // Then
+        verify(auctionService, timeout(1000)).roundStart("test-uuid", 2);
+    }
+
+    @Test
+    @DisplayName("다른 경로로 이미 진행 중이 된 라운드는 전환하지 않는다")
+    void testSkipAlreadyActiveRound() {
+        // Given
+        LocalDateTime roundStartTime = LocalDateTime.now().minusSeconds(120);
+        roundStartScheduler.onRoundInfoChanged(new RoundInfoChangedEvent(roundInfo(2, false, roundStartTime)));
+        roundStartScheduler.onRoundInfoChanged(new RoundInfoChangedEvent(roundInfo(2, true, roundStartTime)));
+
+        // When
+        roundStartScheduler.tick();
+
+        // Then
+        verify(auctionService, after(200).never()).roundStart(anyString(), anyInt());
+    }
+
+    @Test
+    @DisplayName("담당이 아닌 경매는 바로 전환하지 않고, grace-ms 뒤에도 대기 중이면 이어서 전환한다")
+    void testTakeOverNotOwnedRound() {
+        // Given, 이어받는 시간도 이미 지나도록 grace-ms를 두 tick 앞으로
+        when(deadlineOwnership.owns("test-uuid")).thenReturn(false);
+        ReflectionTestUtils.setField(roundStartScheduler, "graceMs", -120_000L);
+        roundStartScheduler.onRoundInfoChanged(new RoundInfoChangedEvent(
+                roundInfo(2, false, LocalDateTime.now().minusSeconds(120))));
+
+        // When
+        roundStartScheduler.tick();
+
+        // Then
+        verify(auctionService, after(200).never()).roundStart(anyString(), anyInt());
+
+        // When
+        roundStartScheduler.tick();
+
+        // Then
+        verify(auctionService, timeout(1000)).roundStart("test-uuid", 2);
+    }
+
+    private RoundInfo roundInfo(int round, boolean isActive, LocalDateTime roundStartTime) {
+        return RoundInfo.builder()
+                .auctionUuid("test-uuid")
+                .round(round)
+                .roundStartTime(roundStartTime)
+                .roundEndTime(roundStartTime.plusSeconds(60))
+                .isActive(isActive)
+                .numberOfParticipants(5)
+                .leftNumberOfParticipants(5)
+                .auctionEndTime(roundStartTime.plusHours(2))
+                .isLastRound(false)
+                .endStatus(false)
+                .build();
+    }
+}
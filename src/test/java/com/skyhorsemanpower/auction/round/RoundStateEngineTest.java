@@ -0,0 +1,281 @@
+package com.skyhorsemanpower.auction.round;
+
+import com.skyhorsemanpower.auction.common.Money;
+import com.skyhorsemanpower.auction.common.exception.CustomException;
+import com.skyhorsemanpower.auction.common.exception.ResponseStatus;
+import com.skyhorsemanpower.auction.data.dto.OfferBiddingPriceDto;
+import com.skyhorsemanpower.auction.domain.RoundInfo;
+import com.skyhorsemanpower.auction.round.data.BidResult;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class RoundStateEngineTest {
+
+    @Mock
+    private RoundInfoStore roundInfoStore;
+
+    @InjectMocks
+    private RoundStateEngine roundStateEngine;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(roundStateEngine, "enabled", true);
+        ReflectionTestUtils.setField(roundStateEngine, "threads", 4);
+        ReflectionTestUtils.setField(roundStateEngine, "writerThreads", 4);
+        ReflectionTestUtils.setField(roundStateEngine, "timeoutMs", 3000L);
+        roundStateEngine.init();
+
+        LocalDateTime now = LocalDateTime.now();
+        RoundInfo roundInfo = RoundInfo.builder()
+                .auctionUuid("test-uuid")
+                .round(1)
+                .roundStartTime(now.minusSeconds(10))
+                .roundEndTime(now.plusSeconds(50))
+                .incrementUnit(Money.of(100))
+                .price(Money.of(1000))
+                .isActive(true)
+                .numberOfParticipants(5)
+                .leftNumberOfParticipants(5)
+                .auctionEndTime(now.plusHours(2))
+                .isLastRound(false)
+                .endStatus(false)
+                .build();
+        when(roundInfoStore.findCurrent("test-uuid"))
+                .thenReturn(Optional.of(roundInfo));
+    }
+
+    @AfterEach
+    void tearDown() {
+        roundStateEngine.shutdown();
+    }
+
+    @Test
+    @DisplayName("동시에 들어온 입찰은 남은 인원 수만큼만 수락되고 다음 라운드로 넘어간다")
+    void testOffer_ConcurrentBids() {
+        // Given
+        List<CompletableFuture<BidResult>> futures = new ArrayList<>();
+
+        // When
+        for (int i = 0; i < 20; i++) {
+            futures.add(roundStateEngine.offer(OfferBiddingPriceDto.builder()
+                    .auctionUuid("test-uuid")
+                    .biddingUuid("member-" + i)
+                    .biddingPrice(Money.of(1000))
+                    .round(1)
+                    .build(), dto -> true, RoundStateEngineTest::recorded, dto -> { }));
+        }
+
+        // Then
+        long accepted = futures.stream().map(roundStateEngine::await).filter(BidResult::isAccepted).count();
+        assertThat(accepted).isEqualTo(5);
+
+        RoundInfo roundInfo = roundStateEngine.peek("test-uuid").orElseThrow();
+        assertThat(roundInfo.getRound()).isEqualTo(2);
+        assertThat(roundInfo.getPrice()).isEqualByComparingTo(Money.of(1100));
+        assertThat(roundInfo.getIsActive()).isFalse();
+
+        // 1라운드 입찰자와 입찰가는 입찰자 장부의 직전 라운드로 옮겨져 바로 마감할 수 있다.
+        assertThat(roundInfo.getWinnerLedger().getRoundBidders()).isEmpty();
+        assertThat(roundInfo.getWinnerLedger().getPreviousRoundBidders()).hasSize(5);
+        assertThat(roundInfo.getWinnerLedger().getPreviousRoundPrice()).isEqualByComparingTo(Money.of(1000));
+        assertThat(roundInfo.getWinnerLedger().isComplete(roundInfo)).isTrue();
+        assertThat(roundInfo.getWinnerLedger().winners(5))
+                .containsExactlyElementsOf(roundInfo.getWinnerLedger().getPreviousRoundBidders());
+
+        // 라운드 정보 조회는 최초 적재 시 한 번만 일어나야 한다.
+        verify(roundInfoStore, times(1)).findCurrent("test-uuid");
+    }
+
+    @Test
+    @DisplayName("라운드 입찰가가 다르면 입찰이 거절되고 상태가 변하지 않는다")
+    void testOffer_WrongPrice() {
+        // When
+        BidResult bidResult = roundStateEngine.await(roundStateEngine.offer(OfferBiddingPriceDto.builder()
+                .auctionUuid("test-uuid")
+                .biddingUuid("member")
+                .biddingPrice(Money.of(900))
+                .round(1)
+                .build(), dto -> true, RoundStateEngineTest::recorded, dto -> { }));
+
+        // Then
+        assertThat(bidResult.isAccepted()).isFalse();
+        assertThat(roundStateEngine.peek("test-uuid").orElseThrow().getLeftNumberOfParticipants()).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("라운드 정보 저장에 실패하면 입찰 이력을 되돌리고, 다음 요청은 DB의 라운드 정보를 다시 적재한다")
+    void testOffer_PersistFailed() {
+        // Given
+        doThrow(new IllegalStateException("mongo down")).doNothing().when(roundInfoStore).save(any(RoundInfo.class));
+        List<String> discarded = new ArrayList<>();
+
+        // When
+        CompletableFuture<BidResult> future = roundStateEngine.offer(bid("member"), dto -> true,
+                RoundStateEngineTest::recorded, dto -> discarded.add(dto.getBiddingUuid()));
+
+        // Then
+        assertThatThrownBy(() -> roundStateEngine.await(future))
+                .isInstanceOf(CustomException.class)
+                .extracting("responseStatus").isEqualTo(ResponseStatus.MONGODB_ERROR);
+        assertThat(discarded).containsExactly("member");
+
+        BidResult bidResult = roundStateEngine.await(roundStateEngine.offer(bid("member-2"), dto -> true,
+                RoundStateEngineTest::recorded, dto -> { }));
+        assertThat(bidResult.getRoundInfo().getLeftNumberOfParticipants()).isEqualTo(5);
+        verify(roundInfoStore, times(2)).findCurrent("test-uuid");
+    }
+
+    @Test
+    @DisplayName("입찰 이력 저장을 기다리지 않고 다음 입찰을 메모리에 반영하고, 라운드 정보는 입찰 순서대로 저장한다")
+    void testOffer_PersistBehind() {
+        // Given
+        CompletableFuture<Void> firstRecorded = new CompletableFuture<>();
+
+        // When
+        CompletableFuture<BidResult> first = roundStateEngine.offer(bid("member-1"), dto -> true,
+                dto -> firstRecorded, dto -> { });
+        CompletableFuture<BidResult> second = roundStateEngine.offer(bid("member-2"), dto -> true,
+                RoundStateEngineTest::recorded, dto -> { });
+
+        // Then, 두 번째 입찰도 메모리에 반영되지만 첫 입찰보다 먼저 저장되지 않는다.
+        long deadline = System.currentTimeMillis() + 1000;
+        while (roundStateEngine.peek("test-uuid").map(RoundInfo::getLeftNumberOfParticipants).orElse(5) != 3
+                && System.currentTimeMillis() < deadline) {
+            Thread.onSpinWait();
+        }
+        assertThat(roundStateEngine.peek("test-uuid").orElseThrow().getLeftNumberOfParticipants()).isEqualTo(3);
+        assertThat(second).isNotDone();
+        verify(roundInfoStore, never()).save(any(RoundInfo.class));
+
+        firstRecorded.complete(null);
+        assertThat(roundStateEngine.await(first).isAccepted()).isTrue();
+        assertThat(roundStateEngine.await(second).getRoundInfo().getLeftNumberOfParticipants()).isEqualTo(4);
+        ArgumentCaptor<RoundInfo> saved = ArgumentCaptor.forClass(RoundInfo.class);
+        verify(roundInfoStore, timeout(1000).times(2)).save(saved.capture());
+        assertThat(saved.getAllValues()).extracting(RoundInfo::getLeftNumberOfParticipants).containsExactly(4, 3);
+    }
+
+    @Test
+    @DisplayName("제한 시간 안에 처리를 시작하지 못한 입찰은 취소되고, 시작한 입찰은 처리 중으로 알린 뒤 저장을 마친다")
+    void testOffer_Timeout() {
+        // Given
+        ReflectionTestUtils.setField(roundStateEngine, "timeoutMs", 100L);
+        CompletableFuture<Void> recorded = new CompletableFuture<>();
+        AtomicInteger claimed = new AtomicInteger();
+
+        // When, 앞 입찰의 이력 저장이 늦어지는 동안 mailbox를 오래 점유하는 작업 뒤에 입찰이 밀려 있다.
+        CompletableFuture<BidResult> started = roundStateEngine.offer(bid("member-1"), dto -> true,
+                dto -> recorded, dto -> { });
+        CompletableFuture<RoundInfo> blocking = roundStateEngine.update("test-uuid", roundInfo -> {
+            sleep(300);
+            return roundInfo;
+        });
+        CompletableFuture<BidResult> queued = roundStateEngine.offer(bid("member-2"), dto -> {
+            claimed.incrementAndGet();
+            return true;
+        }, RoundStateEngineTest::recorded, dto -> { });
+
+        // Then
+        assertThatThrownBy(() -> roundStateEngine.await(started))
+                .extracting("responseStatus").isEqualTo(ResponseStatus.BIDDING_PENDING);
+        assertThatThrownBy(() -> roundStateEngine.await(queued))
+                .extracting("responseStatus").isEqualTo(ResponseStatus.BIDDING_TIMEOUT);
+        assertThatThrownBy(() -> roundStateEngine.await(blocking))
+                .extracting("responseStatus").isEqualTo(ResponseStatus.BIDDING_TIMEOUT);
+        assertThat(claimed).hasValue(0);
+
+        // 처리 중으로 알린 입찰은 이력이 저장되면 라운드 정보까지 저장된다.
+        recorded.complete(null);
+        verify(roundInfoStore, timeout(1000)).save(any(RoundInfo.class));
+        assertThat(roundStateEngine.peek("test-uuid").orElseThrow().getLeftNumberOfParticipants()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("라운드 입찰자 선점에 실패하면 입찰이 거절되고 DB에 반영하지 않는다")
+    void testOffer_ClaimFailed() {
+        // Given
+        AtomicInteger persisted = new AtomicInteger();
+
+        // When
+        BidResult bidResult = roundStateEngine.await(
+                roundStateEngine.offer(bid("member"), dto -> false, dto -> {
+                    persisted.incrementAndGet();
+                    return recorded(dto);
+                }, dto -> { }));
+
+        // Then
+        assertThat(bidResult.isAccepted()).isFalse();
+        assertThat(persisted).hasValue(0);
+    }
+
+    @Test
+    @DisplayName("마감 정리 전에 들어온 작업은 모두 처리되고, 정리 후 요청은 라운드 정보를 다시 적재한다")
+    void testRelease() {
+        // Given
+        List<CompletableFuture<BidResult>> futures = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            futures.add(roundStateEngine.offer(bid("member-" + i), dto -> true, RoundStateEngineTest::recorded,
+                    dto -> { }));
+        }
+
+        // When
+        roundStateEngine.release("test-uuid");
+
+        // Then
+        assertThat(futures.stream().map(roundStateEngine::await).filter(BidResult::isAccepted).count()).isEqualTo(3);
+        Map<?, ?> mailboxes = (Map<?, ?>) ReflectionTestUtils.getField(roundStateEngine, "mailboxes");
+        long deadline = System.currentTimeMillis() + 1000;
+        while (!mailboxes.isEmpty() && System.currentTimeMillis() < deadline) {
+            Thread.onSpinWait();
+        }
+        assertThat(mailboxes).isEmpty();
+
+        BidResult bidResult = roundStateEngine.await(roundStateEngine.offer(bid("member-3"), dto -> true,
+                RoundStateEngineTest::recorded, dto -> { }));
+        assertThat(bidResult.getRoundInfo().getLeftNumberOfParticipants()).isEqualTo(5);
+        verify(roundInfoStore, times(2)).findCurrent("test-uuid");
+    }
+
+    private static CompletableFuture<Void> recorded(OfferBiddingPriceDto offerBiddingPriceDto) {
+        return CompletableFuture.completedFuture(null);
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private OfferBiddingPriceDto bid(String biddingUuid) {
+        return OfferBiddingPriceDto.builder()
+                .auctionUuid("test-uuid")
+                .biddingUuid(biddingUuid)
+                .biddingPrice(Money.of(1000))
+                .round(1)
+                .build();
+    }
+}
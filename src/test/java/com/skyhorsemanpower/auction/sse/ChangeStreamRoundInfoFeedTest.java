@@ -0,0 +1,152 @@
+package com.skyhorsemanpower.auction.sse;
+
+import com.mongodb.MongoException;
+import com.mongodb.client.result.UpdateResult;
+import com.skyhorsemanpower.auction.domain.RoundInfo;
+import com.skyhorsemanpower.auction.round.RoundInfoStore;
+import org.bson.BsonDocument;
+import org.bson.Document;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.mongodb.core.ChangeStreamEvent;
+import org.springframework.data.mongodb.core.ReactiveChangeStreamOperation;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.query.CriteriaDefinition;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.data.mongodb.core.query.UpdateDefinition;
+import org.springframework.test.util.ReflectionTestUtils;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class ChangeStreamRoundInfoFeedTest {
+    private static final String TOKEN_JSON = "{\"_data\": \"8263A1\"}";
+
+    @Mock
+    private ReactiveMongoTemplate reactiveMongoTemplate;
+
+    @Mock
+    private RoundInfoStore roundInfoStore;
+
+    @Mock
+    private ReactiveChangeStreamOperation.ReactiveChangeStream<RoundInfo> changeStream;
+
+    @Mock
+    private ReactiveChangeStreamOperation.ChangeStreamWithFilterAndProjection<RoundInfo> insertStream;
+
+    @Mock
+    private ReactiveChangeStreamOperation.TerminatingChangeStream<RoundInfo> resumedStream;
+
+    private ChangeStreamRoundInfoFeed changeStreamRoundInfoFeed;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(reactiveMongoTemplate.changeStream(RoundInfo.class)).thenReturn(changeStream);
+        lenient().when(changeStream.watchCollection(RoundInfoStore.HISTORY_COLLECTION)).thenReturn(insertStream);
+        lenient().when(insertStream.filter(any(CriteriaDefinition.class))).thenReturn(insertStream);
+        lenient().when(insertStream.resumeAfter(any())).thenReturn(resumedStream);
+
+        changeStreamRoundInfoFeed = new ChangeStreamRoundInfoFeed(reactiveMongoTemplate, roundInfoStore);
+        // 테스트에서는 종료 시점 저장만 확인
+        ReflectionTestUtils.setField(changeStreamRoundInfoFeed, "tokenSaveMs", 60_000L);
+        ReflectionTestUtils.setField(changeStreamRoundInfoFeed, "maxBackoffMs", 1000L);
+    }
+
+    @AfterEach
+    void tearDown() {
+        changeStreamRoundInfoFeed.stop();
+    }
+
+    @Test
+    @DisplayName("저장된 resume token이 있으면 그 위치부터 이어서 읽는다")
+    void testResumeFromSavedToken() {
+        // Given
+        givenSavedToken();
+        when(resumedStream.listen()).thenReturn(Flux.never());
+
+        // When
+        changeStreamRoundInfoFeed.start();
+
+        // Then
+        verify(insertStream, timeout(1000)).resumeAfter(BsonDocument.parse(TOKEN_JSON));
+        verify(insertStream, never()).listen();
+    }
+
+    @Test
+    @DisplayName("마지막으로 처리한 변경의 resume token을 종료 시 저장한다")
+    void testSaveTokenOnStop() {
+        // Given
+        givenNoSavedToken();
+        ChangeStreamEvent<RoundInfo> event = changeEvent(BsonDocument.parse(TOKEN_JSON));
+        when(insertStream.listen()).thenReturn(Flux.concat(Flux.just(event), Flux.never()));
+        when(reactiveMongoTemplate.upsert(any(Query.class), any(UpdateDefinition.class), anyString()))
+                .thenReturn(Mono.just(UpdateResult.acknowledged(1, 1L, null)));
+        changeStreamRoundInfoFeed.start();
+        verify(event, timeout(1000)).getBody();
+
+        // When
+        changeStreamRoundInfoFeed.stop();
+
+        // Then
+        ArgumentCaptor<UpdateDefinition> update = ArgumentCaptor.forClass(UpdateDefinition.class);
+        verify(reactiveMongoTemplate).upsert(any(Query.class), update.capture(),
+                eq(ChangeStreamRoundInfoFeed.RESUME_TOKEN_COLLECTION));
+        Document set = (Document) ((Update) update.getValue()).getUpdateObject().get("$set");
+        assertThat(BsonDocument.parse(set.getString("token"))).isEqualTo(BsonDocument.parse(TOKEN_JSON));
+    }
+
+    @Test
+    @DisplayName("resume token 위치가 oplog에서 지워졌으면(286) 현재 시점부터 다시 읽고 지난 token은 저장하지 않는다")
+    void testRestartWhenHistoryLost() {
+        // Given
+        givenSavedToken();
+        when(resumedStream.listen()).thenReturn(Flux.error(new MongoException(286, "ChangeStreamHistoryLost")));
+        when(insertStream.listen()).thenReturn(Flux.never());
+
+        // When
+        changeStreamRoundInfoFeed.start();
+
+        // Then
+        verify(insertStream, timeout(1000)).listen();
+        changeStreamRoundInfoFeed.stop();
+        verify(reactiveMongoTemplate, never()).upsert(any(Query.class), any(UpdateDefinition.class), anyString());
+    }
+
+    private void givenSavedToken() {
+        when(reactiveMongoTemplate.findById(RoundInfoStore.HISTORY_COLLECTION, Document.class,
+                ChangeStreamRoundInfoFeed.RESUME_TOKEN_COLLECTION))
+                .thenReturn(Mono.just(new Document("token", TOKEN_JSON)));
+    }
+
+    private void givenNoSavedToken() {
+        when(reactiveMongoTemplate.findById(RoundInfoStore.HISTORY_COLLECTION, Document.class,
+                ChangeStreamRoundInfoFeed.RESUME_TOKEN_COLLECTION))
+                .thenReturn(Mono.empty());
+    }
+
+    @SuppressWarnings("unchecked")
+    private ChangeStreamEvent<RoundInfo> changeEvent(BsonDocument resumeToken) {
+        ChangeStreamEvent<RoundInfo> event = mock(ChangeStreamEvent.class);
+        when(event.getResumeToken()).thenReturn(resumeToken);
+        when(event.getBody()).thenReturn(RoundInfo.builder().auctionUuid("test-uuid").round(1).sequence(2).build());
+        return event;
+    }
+}
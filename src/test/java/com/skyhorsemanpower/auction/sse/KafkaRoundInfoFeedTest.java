@@ -0,0 +1,81 @@
+package com.skyhorsemanpower.auction.sse;
+
+import com.skyhorsemanpower.auction.data.vo.RoundInfoResponseVo;
+import com.skyhorsemanpower.auction.domain.RoundInfo;
+import com.skyhorsemanpower.auction.kafka.KafkaProducerCluster;
+import com.skyhorsemanpower.auction.kafka.Topics;
+import com.skyhorsemanpower.auction.kafka.data.dto.RoundStateDto;
+import com.skyhorsemanpower.auction.round.RoundInfoStore;
+import com.skyhorsemanpower.auction.round.data.RoundInfoChangedEvent;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class KafkaRoundInfoFeedTest {
+
+    @Mock
+    private KafkaProducerCluster kafkaProducerCluster;
+
+    @Mock
+    private RoundInfoStore roundInfoStore;
+
+    @InjectMocks
+    private KafkaRoundInfoFeed kafkaRoundInfoFeed;
+
+    @Test
+    @DisplayName("저장된 라운드 정보는 auctionUuid 키로 라운드 정보 topic에 발행한다")
+    void testPublishRoundInfo() {
+        // When
+        kafkaRoundInfoFeed.onRoundInfoChanged(new RoundInfoChangedEvent(roundInfo(3)));
+
+        // Then
+        ArgumentCaptor<Object> message = ArgumentCaptor.forClass(Object.class);
+        verify(kafkaProducerCluster).sendMessage(eq(Topics.Constant.ROUND_STATE), eq("test-uuid"), message.capture());
+        assertThat(message.getValue()).isInstanceOf(RoundStateDto.class);
+        assertThat(((RoundStateDto) message.getValue()).getSequence()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("받은 라운드 정보는 현재 값 이후 변경만 구독자에게 전달한다")
+    void testDispatchToWatcher() {
+        // Given
+        when(roundInfoStore.findCurrentReactive("test-uuid")).thenReturn(Mono.just(roundInfo(2)));
+        List<RoundInfoResponseVo> received = new CopyOnWriteArrayList<>();
+        Disposable subscription = kafkaRoundInfoFeed.watch("test-uuid").subscribe(received::add);
+
+        // When
+        kafkaRoundInfoFeed.roundState(RoundStateDto.of(roundInfo(2)));
+        kafkaRoundInfoFeed.roundState(RoundStateDto.of(roundInfo(3)));
+
+        // Then
+        assertThat(received).extracting(RoundInfoResponseVo::getSequence).containsExactly(2L, 3L);
+
+        subscription.dispose();
+    }
+
+    private RoundInfo roundInfo(long sequence) {
+        return RoundInfo.builder()
+                .auctionUuid("test-uuid")
+                .round(1)
+                .isActive(true)
+                .numberOfParticipants(5)
+                .leftNumberOfParticipants(5)
+                .sequence(sequence)
+                .build();
+    }
+}
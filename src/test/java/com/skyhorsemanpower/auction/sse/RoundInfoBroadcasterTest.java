@@ -0,0 +1,121 @@
+package com.skyhorsemanpower.auction.sse;
+
+import com.skyhorsemanpower.auction.data.vo.RoundInfoResponseVo;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import reactor.core.Disposable;
+import reactor.core.publisher.Sinks;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class RoundInfoBroadcasterTest {
+
+    @Mock
+    private RoundInfoFeed roundInfoFeed;
+
+    private RoundInfoBroadcaster roundInfoBroadcaster;
+    private Sinks.Many<RoundInfoResponseVo> feed;
+
+    @BeforeEach
+    void setUp() {
+        roundInfoBroadcaster = new RoundInfoBroadcaster(roundInfoFeed, new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(roundInfoBroadcaster, "replaySize", 2);
+        roundInfoBroadcaster.init();
+        feed = Sinks.many().multicast().directBestEffort();
+        when(roundInfoFeed.watch("test-uuid")).thenReturn(feed.asFlux());
+    }
+
+    @Test
+    @DisplayName("같은 경매의 구독자는 하나의 upstream을 공유하고 마지막 값을 바로 받는다")
+    void testSharedUpstream() {
+        // Given
+        List<RoundInfoResponseVo> first = new CopyOnWriteArrayList<>();
+        List<RoundInfoResponseVo> second = new CopyOnWriteArrayList<>();
+        Disposable firstSubscription = roundInfoBroadcaster.subscribe("test-uuid").subscribe(first::add);
+
+        // When
+        feed.tryEmitNext(RoundInfoResponseVo.builder().round(1).build());
+        Disposable secondSubscription = roundInfoBroadcaster.subscribe("test-uuid").subscribe(second::add);
+
+        // Then
+        assertThat(second).extracting(RoundInfoResponseVo::getRound).containsExactly(1);
+        assertThat(roundInfoBroadcaster.upstreamCount()).isEqualTo(1);
+        assertThat(roundInfoBroadcaster.subscriberCount()).isEqualTo(2);
+        verify(roundInfoFeed, times(1)).watch("test-uuid");
+
+        firstSubscription.dispose();
+        secondSubscription.dispose();
+    }
+
+    @Test
+    @DisplayName("마지막 구독자가 떠나면 upstream을 닫는다")
+    void testReleaseUpstream() {
+        // Given
+        Disposable subscription = roundInfoBroadcaster.subscribe("test-uuid").subscribe();
+
+        // When
+        subscription.dispose();
+
+        // Then
+        assertThat(roundInfoBroadcaster.upstreamCount()).isZero();
+        assertThat(roundInfoBroadcaster.subscriberCount()).isZero();
+        assertThat(feed.currentSubscriberCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("Last-Event-ID로 재연결하면 놓친 이벤트만 받는다")
+    void testResumeFromLastEventId() {
+        // Given
+        Disposable viewer = roundInfoBroadcaster.subscribe("test-uuid").subscribe();
+        feed.tryEmitNext(roundInfo(1L));
+        feed.tryEmitNext(roundInfo(2L));
+        feed.tryEmitNext(roundInfo(3L));
+        List<RoundInfoResponseVo> received = new CopyOnWriteArrayList<>();
+
+        // When
+        Disposable resumed = roundInfoBroadcaster.subscribe("test-uuid", 2L).subscribe(received::add);
+
+        // Then
+        assertThat(received).extracting(RoundInfoResponseVo::getSequence).containsExactly(3L);
+
+        viewer.dispose();
+        resumed.dispose();
+    }
+
+    @Test
+    @DisplayName("replay 버퍼보다 오래 끊겼으면 마지막 값 하나만 받는다")
+    void testSnapshotWhenTooFarBehind() {
+        // Given
+        Disposable viewer = roundInfoBroadcaster.subscribe("test-uuid").subscribe();
+        for (long sequence = 1; sequence <= 5; sequence++) {
+            feed.tryEmitNext(roundInfo(sequence));
+        }
+        List<RoundInfoResponseVo> received = new CopyOnWriteArrayList<>();
+
+        // When
+        Disposable resumed = roundInfoBroadcaster.subscribe("test-uuid", 1L).subscribe(received::add);
+
+        // Then
+        assertThat(received).extracting(RoundInfoResponseVo::getSequence).containsExactly(5L);
+
+        viewer.dispose();
+        resumed.dispose();
+    }
+
+    private RoundInfoResponseVo roundInfo(Long sequence) {
+        return RoundInfoResponseVo.builder().round(1).sequence(sequence).build();
+    }
+}
@@ -0,0 +1,75 @@
+package com.skyhorsemanpower.auction.sse;
+
+import com.skyhorsemanpower.auction.common.Money;
+import com.skyhorsemanpower.auction.data.vo.RoundInfoResponseVo;
+import com.skyhorsemanpower.auction.domain.RoundInfo;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class RoundInfoDemultiplexerTest {
+
+    @Test
+    @DisplayName("변경은 같은 경매를 구독한 채널에만 전달된다")
+    void testDispatchByAuctionUuid() {
+        // Given
+        RoundInfoDemultiplexer demultiplexer = new RoundInfoDemultiplexer();
+        List<RoundInfo> received = new ArrayList<>();
+        Disposable subscription = demultiplexer.channel("auction-1").subscribe(received::add);
+
+        // When
+        demultiplexer.dispatch(RoundInfo.builder().auctionUuid("auction-1").round(1).build());
+        demultiplexer.dispatch(RoundInfo.builder().auctionUuid("auction-2").round(1).build());
+
+        // Then
+        assertThat(received).extracting(RoundInfo::getAuctionUuid).containsExactly("auction-1");
+
+        subscription.dispose();
+        assertThat(demultiplexer.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("현재 라운드 정보보다 sequence가 크지 않은 변경은 다시 내보내지 않는다")
+    void testWatchSkipsAppliedSequence() {
+        // Given, 같은 시각에 저장된 변경도 sequence로 구분
+        RoundInfoDemultiplexer demultiplexer = new RoundInfoDemultiplexer();
+        LocalDateTime createdAt = LocalDateTime.now();
+        List<RoundInfoResponseVo> received = new ArrayList<>();
+        Disposable subscription = demultiplexer.watch("auction-1", Mono.just(roundInfo(2, 5, createdAt)))
+                .subscribe(received::add);
+
+        // When
+        demultiplexer.dispatch(roundInfo(2, 5, createdAt));
+        demultiplexer.dispatch(roundInfo(3, 4, createdAt));
+        demultiplexer.dispatch(roundInfo(1, 5, createdAt.plusSeconds(1)));
+
+        // Then
+        assertThat(received).extracting(RoundInfoResponseVo::getSequence).containsExactly(2L, 3L);
+
+        subscription.dispose();
+    }
+
+    private RoundInfo roundInfo(long sequence, int leftNumberOfParticipants, LocalDateTime createdAt) {
+        return RoundInfo.builder()
+                .auctionUuid("auction-1")
+                .round(1)
+                .roundStartTime(createdAt)
+                .roundEndTime(createdAt.plusSeconds(60))
+                .incrementUnit(Money.of(100))
+                .price(Money.of(1000))
+                .isActive(true)
+                .numberOfParticipants(5)
+                .leftNumberOfParticipants(leftNumberOfParticipants)
+                .createdAt(createdAt)
+                .isLastRound(false)
+                .sequence(sequence)
+                .build();
+    }
+}
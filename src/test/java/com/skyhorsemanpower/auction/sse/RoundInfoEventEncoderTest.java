@@ -0,0 +1,63 @@
+package com.skyhorsemanpower.auction.sse;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.skyhorsemanpower.auction.common.Money;
+import com.skyhorsemanpower.auction.data.vo.RoundInfoResponseVo;
+import com.skyhorsemanpower.auction.status.SseEncodingEnum;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.codec.ServerSentEvent;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class RoundInfoEventEncoderTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    @Test
+    @DisplayName("DELTA 형식은 snapshot 이후 바뀐 필드만 보내고 주기적으로 snapshot을 보낸다")
+    void testDeltaEncoding() {
+        // Given
+        RoundInfoEventEncoder encoder = new RoundInfoEventEncoder(SseEncodingEnum.DELTA, 1, objectMapper);
+
+        // When
+        ServerSentEvent<Object> first = encoder.encode(roundInfo(5L, 1L));
+        ServerSentEvent<Object> second = encoder.encode(roundInfo(4L, 2L));
+        ServerSentEvent<Object> third = encoder.encode(roundInfo(3L, 3L));
+
+        // Then
+        assertThat(first.event()).isEqualTo(RoundInfoEventEncoder.SNAPSHOT_EVENT);
+        assertThat(second.event()).isEqualTo(RoundInfoEventEncoder.DELTA_EVENT);
+        assertThat(second.data()).isEqualTo("{\"leftNumberOfParticipants\":4}");
+        assertThat(second.id()).isEqualTo("2");
+        assertThat(third.event()).isEqualTo(RoundInfoEventEncoder.SNAPSHOT_EVENT);
+    }
+
+    @Test
+    @DisplayName("FULL 형식은 라운드 정보 전체를 그대로 보낸다")
+    void testFullEncoding() throws Exception {
+        // Given
+        RoundInfoEventEncoder encoder = new RoundInfoEventEncoder(SseEncodingEnum.FULL, 1, objectMapper);
+        RoundInfoResponseVo roundInfoResponseVo = roundInfo(5L, 1L);
+
+        // When
+        ServerSentEvent<Object> event = encoder.encode(roundInfoResponseVo);
+
+        // Then
+        assertThat(event.event()).isNull();
+        assertThat(event.data()).isEqualTo(objectMapper.writeValueAsString(roundInfoResponseVo));
+    }
+
+    private RoundInfoResponseVo roundInfo(Long leftNumberOfParticipants, Long sequence) {
+        return RoundInfoResponseVo.builder()
+                .round(1)
+                .price(Money.of(1000))
+                .incrementUnit(Money.of(100))
+                .isActive(true)
+                .numberOfParticipants(5L)
+                .leftNumberOfParticipants(leftNumberOfParticipants)
+                .endStatus(false)
+                .sequence(sequence)
+                .build();
+    }
+}
@@ -0,0 +1,138 @@
+package com.skyhorsemanpower.auction.sse;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.skyhorsemanpower.auction.common.exception.CustomException;
+import com.skyhorsemanpower.auction.common.exception.ResponseStatus;
+import com.skyhorsemanpower.auction.data.vo.RoundInfoResponseVo;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.test.util.ReflectionTestUtils;
+import reactor.core.Disposable;
+import reactor.core.publisher.Sinks;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.lenient;
+
+@ExtendWith(MockitoExtension.class)
+public class RoundInfoMultiplexerTest {
+
+    @Mock
+    private RoundInfoFeed roundInfoFeed;
+
+    @Mock
+    private SseHeartbeatScheduler sseHeartbeatScheduler;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+    private SseConnectionRegistry sseConnectionRegistry;
+    private RoundInfoBroadcaster roundInfoBroadcaster;
+    private RoundInfoMultiplexer roundInfoMultiplexer;
+    private Sinks.Many<RoundInfoResponseVo> firstFeed;
+    private Sinks.Many<RoundInfoResponseVo> secondFeed;
+
+    @BeforeEach
+    void setUp() {
+        sseConnectionRegistry = new SseConnectionRegistry(sseHeartbeatScheduler, new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(sseConnectionRegistry, "maxConnections", 10);
+        ReflectionTestUtils.setField(sseConnectionRegistry, "maxPerAuction", 10);
+        ReflectionTestUtils.setField(sseConnectionRegistry, "maxPerUser", 10);
+        ReflectionTestUtils.setField(sseConnectionRegistry, "sweepMs", 60_000L);
+        sseConnectionRegistry.init();
+        sseConnectionRegistry.start();
+
+        roundInfoBroadcaster = new RoundInfoBroadcaster(roundInfoFeed, new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(roundInfoBroadcaster, "replaySize", 2);
+        roundInfoBroadcaster.init();
+
+        roundInfoMultiplexer = new RoundInfoMultiplexer(roundInfoBroadcaster, sseConnectionRegistry, objectMapper);
+        ReflectionTestUtils.setField(roundInfoMultiplexer, "maxAuctions", 2);
+
+        firstFeed = Sinks.many().multicast().directBestEffort();
+        secondFeed = Sinks.many().multicast().directBestEffort();
+        lenient().when(roundInfoFeed.watch("first-uuid")).thenReturn(firstFeed.asFlux());
+        lenient().when(roundInfoFeed.watch("second-uuid")).thenReturn(secondFeed.asFlux());
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (sseConnectionRegistry.isRunning()) sseConnectionRegistry.stop();
+    }
+
+    @Test
+    @DisplayName("재연결 없이 구독 경매를 바꾸면 빠진 경매의 upstream을 놓고 새 경매 이벤트를 받는다")
+    void testUpdateSubscription() throws Exception {
+        // Given
+        List<ServerSentEvent<Object>> received = new CopyOnWriteArrayList<>();
+        Disposable subscription = roundInfoMultiplexer.open(List.of("first-uuid"), "member-1")
+                .subscribe(received::add);
+        String connectionId = objectMapper.readTree((String) received.get(0).data()).get("connectionId").asText();
+        firstFeed.tryEmitNext(RoundInfoResponseVo.builder().round(1).build());
+
+        // When
+        roundInfoMultiplexer.update(connectionId, "member-1", List.of("second-uuid"));
+        secondFeed.tryEmitNext(RoundInfoResponseVo.builder().round(2).build());
+
+        // Then
+        assertThat(received).extracting(ServerSentEvent::event)
+                .containsExactly(RoundInfoMultiplexer.CONNECTION_EVENT, RoundInfoMultiplexer.ROUND_EVENT,
+                        RoundInfoMultiplexer.ROUND_EVENT);
+        assertThat(objectMapper.readTree((String) received.get(2).data()).get("auctionUuid").asText())
+                .isEqualTo("second-uuid");
+        assertThat(firstFeed.currentSubscriberCount()).isZero();
+        assertThat(roundInfoBroadcaster.upstreamCount()).isEqualTo(1);
+
+        subscription.dispose();
+        assertThat(roundInfoBroadcaster.upstreamCount()).isZero();
+        assertThat(sseConnectionRegistry.connectionCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("연결을 연 사용자가 아니면 구독 경매를 바꿀 수 없다")
+    void testUpdateByOtherUser() throws Exception {
+        // Given
+        List<ServerSentEvent<Object>> received = new CopyOnWriteArrayList<>();
+        Disposable subscription = roundInfoMultiplexer.open(List.of("first-uuid"), "member-1")
+                .subscribe(received::add);
+        String connectionId = objectMapper.readTree((String) received.get(0).data()).get("connectionId").asText();
+
+        // When, Then
+        assertThatThrownBy(() -> roundInfoMultiplexer.update(connectionId, "member-2", List.of("second-uuid")))
+                .isInstanceOf(CustomException.class)
+                .extracting("responseStatus").isEqualTo(ResponseStatus.NOT_CONNECTION_OWNER);
+        assertThatThrownBy(() -> roundInfoMultiplexer.update(connectionId, null, List.of("second-uuid")))
+                .isInstanceOf(CustomException.class)
+                .extracting("responseStatus").isEqualTo(ResponseStatus.NOT_CONNECTION_OWNER);
+        assertThat(secondFeed.currentSubscriberCount()).isZero();
+
+        subscription.dispose();
+    }
+
+    @Test
+    @DisplayName("구독되지 않은 스트림은 연결 수를 차지하지 않는다")
+    void testNotSubscribed() {
+        // When
+        roundInfoMultiplexer.open(List.of("first-uuid"), "member-1");
+
+        // Then
+        assertThat(sseConnectionRegistry.connectionCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("한 연결로 구독할 수 있는 경매 수를 넘으면 거절한다")
+    void testTooManyAuctions() {
+        // When, Then
+        assertThatThrownBy(() -> roundInfoMultiplexer.open(List.of("a", "b", "c"), null))
+                .isInstanceOf(CustomException.class);
+        assertThat(sseConnectionRegistry.connectionCount()).isZero();
+    }
+}
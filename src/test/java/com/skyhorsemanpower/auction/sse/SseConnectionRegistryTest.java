@@ -0,0 +1,162 @@
+package com.skyhorsemanpower.auction.sse;
+
+import com.skyhorsemanpower.auction.common.exception.CustomException;
+import com.skyhorsemanpower.auction.common.exception.RetryableException;
+import com.skyhorsemanpower.auction.data.vo.RoundInfoResponseVo;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.reactivestreams.Subscription;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.test.util.ReflectionTestUtils;
+import reactor.core.publisher.BaseSubscriber;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Sinks;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class SseConnectionRegistryTest {
+
+    @Mock
+    private SseHeartbeatScheduler sseHeartbeatScheduler;
+
+    @Mock
+    private RoundInfoFeed roundInfoFeed;
+
+    private SseConnectionRegistry sseConnectionRegistry;
+
+    @BeforeEach
+    void setUp() {
+        sseConnectionRegistry = new SseConnectionRegistry(sseHeartbeatScheduler, new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(sseConnectionRegistry, "maxConnections", 10);
+        ReflectionTestUtils.setField(sseConnectionRegistry, "maxPerAuction", 10);
+        ReflectionTestUtils.setField(sseConnectionRegistry, "maxPerUser", 1);
+        ReflectionTestUtils.setField(sseConnectionRegistry, "maxPendingBytes", 64L);
+        ReflectionTestUtils.setField(sseConnectionRegistry, "stallTimeoutMs", 60_000L);
+        ReflectionTestUtils.setField(sseConnectionRegistry, "sweepMs", 60_000L);
+        ReflectionTestUtils.setField(sseConnectionRegistry, "drainRetryMs", 1000L);
+        sseConnectionRegistry.init();
+        sseConnectionRegistry.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (sseConnectionRegistry.isRunning()) sseConnectionRegistry.stop();
+    }
+
+    @Test
+    @DisplayName("사용자별 최대 연결 수를 넘으면 거절하고, 연결이 끝나면 다시 받는다")
+    void testPerUserLimit() {
+        // Given
+        SseConnection connection = sseConnectionRegistry.open("test-uuid", "member-1");
+
+        // When, Then
+        assertThatThrownBy(() -> sseConnectionRegistry.open("test-uuid", "member-1"))
+                .isInstanceOf(CustomException.class);
+        assertThat(sseConnectionRegistry.connectionsPerAuction()).containsEntry("test-uuid", 1);
+
+        sseConnectionRegistry.close(connection);
+        assertThat(sseConnectionRegistry.open("test-uuid", "member-1")).isNotNull();
+    }
+
+    @Test
+    @DisplayName("전송 대기 바이트가 기준을 넘은 연결은 끊는다")
+    void testEvictSlowConsumer() {
+        // Given
+        SseConnection connection = sseConnectionRegistry.open("test-uuid", null);
+        AtomicBoolean completed = new AtomicBoolean();
+        connection.attach(Flux.just(ServerSentEvent.builder((Object) "x".repeat(100)).build()))
+                .doFinally(signalType -> sseConnectionRegistry.close(connection))
+                .subscribe(new BaseSubscriber<>() {
+                    @Override
+                    protected void hookOnSubscribe(Subscription subscription) {
+                        // 첫 이벤트 이후 쓰기가 끝나지 않는 클라이언트
+                        request(1);
+                    }
+
+                    @Override
+                    protected void hookOnComplete() {
+                        completed.set(true);
+                    }
+                });
+
+        // When
+        sseConnectionRegistry.sweep();
+
+        // Then
+        assertThat(completed).isTrue();
+        assertThat(sseConnectionRegistry.connectionCount()).isZero();
+        assertThat(sseConnectionRegistry.evictions()).containsEntry("pendingBytes", 1.0);
+    }
+
+    @Test
+    @DisplayName("쓰기가 느린 연결은 끊기지 않고 밀린 중간 상태를 건너뛰어 최신 라운드 정보만 받는다")
+    void testConflateSlowConnection() {
+        // Given
+        Sinks.Many<RoundInfoResponseVo> feed = Sinks.many().multicast().directBestEffort();
+        when(roundInfoFeed.watch("test-uuid")).thenReturn(feed.asFlux());
+        RoundInfoBroadcaster roundInfoBroadcaster = new RoundInfoBroadcaster(roundInfoFeed, new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(roundInfoBroadcaster, "replaySize", 2);
+        roundInfoBroadcaster.init();
+        List<Integer> encoded = new CopyOnWriteArrayList<>();
+        List<Object> received = new CopyOnWriteArrayList<>();
+
+        SseConnection connection = sseConnectionRegistry.open("test-uuid", null);
+        BaseSubscriber<ServerSentEvent<Object>> client = new BaseSubscriber<>() {
+            @Override
+            protected void hookOnSubscribe(Subscription subscription) {
+                // 첫 이벤트 이후 쓰기가 끝나지 않는 클라이언트
+                request(1);
+            }
+
+            @Override
+            protected void hookOnNext(ServerSentEvent<Object> event) {
+                received.add(event.data());
+            }
+        };
+        connection.attach(roundInfoBroadcaster.subscribe("test-uuid")
+                        .doOnNext(roundInfoResponseVo -> encoded.add(roundInfoResponseVo.getRound()))
+                        .map(roundInfoResponseVo -> ServerSentEvent.builder((Object) String.valueOf(
+                                roundInfoResponseVo.getRound())).build()))
+                .subscribe(client);
+
+        // When, 한 건씩 쓰는 동안 라운드 정보가 계속 바뀐다.
+        for (int round = 1; round <= 10; round++) {
+            feed.tryEmitNext(RoundInfoResponseVo.builder().round(round).build());
+        }
+        client.request(1);
+        client.request(1);
+
+        // Then, 쓰기 전에 미리 받은 1개 이후로는 최신 상태만 인코딩해서 보낸다.
+        assertThat(received).containsExactly("1", "2", "10");
+        assertThat(encoded).containsExactly(1, 2, 10);
+        assertThat(sseConnectionRegistry.connectionCount()).isEqualTo(1);
+        assertThat(connection.pendingBytes()).isLessThan(64L);
+
+        client.dispose();
+        sseConnectionRegistry.close(connection);
+    }
+
+    @Test
+    @DisplayName("종료 중에는 새 연결을 받지 않는다")
+    void testRejectWhileDraining() {
+        // When
+        sseConnectionRegistry.stop();
+
+        // Then
+        assertThatThrownBy(() -> sseConnectionRegistry.open("test-uuid", null))
+                .isInstanceOf(RetryableException.class);
+    }
+}
@@ -0,0 +1,77 @@
+package com.skyhorsemanpower.auction.sse;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.test.util.ReflectionTestUtils;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class SseHeartbeatSchedulerTest {
+
+    private SseHeartbeatScheduler sseHeartbeatScheduler;
+
+    @BeforeEach
+    void setUp() {
+        sseHeartbeatScheduler = new SseHeartbeatScheduler();
+        ReflectionTestUtils.setField(sseHeartbeatScheduler, "intervalMs", 0L);
+        ReflectionTestUtils.setField(sseHeartbeatScheduler, "wheelSize", 2);
+        sseHeartbeatScheduler.start();
+        // tick은 테스트에서 직접 호출
+        sseHeartbeatScheduler.stop();
+    }
+
+    @AfterEach
+    void tearDown() {
+        sseHeartbeatScheduler.stop();
+    }
+
+    @Test
+    @DisplayName("한 바퀴 동안 이벤트가 없던 연결에 미리 만든 heartbeat를 보낸다")
+    void testHeartbeat() {
+        // Given
+        List<ServerSentEvent<Object>> received = new ArrayList<>();
+        SseConnection connection = new SseConnection("test-uuid", null);
+        sseHeartbeatScheduler.register(connection);
+        Disposable subscription = connection.attach(Flux.never()).subscribe(received::add);
+
+        // When
+        sseHeartbeatScheduler.tick();
+        sseHeartbeatScheduler.tick();
+
+        // Then
+        assertThat(received).containsExactly(SseHeartbeatScheduler.HEARTBEAT);
+
+        subscription.dispose();
+        sseHeartbeatScheduler.unregister(connection);
+        assertThat(sseHeartbeatScheduler.connectionCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("interval 안에 이벤트를 보낸 연결은 건너뛴다")
+    void testSkipActiveConnection() {
+        // Given
+        ReflectionTestUtils.setField(sseHeartbeatScheduler, "intervalMs", 60_000L);
+        List<ServerSentEvent<Object>> received = new ArrayList<>();
+        SseConnection connection = new SseConnection("test-uuid", null);
+        sseHeartbeatScheduler.register(connection);
+        Disposable subscription = connection.attach(Flux.just(ServerSentEvent.builder((Object) "data").build()))
+                .subscribe(received::add);
+
+        // When
+        sseHeartbeatScheduler.tick();
+        sseHeartbeatScheduler.tick();
+
+        // Then
+        assertThat(received).extracting(ServerSentEvent::data).containsExactly("data");
+
+        subscription.dispose();
+    }
+}